@@ -1,6 +1,7 @@
 plugins {
     id("java")
     id("java-library")
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "me.kythera"
@@ -16,6 +17,14 @@ java {
 
 }
 
+// A headless match against a fake server; see dev.royalcore.simulation.MatchSimulation.
+val simulation: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[simulation.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+
 repositories {
     mavenCentral()
     maven("https://repo.papermc.io/repository/maven-public/")
@@ -32,4 +41,67 @@ dependencies {
 
     implementation("net.sandrohc:schematic4j:1.1.0")
 
-}
\ No newline at end of file
+    jmhImplementation("io.papermc.paper:paper-api:1.21.10-R0.1-SNAPSHOT")
+    jmhRuntimeOnly("org.xerial:sqlite-jdbc:3.46.1.3")
+
+    "simulationImplementation"("io.papermc.paper:paper-api:1.21.10-R0.1-SNAPSHOT")
+
+}
+
+// Benchmarks live in src/jmh/java; run them with ./gradlew jmh.
+// Results are written as JSON so they can be compared across commits.
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+}
+
+// Plays a full match headlessly and prints per-tick timings, e.g.
+// ./gradlew simulate -Pplayers=200 -Pscenarios=16 -Pticks=24000 -Pseed=7
+tasks.register<JavaExec>("simulate") {
+    group = "verification"
+    description = "Plays a simulated battle royale against a fake server and reports tick costs."
+    classpath = simulation.runtimeClasspath
+    mainClass.set("dev.royalcore.simulation.MatchSimulation")
+    args(
+        "--players=" + providers.gradleProperty("players").getOrElse("100"),
+        "--scenarios=" + providers.gradleProperty("scenarios").getOrElse("8"),
+        "--ticks=" + providers.gradleProperty("ticks").getOrElse("12000"),
+        "--seed=" + providers.gradleProperty("seed").getOrElse("1")
+    )
+}
+
+// A short, small match that fails the build if a listener throws or the battle royale does not end.
+val simulateSmoke = tasks.register<JavaExec>("simulateSmoke") {
+    group = "verification"
+    description = "Plays a small simulated battle royale and fails unless it ends cleanly."
+    classpath = simulation.runtimeClasspath
+    mainClass.set("dev.royalcore.simulation.MatchSimulation")
+    args("--players=8", "--scenarios=2", "--ticks=1200", "--seed=1")
+}
+
+tasks.check {
+    dependsOn(simulateSmoke)
+}
+
+// Replays a recording made with /royalecore record into listeners offline, e.g.
+// ./gradlew replay -Precording=plugins/RoyaleCore/recordings/events-20260101-120000.rcev -Plisteners=com.example.MyListener -Pplugin=build/libs/MyPlugin.jar
+// Listeners from other plugins are loaded from -Pplugin=<jar> and -PextraClasspath=<paths separated by the path separator>.
+tasks.register<JavaExec>("replay") {
+    group = "verification"
+    description = "Replays a recorded event stream into listeners and reports handler throughput and latency."
+    classpath = simulation.runtimeClasspath + files(
+        listOfNotNull(providers.gradleProperty("plugin").orNull) +
+            providers.gradleProperty("extraClasspath").getOrElse("").split(File.pathSeparator).filter(String::isNotBlank)
+    )
+    mainClass.set("dev.royalcore.simulation.EventReplay")
+    args(
+        "--recording=" + providers.gradleProperty("recording").getOrElse(""),
+        "--listeners=" + providers.gradleProperty("listeners").getOrElse(""),
+        "--warmup=" + providers.gradleProperty("warmup").getOrElse("2"),
+        "--iterations=" + providers.gradleProperty("iterations").getOrElse("5")
+    )
+}
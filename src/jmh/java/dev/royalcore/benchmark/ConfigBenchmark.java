@@ -0,0 +1,71 @@
+package dev.royalcore.benchmark;
+
+import dev.royalcore.api.data.Config;
+import dev.royalcore.api.data.Field;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Config} lookups by name and by slot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConfigBenchmark {
+
+    @Param({"16", "1024"})
+    public int fields;
+
+    private Config config;
+    private String[] names;
+    private int[] slots;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path directory = Files.createTempDirectory("royalecore-config-bench");
+        directory.toFile().deleteOnExit();
+
+        config = new Config("bench", directory);
+        names = new String[fields];
+        slots = new int[fields];
+        for (int i = 0; i < fields; i++) {
+            names[i] = "settings.field-" + i;
+            config.addField(new Field<>(names[i], i));
+            slots[i] = config.slot(names[i]);
+        }
+    }
+
+    @Benchmark
+    public int getIntByName() {
+        return config.getInt(names[nextIndex()], -1);
+    }
+
+    @Benchmark
+    public int getIntBySlot() {
+        return config.getInt(slots[nextIndex()]);
+    }
+
+    @Benchmark
+    public String getStringByName() {
+        return config.getString(names[nextIndex()], "");
+    }
+
+    private int nextIndex() {
+        int index = next;
+        next = index + 1 == fields ? 0 : index + 1;
+        return index;
+    }
+
+}
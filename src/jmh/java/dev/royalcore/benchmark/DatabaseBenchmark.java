@@ -0,0 +1,78 @@
+package dev.royalcore.benchmark;
+
+import dev.royalcore.api.data.Database;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Database} write and read throughput against a SQLite file in a temporary directory.
+ * <p>
+ * Each operation waits for its future, so the numbers include the hand-off to the database thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DatabaseBenchmark {
+
+    private static final int KEYS = 1024;
+
+    private Path directory;
+    private Database database;
+    private Database.DatabaseSession session;
+    private String[] keys;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("royalecore-db-bench");
+        database = new Database(directory.resolve("bench.db").toString(), Fakes.PLUGIN);
+        database.connect();
+
+        session = database.use("bench");
+        session.ensureExists().join();
+
+        keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "player-" + i;
+            session.write(keys[i], i).join();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        database.shutdown();
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void write() {
+        session.write(keys[nextIndex()], next).join();
+    }
+
+    @Benchmark
+    public String read() {
+        return session.read(keys[nextIndex()]).join();
+    }
+
+    private int nextIndex() {
+        int index = next;
+        next = index + 1 == KEYS ? 0 : index + 1;
+        return index;
+    }
+
+}
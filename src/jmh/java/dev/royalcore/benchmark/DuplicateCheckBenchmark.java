@@ -0,0 +1,62 @@
+package dev.royalcore.benchmark;
+
+import dev.royalcore.api.engine.NewEngine;
+import dev.royalcore.api.errors.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures the {@link NewEngine} duplicate checks on lists without duplicates, the common case at startup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DuplicateCheckBenchmark {
+
+    @Param({"64", "4096"})
+    public int size;
+
+    private List<String> commands;
+
+    @Setup
+    public void setUp() {
+        commands = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            commands.add("command-" + i + " run");
+        }
+    }
+
+    @Benchmark
+    public Result<Void> checkDupe() {
+        return NewEngine.getEngine().checkDupe(commands, _ -> {
+        });
+    }
+
+    @Benchmark
+    public Result<Void> forEachDupe() {
+        return NewEngine.getEngine().forEachDupe(commands, _ -> {
+        });
+    }
+
+    @Benchmark
+    public Result<Void> checkCommandLiteralDupes() {
+        return NewEngine.getEngine().checkCommandLiteralDupes(commands, firstLiteral(), _ -> {
+        });
+    }
+
+    private static Function<String, String> firstLiteral() {
+        return command -> command.substring(0, command.indexOf(' '));
+    }
+
+}
@@ -0,0 +1,59 @@
+package dev.royalcore.benchmark;
+
+import dev.royalcore.api.br.BattleRoyale;
+import dev.royalcore.api.engine.BattleRoyaleEngine;
+import dev.royalcore.api.enums.ScenarioPriority;
+import dev.royalcore.api.errors.Result;
+import dev.royalcore.api.scenario.Scenario;
+import net.kyori.adventure.text.Component;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BattleRoyaleEngine#register(BattleRoyale)} for battle royales with many scenarios.
+ * <p>
+ * The scenarios carry no listeners, commands or recipes, so the registries do not grow between invocations
+ * and the measurement is dominated by the per-scenario validation loop.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EngineRegisterBenchmark {
+
+    @Param({"8", "128", "1024"})
+    public int scenarios;
+
+    private BattleRoyale battleRoyale;
+
+    @Setup
+    public void setUp() {
+        Fakes.installServer();
+
+        Scenario[] built = new Scenario[scenarios];
+        ScenarioPriority[] priorities = ScenarioPriority.values();
+        for (int i = 0; i < scenarios; i++) {
+            built[i] = Scenario.scenario(Component.text("Scenario " + i))
+                    .priority(priorities[i % priorities.length])
+                    .build();
+        }
+
+        battleRoyale = BattleRoyale.battleroyale(UUID.randomUUID())
+                .withScenarios(built)
+                .build();
+    }
+
+    @Benchmark
+    public Result<Void> register() {
+        return BattleRoyaleEngine.getBattleRoyaleEngine().register(battleRoyale);
+    }
+
+}
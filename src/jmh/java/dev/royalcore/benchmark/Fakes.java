@@ -0,0 +1,129 @@
+package dev.royalcore.benchmark;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.plugin.Plugin;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Minimal stand-ins for the Bukkit objects RoyaleCore touches, so benchmarks run without a server.
+ * <p>
+ * Every fake is a {@link Proxy} that answers the handful of calls the benchmarked code makes and returns a
+ * neutral default (zero, {@code false}, empty string or collection, {@code null}) for everything else.
+ */
+final class Fakes {
+
+    private static final Logger LOGGER = Logger.getLogger("RoyaleCoreBenchmark");
+
+    /**
+     * A world that has no blocks and no players.
+     */
+    static final World WORLD = proxy(World.class, (_, method, _) -> switch (method.getName()) {
+        case "getName" -> "benchmark";
+        default -> null;
+    });
+
+    /**
+     * A parsed block state; benchmarks only care that a non-null value comes back.
+     */
+    static final BlockData BLOCK_DATA = proxy(BlockData.class, (_, _, _) -> null);
+
+    /**
+     * A plugin whose only working method is {@link Plugin#getLogger()}.
+     */
+    static final Plugin PLUGIN = proxy(Plugin.class, (_, method, _) -> switch (method.getName()) {
+        case "getName" -> "RoyaleCoreBenchmark";
+        case "getLogger" -> LOGGER;
+        default -> null;
+    });
+
+    private static final Server SERVER = proxy(Server.class, (_, method, _) -> switch (method.getName()) {
+        case "getName" -> "Benchmark";
+        case "getVersion", "getBukkitVersion", "getMinecraftVersion" -> "benchmark";
+        case "getLogger" -> LOGGER;
+        case "getWorlds" -> List.of(WORLD);
+        case "getOnlinePlayers" -> List.of();
+        default -> null;
+    });
+
+    private Fakes() {
+    }
+
+    /**
+     * Installs the fake server as {@link Bukkit#getServer()} unless a server is already present.
+     * <p>
+     * The static field is set directly, because {@link Bukkit#setServer(Server)} looks up build information
+     * that only exists in a real server jar.
+     */
+    static synchronized void installServer() {
+        if (Bukkit.getServer() != null) {
+            return;
+        }
+        try {
+            Field server = Bukkit.class.getDeclaredField("server");
+            server.setAccessible(true);
+            server.set(null, SERVER);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not install the fake server", e);
+        }
+    }
+
+    /**
+     * Creates a proxy for an interface, answering {@link Object} methods by identity and substituting a neutral
+     * default whenever {@code handler} returns {@code null} for a primitive or collection return type.
+     *
+     * @param type    the interface to implement
+     * @param handler answers the calls the fake supports
+     * @param <T>     the interface type
+     * @return the proxy
+     */
+    static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        Object proxy = Proxy.newProxyInstance(Fakes.class.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            switch (method.getName()) {
+                case "equals" -> {
+                    if (method.getParameterCount() == 1) return self == args[0];
+                }
+                case "hashCode" -> {
+                    if (method.getParameterCount() == 0) return System.identityHashCode(self);
+                }
+                case "toString" -> {
+                    if (method.getParameterCount() == 0) return "Fake" + type.getSimpleName();
+                }
+                default -> {
+                }
+            }
+            Object answer = handler.invoke(self, method, args);
+            return answer != null ? answer : defaultValue(method);
+        });
+        return type.cast(proxy);
+    }
+
+    private static Object defaultValue(Method method) {
+        Class<?> type = method.getReturnType();
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == double.class) return 0.0D;
+        if (type == float.class) return 0.0F;
+        if (type == short.class) return (short) 0;
+        if (type == byte.class) return (byte) 0;
+        if (type == char.class) return '\0';
+        if (type == String.class) return "";
+        if (type == List.class || type == Collection.class) return List.of();
+        if (type == Set.class) return Set.of();
+        if (type == Map.class) return Map.of();
+        return null;
+    }
+
+}
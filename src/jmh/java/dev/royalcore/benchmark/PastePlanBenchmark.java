@@ -0,0 +1,100 @@
+package dev.royalcore.benchmark;
+
+import dev.royalcore.internal.structure.PastePlan;
+import org.bukkit.block.data.BlockData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures paste-plan generation for a schematic, against parsing every block individually as pasting used to.
+ * <p>
+ * Without a server, block state parsing is simulated by splitting the state string into its properties,
+ * which is a lower bound of what {@code Server#createBlockData(String)} does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PastePlanBenchmark {
+
+    private static final String[] PALETTE = {
+            "minecraft:stone",
+            "minecraft:cobblestone",
+            "minecraft:oak_planks",
+            "minecraft:oak_log[axis=y]",
+            "minecraft:oak_stairs[facing=north,half=bottom,shape=straight,waterlogged=false]",
+            "minecraft:glass_pane[east=true,north=false,south=false,waterlogged=false,west=true]",
+            "minecraft:torch",
+            "minecraft:unknown_modded_block"
+    };
+
+    private static final BlockData STATEFUL_BLOCK_DATA = Fakes.proxy(BlockData.class, (_, _, _) -> null);
+
+    private static final Function<String, BlockData> PARSER = state -> {
+        int open = state.indexOf('[');
+        String material = open == -1 ? state : state.substring(0, open);
+        if (material.startsWith("minecraft:unknown")) {
+            throw new IllegalArgumentException("Unknown block " + material);
+        }
+        TreeMap<String, String> properties = new TreeMap<>();
+        if (open != -1) {
+            for (String property : state.substring(open + 1, state.length() - 1).split(",")) {
+                int eq = property.indexOf('=');
+                properties.put(property.substring(0, eq), property.substring(eq + 1));
+            }
+        }
+        return properties.isEmpty() ? Fakes.BLOCK_DATA : STATEFUL_BLOCK_DATA;
+    };
+
+    @Param({"16", "48"})
+    public int size;
+
+    private String[] blocks;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        blocks = new String[size * size * size];
+        for (int i = 0; i < blocks.length; i++) {
+            // Roughly a third of a typical structure is air.
+            blocks[i] = random.nextInt(3) == 0 ? null : PALETTE[random.nextInt(PALETTE.length)];
+        }
+    }
+
+    @Benchmark
+    public PastePlan plan() {
+        return PastePlan.of(size, size, size, this::blockAt, PARSER);
+    }
+
+    @Benchmark
+    public void parseEveryBlock(Blackhole blackhole) {
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                for (int z = 0; z < size; z++) {
+                    String state = blockAt(x, y, z);
+                    if (state == null) continue;
+                    try {
+                        blackhole.consume(PARSER.apply(state));
+                    } catch (IllegalArgumentException ignored) {
+                    }
+                }
+            }
+        }
+    }
+
+    private String blockAt(int x, int y, int z) {
+        return blocks[(x * size + y) * size + z];
+    }
+
+}
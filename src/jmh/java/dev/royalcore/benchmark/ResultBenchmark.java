@@ -0,0 +1,53 @@
+package dev.royalcore.benchmark;
+
+import dev.royalcore.api.errors.Result;
+import dev.royalcore.api.errors.StacklessException;
+import net.kyori.adventure.text.Component;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures creating and chaining {@link Result}s, which validation code does on every check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResultBenchmark {
+
+    public int value = 42;
+
+    @Benchmark
+    public Result<Void> sharedOk() {
+        return Result.Ok();
+    }
+
+    @Benchmark
+    public Result<Integer> okWithValue() {
+        return Result.Ok(value);
+    }
+
+    @Benchmark
+    public Result<Void> lazyErr() {
+        return Result.Err(() -> Component.text("Value " + value + " is invalid"), false);
+    }
+
+    @Benchmark
+    public Result<Void> errWithStacklessException() {
+        return Result.Err(Component.text("Duplicate listener detected."), new StacklessException("Duplicate listener"), false);
+    }
+
+    @Benchmark
+    public int mapChain() {
+        return Result.Ok(value)
+                .map(v -> v * 2)
+                .<Integer>flatMap(v -> v > 0 ? Result.Ok(v + 1) : Result.Err())
+                .orElse(-1);
+    }
+
+}
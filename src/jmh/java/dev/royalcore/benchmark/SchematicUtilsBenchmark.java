@@ -0,0 +1,62 @@
+package dev.royalcore.benchmark;
+
+import dev.royalcore.api.utils.SchematicUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cuboid search behind {@code StructureConsumer.spawnAll} on synthetic heightmaps.
+ * <p>
+ * The search area matches {@code spawnAll(World, Location)}: a 129 x 129 square. {@code rough} terrain has
+ * almost no flat spots, {@code terraced} terrain has large plateaus at a few heights.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SchematicUtilsBenchmark {
+
+    private static final int SIZE = 129;
+
+    @Param({"rough", "terraced"})
+    public String terrain;
+
+    @Param({"5", "16"})
+    public int footprint;
+
+    private int[] heights;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        heights = new int[SIZE * SIZE];
+        for (int x = 0; x < SIZE; x++) {
+            for (int z = 0; z < SIZE; z++) {
+                heights[x * SIZE + z] = switch (terrain) {
+                    case "rough" -> 64 + random.nextInt(4);
+                    case "terraced" -> 64 + 4 * ((x / 24 + z / 24) % 4);
+                    default -> throw new IllegalArgumentException(terrain);
+                };
+            }
+        }
+    }
+
+    @Benchmark
+    public int findHighestFittingOrigin() {
+        return SchematicUtils.findHighestFittingOrigin(
+                heights, SIZE, SIZE,
+                footprint, footprint,
+                0, 319,
+                (_, _, _) -> true
+        );
+    }
+
+}
@@ -1,27 +1,41 @@
 package dev.royalcore;
 
 import dev.royalcore.annotations.NotForDeveloperUse;
+import dev.royalcore.api.data.Config;
+import dev.royalcore.api.data.Database;
+import dev.royalcore.api.engine.BattleRoyaleEngine;
+import dev.royalcore.api.metrics.MetricsRegistry;
 import dev.royalcore.api.registries.CommandRegistry;
 import dev.royalcore.api.registries.FailedBRRegistry;
-import dev.royalcore.api.registries.ListenerRegistry;
-import dev.royalcore.api.registries.RecipeRegistry;
+import dev.royalcore.internal.commands.RoyaleCoreCommand;
+import dev.royalcore.internal.logging.AsyncLogSink;
+import dev.royalcore.internal.profiler.StartupProfiler;
+import dev.royalcore.internal.recording.EventRecorder;
+import dev.royalcore.internal.watchdog.TickWatchdog;
 import lombok.Getter;
 import lombok.Setter;
 import net.kyori.adventure.text.TextComponent;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static dev.royalcore.internal.profiler.StartupProfiler.Category.PHASE;
+
 /**
  * Main plugin entry point for RoyaleCore.
  */
 public class Main extends JavaPlugin {
 
+    private static final Duration METRICS_EXPORT_INTERVAL = Duration.ofSeconds(15);
+    private static final Duration TICK_SPIKE_THRESHOLD = Duration.ofMillis(100);
+
     @Getter
     private static Main plugin;
     /**
      * Global flag indicating whether debug logging is enabled for the plugin.
      * <p>
-     * When {@code true}, calls to {@link #debug(net.kyori.adventure.text.TextComponent)}
-     * and {@link #debug(net.kyori.adventure.text.TextComponent, Throwable)} will emit output.
+     * When {@code true}, calls to the {@code debug} methods will emit output.
      */
     @Getter
     @Setter
@@ -36,6 +50,8 @@ public class Main extends JavaPlugin {
 
     /**
      * Logs a debug message if debug mode is enabled.
+     * <p>
+     * The message is written asynchronously by the {@link AsyncLogSink}.
      *
      * @param message the debug message to log
      *
@@ -43,12 +59,14 @@ public class Main extends JavaPlugin {
     @NotForDeveloperUse
     public static void debug(TextComponent message) {
         if (debug) {
-            Main.getPlugin().getComponentLogger().debug(message);
+            AsyncLogSink.getSink().debug(() -> message, null);
         }
     }
 
     /**
      * Logs a debug message and associated throwable if debug mode is enabled.
+     * <p>
+     * The message is written asynchronously by the {@link AsyncLogSink}.
      *
      * @param message the debug message to log
      * @param e       the throwable to include in the debug output
@@ -56,24 +74,80 @@ public class Main extends JavaPlugin {
     @NotForDeveloperUse
     public static void debug(TextComponent message, Throwable e) {
         if (debug) {
-            Main.getPlugin().getComponentLogger().debug(message, new Throwable(e));
+            AsyncLogSink.getSink().debug(() -> message, new Throwable(e));
+        }
+    }
+
+    /**
+     * Logs a lazily built debug message if debug mode is enabled.
+     * <p>
+     * The supplier is never invoked when debug mode is off; otherwise it is invoked on the
+     * background log thread.
+     *
+     * @param message supplies the debug message to log
+     */
+    @NotForDeveloperUse
+    public static void debug(Supplier<? extends TextComponent> message) {
+        if (debug) {
+            AsyncLogSink.getSink().debug(message, null);
+        }
+    }
+
+    /**
+     * Logs a lazily built debug message and associated throwable if debug mode is enabled.
+     * <p>
+     * The supplier is never invoked when debug mode is off; otherwise it is invoked on the
+     * background log thread.
+     *
+     * @param message supplies the debug message to log
+     * @param e       the throwable to include in the debug output
+     */
+    @NotForDeveloperUse
+    public static void debug(Supplier<? extends TextComponent> message, Throwable e) {
+        if (debug) {
+            AsyncLogSink.getSink().debug(message, new Throwable(e));
         }
     }
 
     @Override
     public void onEnable() {
         plugin = this;
+        AsyncLogSink.getSink().start();
+
+        StartupProfiler profiler = StartupProfiler.getProfiler();
+
+        profiler.time(PHASE, "MetricsRegistry.startExport", () -> {
+            MetricsRegistry metrics = MetricsRegistry.getRegistry();
+            metrics.gauge("royalecore_databases_open", "Databases currently connected", () -> Database.getOpenDatabases().size());
+            metrics.gauge("royalecore_log_lines_dropped", "Log lines dropped because the log buffer was full", () -> AsyncLogSink.getSink().getDropped());
+            metrics.startExport(getDataFolder().toPath().resolve("metrics.prom"), METRICS_EXPORT_INTERVAL);
+        });
 
-        FailedBRRegistry.declare();
+        profiler.time(PHASE, "RoyaleCoreCommand.create", () -> CommandRegistry.getCommandRegistry().register(RoyaleCoreCommand.create()));
 
-        RecipeRegistry.getRecipeRegistry().finish();
-        CommandRegistry.getCommandRegistry().finish();
-        ListenerRegistry.getListenerRegistry().finish();
+        profiler.time(PHASE, "BattleRoyaleEngine.commit", () -> BattleRoyaleEngine.getBattleRoyaleEngine().commit());
+        profiler.time(PHASE, "FailedBRRegistry.declare", FailedBRRegistry::declare);
+        // Plugins depending on RoyaleCore are enabled after it; pick up their battle royales once all are enabled.
+        getServer().getScheduler().runTask(this, () -> {
+            BattleRoyaleEngine.getBattleRoyaleEngine().commit();
+            FailedBRRegistry.declare();
+        });
+
+        profiler.time(PHASE, "TickWatchdog.start", () -> TickWatchdog.getWatchdog().start(getDataFolder().toPath().resolve("spikes"), TICK_SPIKE_THRESHOLD));
+
+        profiler.reportOnFirstTick(this, getDataFolder().toPath().resolve("startup"));
 
     }
 
     @Override
     public void onDisable() {
+        if (EventRecorder.getRecorder().isRecording()) {
+            EventRecorder.getRecorder().stop();
+        }
+        TickWatchdog.getWatchdog().stop();
+        Config.stopWatching();
+        MetricsRegistry.getRegistry().stopExport();
+        AsyncLogSink.getSink().shutdown();
     }
 
 
@@ -8,6 +8,7 @@ import dev.royalcore.api.consumer.StructureConsumer;
 import dev.royalcore.api.consumer.WorldConsumer;
 import dev.royalcore.api.engine.BattleRoyaleEngine;
 import dev.royalcore.api.enums.BattleRoyaleState;
+import dev.royalcore.api.registries.BattleRoyaleRegistry;
 import dev.royalcore.api.scenario.Scenario;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
@@ -28,10 +29,11 @@ public final class BattleRoyale {
     private final ResourcePackConsumer resourcepackConsumer;
     private final StructureConsumer structureConsumer;
     private final WorldConsumer worldConsumer;
-    private BattleRoyaleState state;
+    private volatile BattleRoyaleState state;
 
     /**
-     * Creates a new BattleRoyale instance and registers it in the legacy {@link BattleRoyaleEngine}.
+     * Creates a new BattleRoyale instance and queues it for registration by the next
+     * {@link BattleRoyaleEngine#commit()}.
      *
      * @param id                   the unique identifier of this Battle Royale definition
      * @param scenarios            the list of scenarios that belong to this Battle Royale (unmodifiable view)
@@ -55,7 +57,7 @@ public final class BattleRoyale {
             WorldConsumer worldConsumer
     ) {
         this.id = id;
-        this.scenarios = Collections.unmodifiableList(new ArrayList<>(scenarios));
+        this.scenarios = List.copyOf(scenarios);
         this.settingsConsumer = settingsConsumer;
         this.onStart = onStart;
         this.onStop = onStop;
@@ -64,7 +66,7 @@ public final class BattleRoyale {
         this.structureConsumer = structureConsumer;
         this.worldConsumer = worldConsumer;
 
-        BattleRoyaleEngine.getBattleRoyaleEngine().register(this);
+        BattleRoyaleEngine.getBattleRoyaleEngine().enqueue(this);
     }
 
     /**
@@ -153,33 +155,34 @@ public final class BattleRoyale {
     }
 
     /**
-     * Updates the current state of this Battle Royale.
+     * Updates the current state of this Battle Royale and, if it is registered, moves it to the matching
+     * {@link BattleRoyaleRegistry#inState(BattleRoyaleState) state index}.
      *
      * @param state the new state to set
      */
-    public void state(BattleRoyaleState state) {
+    public synchronized void state(BattleRoyaleState state) {
+        BattleRoyaleState previous = this.state;
         this.state = state;
+        BattleRoyaleRegistry.getBattleRoyaleRegistry().reindex(this, previous, state);
     }
 
+    /**
+     * Battle royales are identified by their ID alone, so registry lookups stay cheap
+     * regardless of how many scenarios a definition carries.
+     *
+     * @param obj the object to compare with
+     * @return {@code true} if {@code obj} is a battle royale with the same ID
+     */
     @Override
     public boolean equals(Object obj) {
         if (obj == this) return true;
-        if (obj == null || obj.getClass() != this.getClass()) return false;
-        var that = (BattleRoyale) obj;
-        return Objects.equals(this.id, that.id) &&
-                Objects.equals(this.scenarios, that.scenarios) &&
-                Objects.equals(this.settingsConsumer, that.settingsConsumer) &&
-                Objects.equals(this.onStart, that.onStart) &&
-                Objects.equals(this.onStop, that.onStop) &&
-                Objects.equals(this.state, that.state) &&
-                Objects.equals(this.resourcepackConsumer, that.resourcepackConsumer) &&
-                Objects.equals(this.structureConsumer, that.structureConsumer) &&
-                Objects.equals(this.worldConsumer, that.worldConsumer);
+        if (!(obj instanceof BattleRoyale that)) return false;
+        return Objects.equals(this.id, that.id);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, scenarios, settingsConsumer, onStart, onStop, state, resourcepackConsumer, structureConsumer, worldConsumer);
+        return Objects.hashCode(id);
     }
 
     @Override
@@ -205,10 +208,11 @@ public final class BattleRoyale {
 
         private final UUID id;
         private final List<Scenario> scenarios = new ArrayList<>();
-        private final SettingsConsumer settings = new SettingsConsumer();
-        private final ResourcePackConsumer resourcepacks = new ResourcePackConsumer();
-        private final StructureConsumer structures = new StructureConsumer();
-        private final WorldConsumer world = new WorldConsumer();
+        // Allocated on first use; build() falls back to the shared empty consumers for anything left untouched.
+        private SettingsConsumer settings;
+        private ResourcePackConsumer resourcepacks;
+        private StructureConsumer structures;
+        private WorldConsumer world;
         private final BattleRoyaleState state = BattleRoyaleState.NOT_STARTED;
         private Runnable onStart = () -> {
         };
@@ -242,6 +246,9 @@ public final class BattleRoyale {
          * @return this builder instance for chaining
          */
         public BattleRoyaleBuilder withWorldSettings(Consumer<WorldConsumer> worldSettings) {
+            if (world == null) {
+                world = new WorldConsumer();
+            }
             worldSettings.accept(world);
             return this;
         }
@@ -253,6 +260,9 @@ public final class BattleRoyale {
          * @return this builder instance for chaining
          */
         public BattleRoyaleBuilder withResourcePacks(Consumer<ResourcePackConsumer> resourcePacksConsumer) {
+            if (resourcepacks == null) {
+                resourcepacks = new ResourcePackConsumer();
+            }
             resourcePacksConsumer.accept(this.resourcepacks);
             return this;
         }
@@ -264,6 +274,9 @@ public final class BattleRoyale {
          * @return this builder instance for chaining
          */
         public BattleRoyaleBuilder withSettings(Consumer<SettingsConsumer> settingsConsumer) {
+            if (settings == null) {
+                settings = new SettingsConsumer();
+            }
             settingsConsumer.accept(this.settings);
             return this;
         }
@@ -319,6 +332,9 @@ public final class BattleRoyale {
          * @return this builder instance for chaining
          */
         public BattleRoyaleBuilder withStructures(Consumer<StructureConsumer> structuresConsumer) {
+            if (structures == null) {
+                structures = new StructureConsumer();
+            }
             structuresConsumer.accept(this.structures);
             return this;
         }
@@ -331,14 +347,25 @@ public final class BattleRoyale {
          * @return a new BattleRoyale instance
          */
         public BattleRoyale build() {
-            if (id == null) {
+            UUID battleRoyaleId = id;
+            if (battleRoyaleId == null) {
                 Main.getPlugin().getComponentLogger().warn(
                         Component.text("The ID of a Battle Royale is null! Defaulted to a random ID"),
                         new IllegalStateException()
                 );
-                return new BattleRoyale(UUID.randomUUID(), scenarios, settings, onStart, onStop, state, resourcepacks, structures, world);
+                battleRoyaleId = UUID.randomUUID();
             }
-            return new BattleRoyale(id, scenarios, settings, onStart, onStop, state, resourcepacks, structures, world);
+            return new BattleRoyale(
+                    battleRoyaleId,
+                    scenarios,
+                    settings != null ? settings : SettingsConsumer.empty(),
+                    onStart,
+                    onStop,
+                    state,
+                    resourcepacks != null ? resourcepacks : ResourcePackConsumer.empty(),
+                    structures != null ? structures : StructureConsumer.empty(),
+                    world != null ? world : new WorldConsumer()
+            );
         }
     }
 }
@@ -16,13 +16,31 @@ import java.util.function.Consumer;
  */
 public class BorderConsumer {
 
+    private static final BorderConsumer EMPTY = new BorderConsumer(true);
+
+    private final boolean frozen;
+
     @Getter
-    private final Map<World, Consumer<WorldBorder>> borders = new HashMap<>();
+    private Map<World, Consumer<WorldBorder>> borders = Map.of();
 
     /**
      * Creates a new border consumer.
      */
     public BorderConsumer() {
+        this(false);
+    }
+
+    private BorderConsumer(boolean frozen) {
+        this.frozen = frozen;
+    }
+
+    /**
+     * Returns the border consumer shared by scenarios that leave world borders untouched.
+     *
+     * @return the shared, unmodifiable empty border consumer
+     */
+    public static BorderConsumer empty() {
+        return EMPTY;
     }
 
     /**
@@ -32,6 +50,9 @@ public class BorderConsumer {
      * @param borderConsumer the consumer that configures the world's border
      */
     public void addBorder(World world, Consumer<WorldBorder> borderConsumer) {
+        if (frozen) {
+            throw new UnsupportedOperationException("The shared empty BorderConsumer cannot be modified");
+        }
 
         if (world == null) {
             Main.getPlugin().getComponentLogger().error(
@@ -49,6 +70,9 @@ public class BorderConsumer {
             return;
         }
 
+        if (borders.isEmpty()) {
+            borders = new HashMap<>(4);
+        }
         borders.put(world, borderConsumer);
     }
 
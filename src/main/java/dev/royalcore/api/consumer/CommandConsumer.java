@@ -18,13 +18,31 @@ import java.util.List;
 @UnstableOnServerStart
 public class CommandConsumer {
 
+    private static final CommandConsumer EMPTY = new CommandConsumer(true);
+
+    private final boolean frozen;
+
     @Getter
-    private final List<LiteralCommandNode<CommandSourceStack>> commandNodes = new ArrayList<>();
+    private List<LiteralCommandNode<CommandSourceStack>> commandNodes = List.of();
 
     /**
      * Creates a new command consumer.
      */
     public CommandConsumer() {
+        this(false);
+    }
+
+    private CommandConsumer(boolean frozen) {
+        this.frozen = frozen;
+    }
+
+    /**
+     * Returns the command consumer shared by scenarios that expose no commands.
+     *
+     * @return the shared, unmodifiable empty command consumer
+     */
+    public static CommandConsumer empty() {
+        return EMPTY;
     }
 
     /**
@@ -33,6 +51,7 @@ public class CommandConsumer {
      * @param commandNode the command node to register
      */
     public void register(LiteralCommandNode<CommandSourceStack> commandNode) {
+        checkMutable();
 
         if (commandNodes.contains(commandNode)) {
             Main.getPlugin().getComponentLogger().error(
@@ -42,6 +61,9 @@ public class CommandConsumer {
             return;
         }
 
+        if (commandNodes.isEmpty()) {
+            commandNodes = new ArrayList<>(2);
+        }
         commandNodes.add(commandNode);
     }
 
@@ -51,6 +73,7 @@ public class CommandConsumer {
      * @param commandNode the builder for the command node
      */
     public void register(LiteralArgumentBuilder<CommandSourceStack> commandNode) {
+        checkMutable();
 
         if (commandNodes.contains(commandNode.build())) {
             Main.getPlugin().getComponentLogger().error(
@@ -60,7 +83,16 @@ public class CommandConsumer {
             return;
         }
 
+        if (commandNodes.isEmpty()) {
+            commandNodes = new ArrayList<>(2);
+        }
         commandNodes.add(commandNode.build());
     }
 
+    private void checkMutable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("The shared empty CommandConsumer cannot be modified");
+        }
+    }
+
 }
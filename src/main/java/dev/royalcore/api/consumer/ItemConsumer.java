@@ -14,13 +14,31 @@ import java.util.List;
  */
 public class ItemConsumer {
 
+    private static final ItemConsumer EMPTY = new ItemConsumer(true);
+
+    private final boolean frozen;
+
     @Getter
-    private final List<BattleRoyaleItem> items = new ArrayList<>();
+    private List<BattleRoyaleItem> items = List.of();
 
     /**
      * Creates a new item consumer.
      */
     public ItemConsumer() {
+        this(false);
+    }
+
+    private ItemConsumer(boolean frozen) {
+        this.frozen = frozen;
+    }
+
+    /**
+     * Returns the item consumer shared by every scenario without custom items.
+     *
+     * @return the shared, unmodifiable empty item consumer
+     */
+    public static ItemConsumer empty() {
+        return EMPTY;
     }
 
     /**
@@ -29,6 +47,9 @@ public class ItemConsumer {
      * @param item the item to add
      */
     public void add(BattleRoyaleItem item) {
+        if (frozen) {
+            throw new UnsupportedOperationException("The shared empty ItemConsumer cannot be modified");
+        }
 
         if (items.contains(item)) {
             Main.getPlugin().getComponentLogger().error(
@@ -46,6 +67,9 @@ public class ItemConsumer {
             return;
         }
 
+        if (items.isEmpty()) {
+            items = new ArrayList<>(2);
+        }
         items.add(item);
     }
 
@@ -16,13 +16,31 @@ import java.util.List;
 @UnstableOnServerStart
 public class ListenerConsumer {
 
+    private static final ListenerConsumer EMPTY = new ListenerConsumer(true);
+
+    private final boolean frozen;
+
     @Getter
-    private final List<Listener> listeners = new ArrayList<>();
+    private List<Listener> listeners = List.of();
 
     /**
      * Creates a new listener consumer.
      */
     public ListenerConsumer() {
+        this(false);
+    }
+
+    private ListenerConsumer(boolean frozen) {
+        this.frozen = frozen;
+    }
+
+    /**
+     * Returns the shared listener consumer used by scenarios that register no listeners.
+     *
+     * @return the shared, unmodifiable empty listener consumer
+     */
+    public static ListenerConsumer empty() {
+        return EMPTY;
     }
 
     /**
@@ -31,6 +49,9 @@ public class ListenerConsumer {
      * @param listener the listener to register
      */
     public void register(Listener listener) {
+        if (frozen) {
+            throw new UnsupportedOperationException("The shared empty ListenerConsumer cannot be modified");
+        }
 
         if (listeners.contains(listener)) {
             Main.getPlugin().getComponentLogger().error(
@@ -40,6 +61,9 @@ public class ListenerConsumer {
             return;
         }
 
+        if (listeners.isEmpty()) {
+            listeners = new ArrayList<>(2);
+        }
         listeners.add(listener);
     }
 
@@ -10,11 +10,17 @@ import net.kyori.adventure.text.format.TextDecoration;
  */
 public class MessageConsumer {
 
-    @Getter
-    private Component deathMessage = Component.text("ELIMINATION!")
+    private static final Component DEFAULT_DEATH_MESSAGE = Component.text("ELIMINATION!")
             .color(NamedTextColor.RED)
             .decorate(TextDecoration.BOLD)
             .append(Component.text(" A player has fallen").color(NamedTextColor.WHITE));
+
+    private static final MessageConsumer EMPTY = new MessageConsumer(true);
+
+    private final boolean frozen;
+
+    @Getter
+    private Component deathMessage = DEFAULT_DEATH_MESSAGE;
     @Getter
     private Component joinMessage = Component.empty();
     @Getter
@@ -24,6 +30,20 @@ public class MessageConsumer {
      * Creates a new message consumer with default messages.
      */
     public MessageConsumer() {
+        this(false);
+    }
+
+    private MessageConsumer(boolean frozen) {
+        this.frozen = frozen;
+    }
+
+    /**
+     * Returns the message consumer shared by scenarios that keep the default messages.
+     *
+     * @return the shared, unmodifiable default message consumer
+     */
+    public static MessageConsumer empty() {
+        return EMPTY;
     }
 
     /**
@@ -32,6 +52,7 @@ public class MessageConsumer {
      * @param deathMessage the message to broadcast on player elimination
      */
     public void deathMessage(Component deathMessage) {
+        checkMutable();
         this.deathMessage = deathMessage;
     }
 
@@ -41,6 +62,7 @@ public class MessageConsumer {
      * @param joinMessage the message to broadcast when a player joins
      */
     public void joinMessage(Component joinMessage) {
+        checkMutable();
         this.joinMessage = joinMessage;
     }
 
@@ -50,7 +72,14 @@ public class MessageConsumer {
      * @param leaveMessage the message to broadcast when a player leaves
      */
     public void leaveMessage(Component leaveMessage) {
+        checkMutable();
         this.leaveMessage = leaveMessage;
     }
 
+    private void checkMutable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("The shared default MessageConsumer cannot be modified");
+        }
+    }
+
 }
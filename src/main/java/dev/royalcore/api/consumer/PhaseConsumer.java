@@ -0,0 +1,104 @@
+package dev.royalcore.api.consumer;
+
+import dev.royalcore.annotations.Experimental;
+import dev.royalcore.api.enums.MatchPhase;
+import dev.royalcore.api.session.ArenaSession;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Collects the hooks a scenario runs when a match enters or leaves a {@link MatchPhase}.
+ * <p>
+ * Within a match, entry hooks of different scenarios run in scenario activation order and exit hooks in the
+ * reverse order; see {@link dev.royalcore.api.session.PhaseDriver}.
+ */
+@Experimental
+public class PhaseConsumer {
+
+    private static final PhaseConsumer EMPTY = new PhaseConsumer(true);
+
+    private final boolean frozen;
+
+    private Map<MatchPhase, List<Consumer<ArenaSession>>> enterHooks = Map.of();
+    private Map<MatchPhase, List<Consumer<ArenaSession>>> exitHooks = Map.of();
+
+    /**
+     * Creates a new phase consumer.
+     */
+    public PhaseConsumer() {
+        this(false);
+    }
+
+    private PhaseConsumer(boolean frozen) {
+        this.frozen = frozen;
+    }
+
+    /**
+     * Returns the phase consumer shared by scenarios without phase hooks.
+     *
+     * @return the shared, unmodifiable empty phase consumer
+     */
+    public static PhaseConsumer empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Adds a hook run when a match enters the given phase.
+     *
+     * @param phase the phase
+     * @param hook  receives the session of the match
+     */
+    public void onEnter(MatchPhase phase, Consumer<ArenaSession> hook) {
+        enterHooks = add(enterHooks, phase, hook);
+    }
+
+    /**
+     * Adds a hook run when a match leaves the given phase.
+     *
+     * @param phase the phase
+     * @param hook  receives the session of the match
+     */
+    public void onExit(MatchPhase phase, Consumer<ArenaSession> hook) {
+        exitHooks = add(exitHooks, phase, hook);
+    }
+
+    /**
+     * Returns the hooks run when a match enters the given phase.
+     *
+     * @param phase the phase
+     * @return the hooks, in the order they were added
+     */
+    public List<Consumer<ArenaSession>> getEnterHooks(MatchPhase phase) {
+        return enterHooks.getOrDefault(phase, List.of());
+    }
+
+    /**
+     * Returns the hooks run when a match leaves the given phase.
+     *
+     * @param phase the phase
+     * @return the hooks, in the order they were added
+     */
+    public List<Consumer<ArenaSession>> getExitHooks(MatchPhase phase) {
+        return exitHooks.getOrDefault(phase, List.of());
+    }
+
+    private Map<MatchPhase, List<Consumer<ArenaSession>>> add(
+            Map<MatchPhase, List<Consumer<ArenaSession>>> hooks,
+            MatchPhase phase,
+            Consumer<ArenaSession> hook
+    ) {
+        if (frozen) {
+            throw new UnsupportedOperationException("The shared empty PhaseConsumer cannot be modified");
+        }
+        if (hooks.isEmpty()) {
+            hooks = new EnumMap<>(MatchPhase.class);
+        }
+        hooks.computeIfAbsent(phase, _ -> new ArrayList<>(2)).add(hook);
+        return hooks;
+    }
+
+}
@@ -10,6 +10,8 @@ import java.util.function.Consumer;
  */
 public class PlayerConsumer {
 
+    private static final PlayerConsumer EMPTY = new PlayerConsumer();
+
     /**
      * The underlying player consumer, invoked for each relevant player.
      */
@@ -23,4 +25,13 @@ public class PlayerConsumer {
     public PlayerConsumer() {
     }
 
+    /**
+     * Returns the player consumer shared by every scenario, as it carries no per-instance state.
+     *
+     * @return the shared player consumer
+     */
+    public static PlayerConsumer empty() {
+        return EMPTY;
+    }
+
 }
@@ -1,6 +1,9 @@
 package dev.royalcore.api.consumer;
 
 import dev.royalcore.api.errors.Result;
+import dev.royalcore.api.metrics.Counter;
+import dev.royalcore.api.metrics.MetricsRegistry;
+import dev.royalcore.internal.jfr.ResourcePackSendEvent;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.resource.ResourcePackInfo;
 import net.kyori.adventure.resource.ResourcePackRequest;
@@ -16,15 +19,37 @@ import java.util.List;
  */
 public class ResourcePackConsumer {
 
+    private static final Counter PACKS_SENT = MetricsRegistry.getRegistry()
+            .counter("royalecore_resource_packs_sent_total", "Resource pack requests sent to audiences");
+
+    private static final ResourcePackConsumer EMPTY = new ResourcePackConsumer(true);
+    private static final Result<Void> FROZEN = Result.Err(Component.text("The shared empty ResourcePackConsumer cannot be modified."), false);
+
+    private final boolean frozen;
+
     /**
-     * List of resource packs managed by this consumer.
+     * List of resource packs managed by this consumer; shared and immutable until the first pack is added.
      */
-    private final List<ResourcePackInfo> resourcePacks = new ArrayList<>();
+    private List<ResourcePackInfo> resourcePacks = List.of();
 
     /**
      * Default constructor
      */
     public ResourcePackConsumer() {
+        this(false);
+    }
+
+    private ResourcePackConsumer(boolean frozen) {
+        this.frozen = frozen;
+    }
+
+    /**
+     * Returns the resource pack consumer shared by every scenario and battle royale without packs.
+     *
+     * @return the shared, unmodifiable empty resource pack consumer
+     */
+    public static ResourcePackConsumer empty() {
+        return EMPTY;
     }
 
     /**
@@ -33,12 +58,16 @@ public class ResourcePackConsumer {
      * @param resourcePackInfo the resource pack to add
      * @return Result.Ok() on success, or Result.Err() if null or duplicate
      */
-    public Result add(ResourcePackInfo resourcePackInfo) {
+    public Result<Void> add(ResourcePackInfo resourcePackInfo) {
+        if (frozen)
+            return FROZEN;
         if (resourcePackInfo == null)
             return Result.Err(Component.text("A resource pack returned null! It has been excluded."), false);
         if (resourcePacks.contains(resourcePackInfo))
             return Result.Err(Component.text("Duplicate resource pack detected."), false);
 
+        if (resourcePacks.isEmpty())
+            resourcePacks = new ArrayList<>(2);
         resourcePacks.add(resourcePackInfo);
         return Result.Ok();
     }
@@ -49,6 +78,9 @@ public class ResourcePackConsumer {
      * @param target the audience to receive the resource packs
      */
     public void sendPack(final @NotNull Audience target) {
+        ResourcePackSendEvent event = new ResourcePackSendEvent();
+        event.begin();
+
         for (ResourcePackInfo resourcePack : resourcePacks) {
             final ResourcePackRequest request = ResourcePackRequest.resourcePackRequest()
                     .packs(resourcePack)
@@ -58,6 +90,11 @@ public class ResourcePackConsumer {
 
             target.sendResourcePacks(request);
         }
+
+        event.packs = resourcePacks.size();
+        event.required = true;
+        event.commit();
+        PACKS_SENT.add(resourcePacks.size());
     }
 
     /**
@@ -66,6 +103,9 @@ public class ResourcePackConsumer {
      * @param target the audience to receive the resource packs
      */
     public void sendAsOptional(final @NotNull Audience target) {
+        ResourcePackSendEvent event = new ResourcePackSendEvent();
+        event.begin();
+
         for (ResourcePackInfo resourcePack : resourcePacks) {
             final ResourcePackRequest request = ResourcePackRequest.resourcePackRequest()
                     .packs(resourcePack)
@@ -75,5 +115,10 @@ public class ResourcePackConsumer {
 
             target.sendResourcePacks(request);
         }
+
+        event.packs = resourcePacks.size();
+        event.required = false;
+        event.commit();
+        PACKS_SENT.add(resourcePacks.size());
     }
 }
@@ -15,13 +15,31 @@ import java.util.Optional;
  */
 public class SchedulerConsumer {
 
+    private static final SchedulerConsumer EMPTY = new SchedulerConsumer(true);
+
+    private final boolean frozen;
+
     @Getter
-    private final Map<ScheduleWindow, Runnable> schedules = new HashMap<>();
+    private Map<ScheduleWindow, Runnable> schedules = Map.of();
 
     /**
      * Creates a new scheduler consumer.
      */
     public SchedulerConsumer() {
+        this(false);
+    }
+
+    private SchedulerConsumer(boolean frozen) {
+        this.frozen = frozen;
+    }
+
+    /**
+     * Returns the scheduler consumer shared by scenarios that schedule nothing.
+     *
+     * @return the shared, unmodifiable empty scheduler consumer
+     */
+    public static SchedulerConsumer empty() {
+        return EMPTY;
     }
 
     /**
@@ -38,6 +56,22 @@ public class SchedulerConsumer {
             );
             return;
         }
+        put(window, runnable);
+    }
+
+    /**
+     * Stores a schedule, allocating the backing map on first use.
+     *
+     * @param window   the schedule window describing start and stop offsets
+     * @param runnable the runnable to execute
+     */
+    private void put(ScheduleWindow window, Runnable runnable) {
+        if (frozen) {
+            throw new UnsupportedOperationException("The shared empty SchedulerConsumer cannot be modified");
+        }
+        if (schedules.isEmpty()) {
+            schedules = new HashMap<>(4);
+        }
         schedules.put(window, runnable);
     }
 
@@ -58,7 +92,7 @@ public class SchedulerConsumer {
      * @param runnable the runnable to execute repeatedly
      */
     public void scheduleOnTicks(Runnable runnable) {
-        schedules.put(new ScheduleWindow(Optional.of(Duration.ZERO), Optional.of(Duration.ofDays(Long.MAX_VALUE))), runnable);
+        put(new ScheduleWindow(Optional.of(Duration.ZERO), Optional.of(Duration.ofDays(Long.MAX_VALUE))), runnable);
     }
 
     /**
@@ -1,7 +1,8 @@
 package dev.royalcore.api.consumer;
 
 import java.time.Duration;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.Map;
 
 /**
@@ -9,16 +10,45 @@ import java.util.Map;
  */
 public class SettingsConsumer {
 
-    private final Map<Setting, Object> settings = new HashMap<>();
+    private static final Map<Setting, Object> DEFAULTS;
+
+    static {
+        Map<Setting, Object> defaults = new EnumMap<>(Setting.class);
+        defaults.put(Setting.LIFESTEAL, true);
+        defaults.put(Setting.GRACE, Duration.ofMinutes(20));
+        defaults.put(Setting.COUNTDOWN, Duration.ofSeconds(5));
+        defaults.put(Setting.LATE_JOIN_BEHAVIOUR, LateJoinHandling.ALLOW_PARTICIPATION);
+        defaults.put(Setting.MAX_LIFESTEAL_HEARTS, 40);
+        DEFAULTS = Collections.unmodifiableMap(defaults);
+    }
+
+    private static final SettingsConsumer EMPTY = new SettingsConsumer(true);
+
+    private final boolean frozen;
+
+    /**
+     * Values changed from {@link #DEFAULTS}; only allocated once a setting is overridden.
+     */
+    private Map<Setting, Object> overrides;
 
     /**
      * Creates a new settings consumer with default values.
      */
     public SettingsConsumer() {
-        settings.put(Setting.LIFESTEAL, true);
-        settings.put(Setting.GRACE, Duration.ofMinutes(20));
-        settings.put(Setting.LATE_JOIN_BEHAVIOUR, LateJoinHandling.ALLOW_PARTICIPATION);
-        settings.put(Setting.MAX_LIFESTEAL_HEARTS, 40);
+        this(false);
+    }
+
+    private SettingsConsumer(boolean frozen) {
+        this.frozen = frozen;
+    }
+
+    /**
+     * Returns the settings consumer shared by battle royales that keep every default.
+     *
+     * @return the shared, unmodifiable default settings consumer
+     */
+    public static SettingsConsumer empty() {
+        return EMPTY;
     }
 
     /**
@@ -27,11 +57,11 @@ public class SettingsConsumer {
      * @param bool whether lifesteal is enabled
      */
     public void lifesteal(boolean bool) {
-        settings.replace(Setting.LIFESTEAL, bool);
+        override(Setting.LIFESTEAL, bool);
     }
 
     public void maxLifestealHearts(double max) {
-        settings.replace(Setting.MAX_LIFESTEAL_HEARTS, max);
+        override(Setting.MAX_LIFESTEAL_HEARTS, max);
     }
 
     /**
@@ -40,7 +70,26 @@ public class SettingsConsumer {
      * @param duration the grace duration
      */
     public void grace(Duration duration) {
-        settings.replace(Setting.GRACE, duration);
+        override(Setting.GRACE, duration);
+    }
+
+    /**
+     * Sets how long players are frozen while the countdown runs.
+     *
+     * @param duration the countdown duration
+     */
+    public void countdown(Duration duration) {
+        override(Setting.COUNTDOWN, duration);
+    }
+
+    /**
+     * Sets how long after PvP is enabled the border phase starts. Without it, the match stays in the play
+     * phase until it ends.
+     *
+     * @param duration the time from the end of the grace period to the border phase
+     */
+    public void border(Duration duration) {
+        override(Setting.BORDER, duration);
     }
 
     /**
@@ -49,7 +98,7 @@ public class SettingsConsumer {
      * @param handling the late join handling strategy
      */
     public void lateJoinBehaviour(LateJoinHandling handling) {
-        settings.replace(Setting.LATE_JOIN_BEHAVIOUR, handling);
+        override(Setting.LATE_JOIN_BEHAVIOUR, handling);
     }
 
     /**
@@ -59,7 +108,20 @@ public class SettingsConsumer {
      * @return the stored value, or {@code null} if absent
      */
     public Object getSetting(Setting setting) {
-        return settings.getOrDefault(setting, null);
+        if (overrides != null && overrides.containsKey(setting)) {
+            return overrides.get(setting);
+        }
+        return DEFAULTS.get(setting);
+    }
+
+    private void override(Setting setting, Object value) {
+        if (frozen) {
+            throw new UnsupportedOperationException("The shared default SettingsConsumer cannot be modified");
+        }
+        if (overrides == null) {
+            overrides = new EnumMap<>(Setting.class);
+        }
+        overrides.put(setting, value);
     }
 
     /**
@@ -76,6 +138,14 @@ public class SettingsConsumer {
          * Grace period duration.
          */
         GRACE,
+        /**
+         * Countdown duration before the grace period.
+         */
+        COUNTDOWN,
+        /**
+         * Time from the end of the grace period to the border phase.
+         */
+        BORDER,
         /**
          * Behaviour for late-joining players.
          */
@@ -2,7 +2,14 @@ package dev.royalcore.api.consumer;
 
 import dev.royalcore.Main;
 import dev.royalcore.annotations.Experimental;
+import dev.royalcore.api.errors.AsyncResult;
 import dev.royalcore.api.errors.Result;
+import dev.royalcore.api.metrics.Counter;
+import dev.royalcore.api.metrics.Histogram;
+import dev.royalcore.api.metrics.MetricsRegistry;
+import dev.royalcore.internal.jfr.StructurePasteEvent;
+import dev.royalcore.internal.jfr.StructureSearchEvent;
+import dev.royalcore.internal.structure.PastePlan;
 import net.kyori.adventure.text.Component;
 import net.sandrohc.schematic4j.SchematicLoader;
 import net.sandrohc.schematic4j.exception.ParsingException;
@@ -10,8 +17,6 @@ import net.sandrohc.schematic4j.schematic.Schematic;
 import net.sandrohc.schematic4j.schematic.types.SchematicBlock;
 import org.bukkit.Location;
 import org.bukkit.World;
-import org.bukkit.block.Block;
-import org.bukkit.block.data.BlockData;
 
 import java.io.File;
 import java.io.IOException;
@@ -36,12 +41,37 @@ import static dev.royalcore.api.utils.SchematicUtils.getRandomInRange;
 @Experimental
 public class StructureConsumer {
 
-    private final Map<TrackedSchematic, Double> schematics = new LinkedHashMap<>();
+    private static final Histogram SEARCH_TIME = MetricsRegistry.getRegistry()
+            .histogram("royalecore_structure_search_seconds", "Time taken to search for a location where a schematic fits");
+    private static final Histogram PASTE_TIME = MetricsRegistry.getRegistry()
+            .histogram("royalecore_structure_paste_seconds", "Time taken to paste a schematic");
+    private static final Counter BLOCKS_PASTED = MetricsRegistry.getRegistry()
+            .counter("royalecore_structure_blocks_pasted_total", "Blocks set while pasting schematics");
+
+    private static final StructureConsumer EMPTY = new StructureConsumer(true);
+    private static final Result<Void> FROZEN = Result.Err(Component.text("The shared empty StructureConsumer cannot be modified."), false);
+
+    private final boolean frozen;
+    private Map<TrackedSchematic, Double> schematics = Map.of();
 
     /**
      * Default constructor
      */
     public StructureConsumer() {
+        this(false);
+    }
+
+    private StructureConsumer(boolean frozen) {
+        this.frozen = frozen;
+    }
+
+    /**
+     * Returns the structure consumer shared by battle royales that place no structures.
+     *
+     * @return the shared, unmodifiable empty structure consumer
+     */
+    public static StructureConsumer empty() {
+        return EMPTY;
     }
 
     /**
@@ -50,18 +80,9 @@ public class StructureConsumer {
      * @param path path to schematic
      * @return result of the operation
      */
-    public Result add(Path path) {
-        try {
-            Schematic schematic = SchematicLoader.load(path);
-            schematics.put(new TrackedSchematic(schematic), 1.0D);
-        } catch (ParsingException | IOException e) {
-            return Result.Err(
-                    Component.text("Failed to load a schematic!"),
-                    new RuntimeException(e),
-                    false
-            );
-        }
-        return Result.Ok();
+    public Result<Void> add(Path path) {
+        if (frozen) return FROZEN;
+        return load(() -> SchematicLoader.load(path)).map(this::track);
     }
 
     /**
@@ -70,18 +91,9 @@ public class StructureConsumer {
      * @param path path to schematic
      * @return result of the operation
      */
-    public Result add(String path) {
-        try {
-            Schematic schematic = SchematicLoader.load(path);
-            schematics.put(new TrackedSchematic(schematic), 1.0D);
-        } catch (ParsingException | IOException e) {
-            return Result.Err(
-                    Component.text("Failed to load a schematic!"),
-                    new RuntimeException(e),
-                    false
-            );
-        }
-        return Result.Ok();
+    public Result<Void> add(String path) {
+        if (frozen) return FROZEN;
+        return load(() -> SchematicLoader.load(path)).map(this::track);
     }
 
     /**
@@ -90,10 +102,35 @@ public class StructureConsumer {
      * @param file schematic file
      * @return result of the operation
      */
-    public Result add(File file) {
+    public Result<Void> add(File file) {
+        if (frozen) return FROZEN;
+        return load(() -> SchematicLoader.load(file)).map(this::track);
+    }
+
+    /**
+     * Loads a schematic by path off the main thread and adds it once loaded.
+     * <p>
+     * Parsing runs on the common pool; the schematic is added on the main thread,
+     * so the returned result may be chained with further world operations.
+     *
+     * @param path path to schematic
+     * @return result of the operation, completed on the main thread
+     */
+    public AsyncResult<Void> addAsync(Path path) {
+        if (frozen) return AsyncResult.of(FROZEN);
+        return AsyncResult.supplyAsync(() -> load(() -> SchematicLoader.load(path)))
+                .map(this::track, AsyncResult.mainThread());
+    }
+
+    /**
+     * Loads a schematic, turning parse and I/O failures into an error result.
+     *
+     * @param source loads the schematic
+     * @return the loaded schematic, or an error
+     */
+    private Result<Schematic> load(SchematicSource source) {
         try {
-            Schematic schematic = SchematicLoader.load(file);
-            schematics.put(new TrackedSchematic(schematic), 1.0D);
+            return Result.Ok(source.load());
         } catch (ParsingException | IOException e) {
             return Result.Err(
                     Component.text("Failed to load a schematic!"),
@@ -101,7 +138,20 @@ public class StructureConsumer {
                     false
             );
         }
-        return Result.Ok();
+    }
+
+    /**
+     * Starts tracking a loaded schematic with the default constraints.
+     *
+     * @param schematic the loaded schematic
+     * @return nothing
+     */
+    private Void track(Schematic schematic) {
+        if (schematics.isEmpty()) {
+            schematics = new LinkedHashMap<>(4);
+        }
+        schematics.put(new TrackedSchematic(schematic), 1.0D);
+        return null;
     }
 
     /**
@@ -111,7 +161,7 @@ public class StructureConsumer {
      * @param world target world
      * @return result of the operation
      */
-    public Result spawnAll(World world) {
+    public Result<Void> spawnAll(World world) {
         int radius = (int) world.getWorldBorder().getSize() / 2;
         int centerX = world.getWorldBorder().getCenter().getBlockX();
         int centerZ = world.getWorldBorder().getCenter().getBlockZ();
@@ -127,6 +177,10 @@ public class StructureConsumer {
             int length = schematic.length();
             int height = schematic.height();
 
+            StructureSearchEvent event = new StructureSearchEvent();
+            event.begin();
+            long start = System.nanoTime();
+
             Location origin = findHighestFittingCuboid(
                     world,
                     randomX - searchRadius,
@@ -140,6 +194,17 @@ public class StructureConsumer {
                     tracked.maxY()
             );
 
+            SEARCH_TIME.record(System.nanoTime() - start);
+
+            if (event.shouldCommit()) {
+                event.world = world.getName();
+                event.width = width;
+                event.length = length;
+                event.height = height;
+                event.found = origin != null;
+                event.commit();
+            }
+
             if (origin == null) {
                 continue;
             }
@@ -157,7 +222,7 @@ public class StructureConsumer {
      * @param baseLocation base location used as search center
      * @return result of the operation
      */
-    public Result spawnAll(World world, Location baseLocation) {
+    public Result<Void> spawnAll(World world, Location baseLocation) {
         int baseX = baseLocation.getBlockX();
         int baseZ = baseLocation.getBlockZ();
         int searchRadius = 64;
@@ -168,6 +233,10 @@ public class StructureConsumer {
             int length = schematic.length();
             int height = schematic.height();
 
+            StructureSearchEvent event = new StructureSearchEvent();
+            event.begin();
+            long start = System.nanoTime();
+
             Location origin = findHighestFittingCuboid(
                     world,
                     baseX - searchRadius,
@@ -181,6 +250,17 @@ public class StructureConsumer {
                     tracked.maxY()
             );
 
+            SEARCH_TIME.record(System.nanoTime() - start);
+
+            if (event.shouldCommit()) {
+                event.world = world.getName();
+                event.width = width;
+                event.length = length;
+                event.height = height;
+                event.found = origin != null;
+                event.commit();
+            }
+
             if (origin == null) {
                 continue;
             }
@@ -207,30 +287,44 @@ public class StructureConsumer {
         int height = schematic.height();
         int length = schematic.length();
 
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                for (int z = 0; z < length; z++) {
-                    SchematicBlock sBlock = schematic.block(x, y, z);
-                    if (sBlock == null) {
-                        continue;
-                    }
-
-                    String blockName = sBlock.name();
-                    BlockData blockData;
-                    try {
-                        blockData = Main.getPlugin().getServer().createBlockData(blockName);
-                    } catch (IllegalArgumentException ex) {
-                        continue;
-                    }
-
-                    Block target = world.getBlockAt(ox + x, oy + y, oz + z);
-                    target.setBlockData(blockData, false);
-                }
-
-            }
+        StructurePasteEvent event = new StructurePasteEvent();
+        event.begin();
+        long start = System.nanoTime();
+
+        PastePlan plan = PastePlan.of(width, height, length, (x, y, z) -> {
+            SchematicBlock block = schematic.block(x, y, z);
+            return block == null ? null : block.name();
+        }, Main.getPlugin().getServer()::createBlockData);
+        event.blockCount = plan.paste(world, ox, oy, oz);
+
+        PASTE_TIME.record(System.nanoTime() - start);
+        BLOCKS_PASTED.add(event.blockCount);
+
+        if (event.shouldCommit()) {
+            event.world = world.getName();
+            event.x = ox;
+            event.y = oy;
+            event.z = oz;
+            event.commit();
         }
     }
 
+    /**
+     * Source of a schematic that may fail to load.
+     */
+    @FunctionalInterface
+    private interface SchematicSource {
+
+        /**
+         * Loads the schematic.
+         *
+         * @return the loaded schematic
+         * @throws ParsingException if the schematic is malformed
+         * @throws IOException      if the schematic cannot be read
+         */
+        Schematic load() throws ParsingException, IOException;
+    }
+
     /**
      * Internal schematic wrapper that tracks vertical placement constraints.
      */
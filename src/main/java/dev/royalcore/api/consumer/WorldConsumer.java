@@ -1,5 +1,6 @@
 package dev.royalcore.api.consumer;
 
+import dev.royalcore.internal.profiler.StartupProfiler;
 import lombok.Getter;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -17,6 +18,8 @@ public class WorldConsumer {
     private World brWorld;
 
     public WorldConsumer() {
+        long start = System.nanoTime();
+
         brWorld = Bukkit.getWorlds().getFirst();
 
         if (brWorld == null) {
@@ -27,6 +30,11 @@ public class WorldConsumer {
             brWorld = Bukkit.createWorld(WorldCreator.name("br-world").hardcore(true));
         }
 
+        StartupProfiler.getProfiler().record(
+                StartupProfiler.Category.WORLD,
+                brWorld == null ? "unresolved" : brWorld.getName(),
+                System.nanoTime() - start
+        );
     }
 
     public void setWorld(World world) {
@@ -1,42 +1,124 @@
 package dev.royalcore.api.data;
 
 import dev.royalcore.annotations.Experimental;
+import dev.royalcore.annotations.NotForDeveloperUse;
 import dev.royalcore.api.errors.Result;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextComponent;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
 
 /**
  * Simple in-memory configuration model backed by a single YAML file.
  * <p>
- * This class tracks a list of named {@link Field} entries and provides:
+ * This class tracks named {@link Field} entries and provides:
  * <ul>
  *     <li>Methods to add fields programmatically.</li>
  *     <li>Lookup utilities to retrieve fields or their values by name.</li>
  *     <li>A {@link #save()} method to serialize all fields to disk in YAML format.</li>
  * </ul>
- * The class does not currently support loading/parsing from disk and
- * assumes that all fields are defined in code.
+ * Each field lives in a stable slot that is found through a name index, so lookups and
+ * updates are {@code O(1)}. Hot code can resolve a slot once with {@link #slot(String)}
+ * and then use the typed slot accessors (e.g. {@link #getInt(int)}), which neither box
+ * nor cast. {@link Field} instances returned by this class are snapshots.
+ * <p>
+ * The backing file is streamed in on construction (see {@link #load()}). Values read from
+ * disk take precedence over the defaults later passed to {@link #addField(Field)}, and
+ * unquoted scalars are only converted to numbers or booleans when they are first accessed.
+ * A number or boolean default fixes the type of its field, so values read from disk are
+ * converted to that type rather than inferred from their text.
+ * <p>
+ * Writes always go to a temporary file that is then atomically moved over the backing file,
+ * so a crash mid-write never leaves a truncated config. {@link #saveAsync()} additionally
+ * moves the write off the calling thread and merges bursts of saves into one write.
+ * Mutations are synchronized so the background writer sees a consistent view; reads are
+ * lock-free and should happen on the thread that mutates the configuration.
+ * <p>
+ * With {@link #watch()} the file is watched for external edits. Only when its content
+ * actually changes is it re-parsed, diffed against the current values and a
+ * {@link ConfigChange} published for every key whose value differs.
+ * <p>
+ * After every parse and every write a compact binary snapshot of the entries is kept next to
+ * the YAML file (see {@link ConfigSnapshot}). On construction the snapshot is memory-mapped
+ * and replayed instead of parsing the text, as long as the YAML file's size, modification
+ * time and checksum still match.
  */
 @Experimental
 public class Config {
 
+    private static final byte OBJECT = 0;
+    private static final byte INT = 1;
+    private static final byte LONG = 2;
+    private static final byte FLOAT = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte BOOLEAN = 5;
+    /**
+     * Unquoted scalar read from disk whose type has not been inferred yet; the text lives in {@code objects}.
+     */
+    private static final byte RAW = 6;
+
+    private static final ScheduledExecutorService saveExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "ConfigSaveThread");
+        t.setDaemon(true);
+        return t;
+    });
+
     private final File file;
-    private final List<Field<?>> fields = new ArrayList<>();
+    private final Map<String, Integer> slots = new HashMap<>();
+    private String[] names = new String[8];
+    private byte[] kinds = new byte[8];
+    private long[] primitives = new long[8];
+    private Object[] objects = new Object[8];
+    private byte[] declared = new byte[8];
+    private int[] lines = new int[8];
+    private int size;
+    private Duration saveDebounce = Duration.ofMillis(500);
+    private ScheduledFuture<?> scheduledSave;
+    private CompletableFuture<Result<Void>> pendingSave;
+    private final Object writeLock = new Object();
+    private long renderedVersion;
+    private long writtenVersion;
+    private volatile long checksum;
+    private final List<Consumer<ConfigChange>> changeListeners = new CopyOnWriteArrayList<>();
+    private final Map<String, List<Consumer<ConfigChange>>> keyListeners = new ConcurrentHashMap<>();
 
     /**
      * Creates a new configuration bound to a file with the given name in the
      * provided directory path.
      * <p>
-     * If the file does not exist, it is created immediately. Uses .yml extension by default.
+     * If the file does not exist, it is created immediately; otherwise its entries are loaded.
+     * Uses .yml extension by default. Parse errors are logged with their line numbers.
      *
      * @param name the file name (e.g. {@code "config.yml"})
      * @param path the directory path in which the file will reside
@@ -58,19 +140,318 @@ public class Config {
         } catch (IOException e) {
             Result.Err(Component.text("Failed to create '" + name + "'"), new RuntimeException(e), false);
         }
+
+        Result<Void> loaded = load();
+        if (loaded.isErr()) {
+            loaded.print();
+        }
+    }
+
+    /**
+     * Streams the backing file and merges its entries into this configuration.
+     * <p>
+     * Entries that already exist are overwritten, new entries are appended. Lines that
+     * cannot be parsed are skipped; every other entry is still applied. If an up-to-date
+     * binary snapshot exists it is replayed instead of parsing the text.
+     *
+     * @return {@link Result#Ok()} on success, or an {@link Result.Err} naming every malformed line
+     */
+    public synchronized Result<Void> load() {
+        if (!file.exists() || file.length() == 0) {
+            return Result.Ok();
+        }
+
+        long cached = ConfigSnapshot.read(file.toPath(), this::loaded);
+        if (cached != ConfigSnapshot.MISS) {
+            checksum = cached;
+            return Result.Ok();
+        }
+
+        List<ConfigSnapshot.Entry> entries = new ArrayList<>();
+        CRC32 crc = new CRC32();
+        try (BufferedReader reader = reader(crc)) {
+            Result<Void> result = ConfigParser.parse(reader, file.getName(), (key, value, quoted, line) -> {
+                entries.add(new ConfigSnapshot.Entry(key, value, quoted, line));
+                loaded(key, value, quoted, line);
+            });
+            checksum = crc.getValue();
+            if (result.isOk()) {
+                writeSnapshot(checksum, entries);
+            }
+            return result;
+        } catch (IOException e) {
+            return Result.Err(
+                    Component.text("Failed to read config '" + file.getName() + "'"),
+                    new RuntimeException(e),
+                    false
+            );
+        }
+    }
+
+    /**
+     * Re-reads the backing file and applies only the entries whose value changed.
+     * <p>
+     * If the file content is unchanged since it was last read or written, nothing is parsed.
+     * Change listeners are notified on the calling thread. Keys removed from the file keep
+     * their current value.
+     *
+     * @return {@link Result#Ok()} on success, or an {@link Result.Err} naming every malformed line
+     */
+    public Result<Void> reload() {
+        Reload reload = read();
+        if (reload.values() != null) {
+            publish(apply(reload.values()));
+        }
+        return reload.result();
+    }
+
+    /**
+     * Starts watching the backing file for external edits on a background thread.
+     * <p>
+     * Changed files are read and parsed on the background thread. The changes are then
+     * applied as by {@link #reload()} and their events published on the server's main thread.
+     *
+     * @return {@link Result#Ok()} on success, or an {@link Result.Err} if the directory cannot be watched
+     */
+    public Result<Void> watch() {
+        try {
+            ConfigWatcher.getWatcher().watch(this);
+        } catch (IOException e) {
+            return Result.Err(
+                    Component.text("Failed to watch config '" + file.getName() + "'"),
+                    new RuntimeException(e),
+                    false
+            );
+        }
+        return Result.Ok();
+    }
+
+    /**
+     * Stops watching the backing file.
+     */
+    public void unwatch() {
+        ConfigWatcher.getWatcher().unwatch(this);
+    }
+
+    /**
+     * Stops the background thread that watches config files and closes its watch service.
+     * <p>
+     * Called from RoyaleCore's {@code onDisable()}; configs watched afterwards start a new thread.
+     */
+    @NotForDeveloperUse
+    public static void stopWatching() {
+        ConfigWatcher.shutdown();
+    }
+
+    /**
+     * Registers a listener notified of every key changed by a reload.
+     *
+     * @param listener the listener to notify
+     */
+    public void onChange(Consumer<ConfigChange> listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Registers a listener notified when the given key is changed by a reload.
+     *
+     * @param name     the field name to listen for
+     * @param listener the listener to notify
+     */
+    public void onChange(String name, Consumer<ConfigChange> listener) {
+        keyListeners.computeIfAbsent(name, _ -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * Returns the backing file.
+     *
+     * @return the YAML file of this configuration
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Reads the backing file and parses it if its content changed since it was last read or written.
+     * <p>
+     * The checksum is compared before anything is parsed. Nothing is applied, so this is safe to
+     * call off the main thread; pass the parsed values to {@link #apply(Map)} on the main thread.
+     *
+     * @return the parse outcome, with {@code null} values if the content is unchanged
+     */
+    Reload read() {
+        byte[] bytes;
+        try {
+            if (!file.exists()) {
+                return new Reload(Result.Ok(), null);
+            }
+            bytes = Files.readAllBytes(file.toPath());
+        } catch (IOException e) {
+            return new Reload(Result.Err(
+                    Component.text("Failed to read config '" + file.getName() + "'"),
+                    new RuntimeException(e),
+                    false
+            ), null);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        if (crc.getValue() == checksum) {
+            return new Reload(Result.Ok(), null);
+        }
+        checksum = crc.getValue();
+
+        Map<String, Object> parsed = new LinkedHashMap<>();
+        List<ConfigSnapshot.Entry> entries = new ArrayList<>();
+        Result<Void> result;
+        try {
+            result = ConfigParser.parse(new BufferedReader(new StringReader(new String(bytes, StandardCharsets.UTF_8))), file.getName(), (key, value, quoted, line) -> {
+                entries.add(new ConfigSnapshot.Entry(key, value, quoted, line));
+                parsed.put(key, quoted || value == null ? value : infer(value));
+            });
+        } catch (IOException e) {
+            return new Reload(Result.Err(
+                    Component.text("Failed to read config '" + file.getName() + "'"),
+                    new RuntimeException(e),
+                    false
+            ), null);
+        }
+
+        if (result.isOk()) {
+            writeSnapshot(checksum, entries);
+        }
+        return new Reload(result, parsed);
+    }
+
+    /**
+     * Applies values parsed by {@link #read()}. Must run on the thread that reads this configuration.
+     *
+     * @param parsed the parsed values, in file order
+     * @return one event per changed key
+     */
+    synchronized List<ConfigChange> apply(Map<String, Object> parsed) {
+        List<ConfigChange> changes = new ArrayList<>();
+        for (Map.Entry<String, Object> entry : parsed.entrySet()) {
+            String key = entry.getKey();
+            Object newValue = entry.getValue();
+            int slot = slot(key);
+
+            if (slot != -1 && declared[slot] != OBJECT) {
+                Object converted = convert(newValue, declared[slot]);
+                if (converted != null) {
+                    newValue = converted;
+                }
+            }
+
+            if (slot == -1) {
+                store(allocate(key), newValue);
+                changes.add(new ConfigChange(this, key, null, newValue));
+                continue;
+            }
+
+            Object oldValue = getValue(slot);
+            if (!Objects.equals(oldValue, newValue)) {
+                kinds[slot] = OBJECT;
+                store(slot, newValue);
+                changes.add(new ConfigChange(this, key, oldValue, newValue));
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Notifies listeners of the given changes on the calling thread.
+     *
+     * @param changes the changes to publish
+     */
+    void publish(List<ConfigChange> changes) {
+        for (ConfigChange change : changes) {
+            for (Consumer<ConfigChange> listener : changeListeners) {
+                listener.accept(change);
+            }
+            List<Consumer<ConfigChange>> listeners = keyListeners.get(change.key());
+            if (listeners == null) continue;
+            for (Consumer<ConfigChange> listener : listeners) {
+                listener.accept(change);
+            }
+        }
+    }
+
+    /**
+     * Writes the binary snapshot of the backing file; failures only cost the next startup a text parse.
+     *
+     * @param crc     the checksum of the backing file
+     * @param entries the entries parsed from the backing file
+     */
+    private void writeSnapshot(long crc, List<ConfigSnapshot.Entry> entries) {
+        try {
+            ConfigSnapshot.write(file.toPath(), crc, entries);
+        } catch (IOException e) {
+            Result.Err(
+                    () -> Component.text("Failed to write config snapshot for '" + file.getName() + "'"),
+                    new RuntimeException(e),
+                    true
+            ).print();
+        }
+    }
+
+    /**
+     * Opens a streaming UTF-8 reader over the backing file that feeds every byte into {@code crc}.
+     */
+    private BufferedReader reader(CRC32 crc) throws IOException {
+        return new BufferedReader(new InputStreamReader(
+                new CheckedInputStream(Files.newInputStream(file.toPath()), crc),
+                StandardCharsets.UTF_8
+        ));
     }
 
     /**
      * Adds a field to this configuration.
      * <p>
      * If another field with the same name already exists, it is not removed
-     * or replaced; it is the caller's responsibility to avoid duplicates
-     * or handle them when reading.
+     * or replaced and its current value is kept. If the default is a number or
+     * boolean, the kept value is converted to the default's type; a value that
+     * cannot be converted stays a string.
      *
      * @param field the field to add
+     * @return {@link Result#Ok()}, or an {@link Result.Err} naming the line of a kept value
+     * that cannot be converted to the default's type
+     */
+    public synchronized Result<Void> addField(Field<?> field) {
+        Integer existing = slots.get(field.name());
+        if (existing == null) {
+            int slot = allocate(field.name());
+            declared[slot] = kindOf(field.value());
+            store(slot, field.value());
+            return Result.Ok();
+        }
+
+        int slot = existing;
+        declared[slot] = kindOf(field.value());
+        if (conform(slot)) {
+            return Result.Ok();
+        }
+
+        Object kept = getValue(slot);
+        String where = lines[slot] > 0 ? "'" + file.getName() + "' line " + lines[slot] : "'" + file.getName() + "'";
+        return Result.Err(
+                () -> Component.text("Field '" + field.name() + "' in " + where + " is not a valid "
+                        + field.value().getClass().getSimpleName() + ": '" + kept + "'"),
+                false
+        );
+    }
+
+    /**
+     * Returns the stable slot of a field, for use with the slot-based accessors.
+     * <p>
+     * A slot stays valid for the lifetime of this configuration, including across renames.
+     *
+     * @param name the field name
+     * @return the slot of the field, or {@code -1} if no field with that name exists
      */
-    public void addField(Field<?> field) {
-        fields.add(field);
+    public int slot(String name) {
+        Integer slot = slots.get(name);
+        return slot == null ? -1 : slot;
     }
 
     /**
@@ -82,13 +463,7 @@ public class Config {
      */
     public boolean setFieldValue(Field<?> field, Object newValue) {
         if (field == null) return false;
-
-        int index = fields.indexOf(field);
-        if (index == -1) return false;
-
-        Field<Object> newField = new Field<>(field.name(), newValue);
-        fields.set(index, newField);
-        return true;
+        return setFieldValue(field.name(), newValue);
     }
 
     /**
@@ -99,18 +474,9 @@ public class Config {
      * @param newValue Optional new value; null to keep existing
      * @return Result Ok() if renamed, Err() if field not found
      */
-    public Result renameField(Field<?> field, String newName, Object newValue) {
+    public Result<Void> renameField(Field<?> field, String newName, Object newValue) {
         if (field == null) return Result.Err(Component.text("Field is null"), false);
-
-        int index = fields.indexOf(field);
-        if (index == -1) {
-            return Result.Err(Component.text("Field '" + field.name() + "' not found"), false);
-        }
-
-        Object valueToUse = newValue != null ? newValue : field.value();
-        Field<Object> newField = new Field<>(newName, valueToUse);
-        fields.set(index, newField);
-        return Result.Ok();
+        return renameField(field.name(), newName, newValue);
     }
 
     /**
@@ -120,37 +486,40 @@ public class Config {
      * @param newValue The new value
      * @return true if updated successfully, false if field not found
      */
-    public boolean setFieldValue(String name, Object newValue) {
-        Field<?> field = getField(name);
-        if (field == null) return false;
+    public synchronized boolean setFieldValue(String name, Object newValue) {
+        int slot = slot(name);
+        if (slot == -1) return false;
 
-        // Replace with new value (preserving generic type via raw cast)
-        Field<Object> newField = new Field<>(name, newValue);
-
-        int index = fields.indexOf(field);
-        fields.set(index, newField);
+        store(slot, newValue);
         return true;
     }
 
     /**
      * Renames an existing field and optionally updates its value.
+     * <p>
+     * The field keeps its slot.
      *
      * @param oldName  Original field name
      * @param newName  New field name
      * @param newValue Optional new value (null to keep existing)
-     * @return Result: Ok() if renamed, Err() if old field not found
+     * @return Result: Ok() if renamed, Err() if old field not found or the new name is taken
      */
-    public Result renameField(String oldName, String newName, Object newValue) {
-        Field<?> field = getField(oldName);
-        if (field == null) {
-            return Result.Err(Component.text("Field '" + oldName + "' not found"), false);
+    public synchronized Result<Void> renameField(String oldName, String newName, Object newValue) {
+        int slot = slot(oldName);
+        if (slot == -1) {
+            return Result.Err(() -> Component.text("Field '" + oldName + "' not found"), false);
+        }
+        if (!oldName.equals(newName) && slots.containsKey(newName)) {
+            return Result.Err(() -> Component.text("Field '" + newName + "' already exists"), false);
         }
 
-        Object valueToUse = newValue != null ? newValue : field.value();
-        Field<Object> newField = new Field<>(newName, valueToUse);
+        slots.remove(oldName);
+        slots.put(newName, slot);
+        names[slot] = newName;
 
-        int index = fields.indexOf(field);
-        fields.set(index, newField);
+        if (newValue != null) {
+            store(slot, newValue);
+        }
         return Result.Ok();
     }
 
@@ -171,21 +540,16 @@ public class Config {
     }
 
     /**
-     * Gets a field by its name.
+     * Gets a snapshot of a field by its name.
      * <p>
-     * This performs a linear search over the internal field list and returns
-     * the first field whose {@link Field#name()} matches the given name.
+     * This allocates a new {@link Field}; prefer the typed accessors in hot code.
      *
      * @param name the field name
      * @return the matching field, or {@code null} if no field with that name exists
      */
     public Field<?> getField(String name) {
-        for (Field<?> field : fields) {
-            if (field.name().equals(name)) {
-                return field;
-            }
-        }
-        return null;
+        int slot = slot(name);
+        return slot == -1 ? null : new Field<>(names[slot], getValue(slot));
     }
 
     /**
@@ -195,7 +559,7 @@ public class Config {
      * @return {@code true} if a field with the given name exists, {@code false} otherwise
      */
     public boolean exists(String name) {
-        return getField(name) != null;
+        return slots.containsKey(name);
     }
 
     /**
@@ -206,63 +570,713 @@ public class Config {
      * @return true if the field exists, false otherwise
      */
     public <T> boolean exists(Field<T> field) {
-        return getField(field) != null;
+        return field != null && exists(field.name());
     }
 
     /**
-     * Gets the value of the given field.
+     * Gets the current value of the given field.
      * <p>
-     * This is a convenience helper that returns {@link Field#value()}
-     * while preserving the generic type where possible.
+     * The value is looked up by the field's name, so stale {@link Field} snapshots
+     * still return the current value.
      *
      * @param field the field instance, may be {@code null}
      * @param <T>   the expected value type
-     * @return the field's value, or {@code null} if the field is {@code null}
+     * @return the field's current value, or {@code null} if the field is {@code null} or absent
      */
+    @SuppressWarnings("unchecked")
     public <T> T getField(Field<T> field) {
         if (field == null) {
             return null;
         }
-        return field.value();
+        int slot = slot(field.name());
+        return slot == -1 ? null : (T) getValue(slot);
+    }
+
+    /**
+     * Returns the value of a field by name as an {@code int}.
+     *
+     * @param name         the field name
+     * @param defaultValue the value returned if the field is absent or not numeric
+     * @return the field's value or {@code defaultValue}
+     */
+    public int getInt(String name, int defaultValue) {
+        int slot = slot(name);
+        return slot == -1 || !isNumeric(slot) ? defaultValue : getInt(slot);
+    }
+
+    /**
+     * Returns the value of a field by name as a {@code long}.
+     *
+     * @param name         the field name
+     * @param defaultValue the value returned if the field is absent or not numeric
+     * @return the field's value or {@code defaultValue}
+     */
+    public long getLong(String name, long defaultValue) {
+        int slot = slot(name);
+        return slot == -1 || !isNumeric(slot) ? defaultValue : getLong(slot);
+    }
+
+    /**
+     * Returns the value of a field by name as a {@code double}.
+     *
+     * @param name         the field name
+     * @param defaultValue the value returned if the field is absent or not numeric
+     * @return the field's value or {@code defaultValue}
+     */
+    public double getDouble(String name, double defaultValue) {
+        int slot = slot(name);
+        return slot == -1 || !isNumeric(slot) ? defaultValue : getDouble(slot);
+    }
+
+    /**
+     * Returns the value of a field by name as a {@code boolean}.
+     *
+     * @param name         the field name
+     * @param defaultValue the value returned if the field is absent or not a boolean
+     * @return the field's value or {@code defaultValue}
+     */
+    public boolean getBoolean(String name, boolean defaultValue) {
+        int slot = slot(name);
+        if (slot == -1) return defaultValue;
+        if (kinds[slot] == RAW) resolve(slot);
+        return kinds[slot] != BOOLEAN ? defaultValue : primitives[slot] != 0L;
+    }
+
+    /**
+     * Returns the value of a field by name as a string.
+     *
+     * @param name         the field name
+     * @param defaultValue the value returned if the field is absent or {@code null}
+     * @return the field's value or {@code defaultValue}
+     */
+    public String getString(String name, String defaultValue) {
+        int slot = slot(name);
+        if (slot == -1) return defaultValue;
+        String value = getString(slot);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * Returns the value in the given slot, boxing primitives.
+     *
+     * @param slot a slot obtained from {@link #slot(String)}
+     * @return the stored value
+     */
+    public Object getValue(int slot) {
+        if (kinds[slot] == RAW) resolve(slot);
+        long bits = primitives[slot];
+        return switch (kinds[slot]) {
+            case INT -> (int) bits;
+            case LONG -> bits;
+            case FLOAT -> (float) Double.longBitsToDouble(bits);
+            case DOUBLE -> Double.longBitsToDouble(bits);
+            case BOOLEAN -> bits != 0L;
+            default -> objects[slot];
+        };
+    }
+
+    /**
+     * Returns the numeric value in the given slot as an {@code int}.
+     *
+     * @param slot a slot obtained from {@link #slot(String)}
+     * @return the stored value
+     * @throws IllegalStateException if the slot does not hold a number
+     */
+    public int getInt(int slot) {
+        return (int) getLong(slot);
+    }
+
+    /**
+     * Returns the numeric value in the given slot as a {@code long}.
+     *
+     * @param slot a slot obtained from {@link #slot(String)}
+     * @return the stored value
+     * @throws IllegalStateException if the slot does not hold a number
+     */
+    public long getLong(int slot) {
+        if (kinds[slot] == RAW) resolve(slot);
+        return switch (kinds[slot]) {
+            case INT, LONG -> primitives[slot];
+            case FLOAT, DOUBLE -> (long) Double.longBitsToDouble(primitives[slot]);
+            default -> {
+                if (objects[slot] instanceof Number number) yield number.longValue();
+                throw notA("number", slot);
+            }
+        };
+    }
+
+    /**
+     * Returns the numeric value in the given slot as a {@code double}.
+     *
+     * @param slot a slot obtained from {@link #slot(String)}
+     * @return the stored value
+     * @throws IllegalStateException if the slot does not hold a number
+     */
+    public double getDouble(int slot) {
+        if (kinds[slot] == RAW) resolve(slot);
+        return switch (kinds[slot]) {
+            case INT, LONG -> primitives[slot];
+            case FLOAT, DOUBLE -> Double.longBitsToDouble(primitives[slot]);
+            default -> {
+                if (objects[slot] instanceof Number number) yield number.doubleValue();
+                throw notA("number", slot);
+            }
+        };
+    }
+
+    /**
+     * Returns the boolean value in the given slot.
+     *
+     * @param slot a slot obtained from {@link #slot(String)}
+     * @return the stored value
+     * @throws IllegalStateException if the slot does not hold a boolean
+     */
+    public boolean getBoolean(int slot) {
+        if (kinds[slot] == RAW) resolve(slot);
+        if (kinds[slot] != BOOLEAN) throw notA("boolean", slot);
+        return primitives[slot] != 0L;
+    }
+
+    /**
+     * Returns the value in the given slot as a string.
+     *
+     * @param slot a slot obtained from {@link #slot(String)}
+     * @return the stored value's string form, or {@code null} if the value is {@code null}
+     */
+    public String getString(int slot) {
+        if (kinds[slot] == OBJECT || kinds[slot] == RAW) {
+            Object value = objects[slot];
+            return value == null ? null : value.toString();
+        }
+        return String.valueOf(getValue(slot));
+    }
+
+    /**
+     * Stores an {@code int} in the given slot without boxing.
+     *
+     * @param slot  a slot obtained from {@link #slot(String)}
+     * @param value the new value
+     */
+    public synchronized void set(int slot, int value) {
+        objects[slot] = null;
+        kinds[slot] = INT;
+        primitives[slot] = value;
+    }
+
+    /**
+     * Stores a {@code long} in the given slot without boxing.
+     * <p>
+     * A slot holding an {@code int} keeps holding an {@code int} as long as the value fits,
+     * so {@link #getField(Field)} keeps returning the field's declared type.
+     *
+     * @param slot  a slot obtained from {@link #slot(String)}
+     * @param value the new value
+     */
+    public synchronized void set(int slot, long value) {
+        objects[slot] = null;
+        kinds[slot] = kinds[slot] == INT && value == (int) value ? INT : LONG;
+        primitives[slot] = value;
+    }
+
+    /**
+     * Stores a {@code float} in the given slot without boxing.
+     *
+     * @param slot  a slot obtained from {@link #slot(String)}
+     * @param value the new value
+     */
+    public synchronized void set(int slot, float value) {
+        objects[slot] = null;
+        kinds[slot] = FLOAT;
+        primitives[slot] = Double.doubleToRawLongBits(value);
+    }
+
+    /**
+     * Stores a {@code double} in the given slot without boxing.
+     * <p>
+     * A slot holding a {@code float} keeps holding a {@code float}; the value is narrowed,
+     * so {@link #getField(Field)} keeps returning the field's declared type.
+     *
+     * @param slot  a slot obtained from {@link #slot(String)}
+     * @param value the new value
+     */
+    public synchronized void set(int slot, double value) {
+        if (kinds[slot] == FLOAT) {
+            set(slot, (float) value);
+            return;
+        }
+        objects[slot] = null;
+        kinds[slot] = DOUBLE;
+        primitives[slot] = Double.doubleToRawLongBits(value);
+    }
+
+    /**
+     * Stores a {@code boolean} in the given slot without boxing.
+     *
+     * @param slot  a slot obtained from {@link #slot(String)}
+     * @param value the new value
+     */
+    public synchronized void set(int slot, boolean value) {
+        objects[slot] = null;
+        kinds[slot] = BOOLEAN;
+        primitives[slot] = value ? 1L : 0L;
+    }
+
+    /**
+     * Stores an arbitrary value in the given slot, unboxing well-known primitive wrappers.
+     *
+     * @param slot  a slot obtained from {@link #slot(String)}
+     * @param value the new value
+     */
+    public synchronized void set(int slot, Object value) {
+        store(slot, value);
+    }
+
+    /**
+     * Returns the number of fields in this configuration.
+     *
+     * @return the field count
+     */
+    public int size() {
+        return size;
     }
 
     /**
      * Serializes all fields and writes them to the backing YAML file, overwriting its contents.
      * <p>
      * The output format is standard YAML with one key/value entry per field.
-     * Values are written using standard YAML scalar formatting.
+     * Values are written using standard YAML scalar formatting. The write happens on the
+     * calling thread; use {@link #saveAsync()} from the main thread. A pending asynchronous
+     * save is covered by this write and its future completes with the same outcome.
      *
      * @return {@link Result#Ok()} on success, or {@link Result#Err(TextComponent, Exception, boolean)} on failure
      */
-    public Result save() {
+    public Result<Void> save() {
+        CompletableFuture<Result<Void>> future;
+        String content;
+        long version;
+        synchronized (this) {
+            future = pendingSave;
+            cancelScheduledSave();
+            content = render();
+            version = renderedVersion;
+        }
+
+        Result<Void> result = write(content, version);
+        if (future != null) {
+            future.complete(result);
+        }
+        return result;
+    }
+
+    /**
+     * Requests an asynchronous save.
+     * <p>
+     * All requests made within the debounce window (see {@link #setSaveDebounce(Duration)}) are
+     * merged into a single write of the latest state, performed on a background thread.
+     *
+     * @return a future completing with the outcome of the write that covers this request
+     */
+    public synchronized CompletableFuture<Result<Void>> saveAsync() {
+        if (pendingSave == null) {
+            pendingSave = new CompletableFuture<>();
+            scheduledSave = saveExecutor.schedule(this::flushPendingSave, saveDebounce.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return pendingSave;
+    }
+
+    /**
+     * Immediately writes a pending asynchronous save on the calling thread, if any.
+     * <p>
+     * Should be called in your plugin's {@code onDisable()} so no pending changes are lost.
+     *
+     * @return the outcome of the write, or {@link Result#Ok()} if no save was pending
+     */
+    public Result<Void> flush() {
+        CompletableFuture<Result<Void>> future;
+        String content;
+        long version;
+        synchronized (this) {
+            if (pendingSave == null) {
+                return Result.Ok();
+            }
+            future = pendingSave;
+            cancelScheduledSave();
+            content = render();
+            version = renderedVersion;
+        }
+
+        Result<Void> result = write(content, version);
+        future.complete(result);
+        return result;
+    }
+
+    /**
+     * Returns the window within which asynchronous save requests are merged.
+     *
+     * @return the save debounce window
+     */
+    public synchronized Duration getSaveDebounce() {
+        return saveDebounce;
+    }
+
+    /**
+     * Sets the window within which asynchronous save requests are merged.
+     *
+     * @param saveDebounce the new debounce window
+     */
+    public synchronized void setSaveDebounce(Duration saveDebounce) {
+        this.saveDebounce = saveDebounce;
+    }
+
+    /**
+     * Runs on the save thread once the debounce window of a pending save has elapsed.
+     */
+    private void flushPendingSave() {
+        CompletableFuture<Result<Void>> future;
+        String content;
+        long version;
+        synchronized (this) {
+            if (pendingSave == null) {
+                return;
+            }
+            future = pendingSave;
+            pendingSave = null;
+            scheduledSave = null;
+            content = render();
+            version = renderedVersion;
+        }
+
+        Result<Void> result = write(content, version);
+        if (result.isErr()) {
+            result.print();
+        }
+        future.complete(result);
+    }
+
+    /**
+     * Cancels a scheduled asynchronous save; callers must complete its future themselves.
+     */
+    private void cancelScheduledSave() {
+        if (scheduledSave != null) {
+            scheduledSave.cancel(false);
+            scheduledSave = null;
+        }
+        pendingSave = null;
+    }
+
+    /**
+     * Renders all fields as YAML and bumps the rendered version. Callers must hold this configuration's lock.
+     *
+     * @return the YAML document
+     */
+    private String render() {
+        renderedVersion++;
         StringBuilder builder = new StringBuilder();
-        for (int i = 0; i < fields.size(); i++) {
-            Field<?> field = fields.get(i);
-            builder.append(field.name())
+        for (int i = 0; i < size; i++) {
+            builder.append(names[i])
                     .append(": ")
-                    .append(formatYamlValue(field.value()));
-            if (i < fields.size() - 1) {
+                    .append(kinds[i] == RAW ? (String) objects[i] : formatYamlValue(getValue(i)));
+            if (i < size - 1) {
                 builder.append("\n");
             }
         }
+        return builder.toString();
+    }
 
-        try {
-            Files.writeString(file.toPath(), builder.toString(), StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            return Result.Err(
-                    Component.text("Failed to write config '" + file.getName() + "'"),
-                    new RuntimeException(e),
-                    false
-            );
+    /**
+     * Writes the content to a temporary sibling file, forces it to disk and atomically
+     * moves it over the backing file.
+     * <p>
+     * Writes are serialized; a document rendered before the last written one is discarded
+     * so that a slow writer can never overwrite newer content.
+     *
+     * @param content the document to write
+     * @param version the rendered version of the document
+     * @return {@link Result#Ok()} on success, or an {@link Result.Err} on failure
+     */
+    private Result<Void> write(String content, long version) {
+        Path target = file.toPath();
+        Path temp = target.resolveSibling(file.getName() + ".tmp");
+
+        synchronized (writeLock) {
+            if (version < writtenVersion) {
+                return Result.Ok();
+            }
+            writtenVersion = version;
+
+            try {
+                byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    channel.force(true);
+                }
+
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+
+                // Lets the watcher recognise and skip the events caused by our own write.
+                CRC32 crc = new CRC32();
+                crc.update(bytes);
+                checksum = crc.getValue();
+
+                List<ConfigSnapshot.Entry> entries = new ArrayList<>();
+                ConfigParser.parse(new BufferedReader(new StringReader(content)), file.getName(),
+                        (key, value, quoted, line) -> entries.add(new ConfigSnapshot.Entry(key, value, quoted, line)));
+                writeSnapshot(checksum, entries);
+            } catch (IOException e) {
+                return Result.Err(
+                        Component.text("Failed to write config '" + file.getName() + "'"),
+                        new RuntimeException(e),
+                        false
+                );
+            }
         }
 
         return Result.Ok();
     }
 
+    /**
+     * Appends a new slot for the given name, growing the slot arrays if needed.
+     *
+     * @param name the field name
+     * @return the new slot
+     */
+    private int allocate(String name) {
+        if (size == names.length) {
+            int capacity = size * 2;
+            names = Arrays.copyOf(names, capacity);
+            kinds = Arrays.copyOf(kinds, capacity);
+            primitives = Arrays.copyOf(primitives, capacity);
+            objects = Arrays.copyOf(objects, capacity);
+            declared = Arrays.copyOf(declared, capacity);
+            lines = Arrays.copyOf(lines, capacity);
+        }
+
+        int slot = size++;
+        names[slot] = name;
+        slots.put(name, slot);
+        return slot;
+    }
+
+    /**
+     * Applies a single entry parsed from the backing file.
+     *
+     * @param key    the entry key
+     * @param value  the entry value or raw scalar text
+     * @param quoted whether the value is a quoted string
+     * @param line   the line the entry was read from
+     */
+    private void loaded(String key, String value, boolean quoted, int line) {
+        int slot = slot(key);
+        if (slot == -1) {
+            slot = allocate(key);
+        }
+        lines[slot] = line;
+
+        if (quoted || value == null) {
+            store(slot, value);
+            return;
+        }
+
+        objects[slot] = value;
+        kinds[slot] = RAW;
+        primitives[slot] = 0L;
+    }
+
+    /**
+     * Converts a raw scalar read from disk to its field's declared type, or infers its type if
+     * the field has none, and stores it in its typed form.
+     *
+     * @param slot a slot holding a {@code RAW} value
+     */
+    private synchronized void resolve(int slot) {
+        if (kinds[slot] != RAW) return;
+        conform(slot);
+    }
+
+    /**
+     * Stores the value of a slot as its declared type. A raw scalar that cannot be converted is kept as a string.
+     *
+     * @param slot the slot
+     * @return {@code false} if the value cannot be converted to the declared type
+     */
+    private boolean conform(int slot) {
+        byte kind = declared[slot];
+        if (kind == OBJECT) {
+            if (kinds[slot] == RAW) {
+                store(slot, infer((String) objects[slot]));
+            }
+            return true;
+        }
+
+        Object value = kinds[slot] == RAW ? objects[slot] : getValue(slot);
+        Object converted = convert(value, kind);
+        if (converted == null) {
+            if (kinds[slot] == RAW) {
+                store(slot, value);
+            }
+            return false;
+        }
+
+        // Reset the kind so that set(int, long) and set(int, double) do not keep a narrower one.
+        kinds[slot] = OBJECT;
+        store(slot, converted);
+        return true;
+    }
+
+    /**
+     * Returns the kind a default value fixes for its field.
+     *
+     * @param value the default value
+     * @return the primitive kind of the value, or {@code OBJECT} if it is not a well-known primitive wrapper
+     */
+    private static byte kindOf(Object value) {
+        return switch (value) {
+            case Integer _ -> INT;
+            case Long _ -> LONG;
+            case Float _ -> FLOAT;
+            case Double _ -> DOUBLE;
+            case Boolean _ -> BOOLEAN;
+            case null, default -> OBJECT;
+        };
+    }
+
+    /**
+     * Converts a value read from disk, or a value of another numeric type, to the given kind.
+     *
+     * @param value the raw scalar text or a typed value
+     * @param kind  the target kind
+     * @return the converted value, or {@code null} if it does not represent a value of that kind
+     */
+    private static Object convert(Object value, byte kind) {
+        if (kind == BOOLEAN) {
+            if (value instanceof Boolean) return value;
+            if (value instanceof String text && (text.equalsIgnoreCase("true") || text.equalsIgnoreCase("false"))) {
+                return text.equalsIgnoreCase("true");
+            }
+            return null;
+        }
+
+        if (value instanceof Number n && !Double.isFinite(n.doubleValue())) {
+            return kind == INT || kind == LONG ? null : narrow(n.doubleValue(), kind);
+        }
+
+        BigDecimal number;
+        try {
+            number = switch (value) {
+                case Integer i -> BigDecimal.valueOf(i);
+                case Long l -> BigDecimal.valueOf(l);
+                case Number n -> new BigDecimal(n.toString());
+                case String text when looksNumeric(text) -> new BigDecimal(text);
+                case null, default -> null;
+            };
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (number == null) {
+            return null;
+        }
+
+        try {
+            return switch (kind) {
+                case INT -> number.intValueExact();
+                case LONG -> number.longValueExact();
+                default -> narrow(number.doubleValue(), kind);
+            };
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    private static Object narrow(double value, byte kind) {
+        return kind == FLOAT ? (Object) (float) value : (Object) value;
+    }
+
+    /**
+     * Converts an unquoted scalar into a boolean, number or string.
+     *
+     * @param text the raw scalar text
+     * @return a {@link Boolean}, {@link Integer}, {@link Long}, {@link Double} or the text itself
+     */
+    private static Object infer(String text) {
+        if (text.equalsIgnoreCase("true") || text.equalsIgnoreCase("false")) {
+            return text.equalsIgnoreCase("true");
+        }
+
+        if (looksNumeric(text)) {
+            try {
+                long value = Long.parseLong(text);
+                return value == (int) value ? (Object) (int) value : (Object) value;
+            } catch (NumberFormatException ignored) {
+            }
+            try {
+                return Double.parseDouble(text);
+            } catch (NumberFormatException ignored) {
+            }
+        }
+
+        return text;
+    }
+
+    /**
+     * Cheap pre-check so that only plain decimal literals reach the number parsers.
+     */
+    private static boolean looksNumeric(String text) {
+        boolean digit = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digit = true;
+            } else if (c != '-' && c != '+' && c != '.' && c != 'e' && c != 'E') {
+                return false;
+            }
+        }
+        return digit;
+    }
+
+    /**
+     * Stores a value in a slot, keeping well-known primitive wrappers unboxed.
+     *
+     * @param slot  the target slot
+     * @param value the value to store
+     */
+    private void store(int slot, Object value) {
+        switch (value) {
+            case Integer i -> set(slot, i.intValue());
+            case Long l -> set(slot, l.longValue());
+            case Float f -> set(slot, f.floatValue());
+            case Double d -> set(slot, d.doubleValue());
+            case Boolean b -> set(slot, b.booleanValue());
+            case null, default -> {
+                objects[slot] = value;
+                kinds[slot] = OBJECT;
+                primitives[slot] = 0L;
+            }
+        }
+    }
+
+    private boolean isNumeric(int slot) {
+        if (kinds[slot] == RAW) resolve(slot);
+        byte kind = kinds[slot];
+        return kind == INT || kind == LONG || kind == FLOAT || kind == DOUBLE || objects[slot] instanceof Number;
+    }
+
+    private IllegalStateException notA(String type, int slot) {
+        return new IllegalStateException("Field '" + names[slot] + "' is not a " + type);
+    }
+
     /**
      * Formats values for YAML output.
      * <p>
-     * Strings are quoted only if they contain special characters, numbers/booleans/null are written as-is.
+     * Numbers, booleans and null are written as-is. Strings are written unquoted only if {@link ConfigParser}
+     * and {@link #infer(String)} would read them back as the same string; otherwise they are single-quoted,
+     * or double-quoted with escapes if they contain control characters such as line breaks.
      *
      * @param value the value to format
      * @return a YAML-safe string representation
@@ -275,10 +1289,68 @@ public class Config {
             return value.toString();
         }
         String str = value.toString();
-        // Simple quoting for strings with special chars (space, :, #, etc.)
-        if (str.contains(" ") || str.contains(":") || str.contains("#") || str.isEmpty()) {
-            return "'" + str.replace("'", "''") + "'";
+        if (hasControlCharacters(str)) {
+            return doubleQuoted(str);
+        }
+        if (isPlainSafe(str)) {
+            return str;
+        }
+        return "'" + str.replace("'", "''") + "'";
+    }
+
+    /**
+     * Checks whether a string survives being written unquoted: it is not read back as null, a boolean or
+     * a number, has no surrounding whitespace, does not start with a YAML indicator and contains nothing
+     * that would end the value early.
+     */
+    private static boolean isPlainSafe(String str) {
+        if (str.isEmpty() || !str.equals(str.strip())) return false;
+        if (str.equals("~") || str.equalsIgnoreCase("null")) return false;
+        if ("-?:,[]{}#&*!|>'\"%@`".indexOf(str.charAt(0)) != -1) return false;
+        if (str.contains(": ") || str.endsWith(":") || str.contains(" #") || str.contains("\t#")) return false;
+        return infer(str) instanceof String;
+    }
+
+    private static boolean hasControlCharacters(String str) {
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            if (c < 0x20 && c != '\t' || c == 0x7F) return true;
         }
-        return str;
+        return false;
+    }
+
+    /**
+     * Writes a string as a double-quoted scalar using the escapes {@link ConfigParser} understands.
+     */
+    private static String doubleQuoted(String str) {
+        StringBuilder builder = new StringBuilder(str.length() + 2).append('"');
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                case '\0' -> builder.append("\\0");
+                default -> {
+                    if (c < 0x20 || c == 0x7F) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    /**
+     * The outcome of {@link #read()}.
+     *
+     * @param result the parse outcome
+     * @param values the parsed values in file order, or {@code null} if the file is unchanged or unreadable
+     */
+    record Reload(Result<Void> result, Map<String, Object> values) {
     }
 }
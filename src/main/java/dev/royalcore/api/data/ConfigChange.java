@@ -0,0 +1,62 @@
+package dev.royalcore.api.data;
+
+/**
+ * Describes a single key whose value changed when a {@link Config} was reloaded.
+ *
+ * @param config   the configuration that changed
+ * @param key      the changed field name
+ * @param oldValue the previous value, or {@code null} if the key is new
+ * @param newValue the new value
+ */
+public record ConfigChange(Config config, String key, Object oldValue, Object newValue) {
+
+    /**
+     * Returns the new value as an {@code int}.
+     *
+     * @param defaultValue the value returned if the new value is not numeric
+     * @return the new value or {@code defaultValue}
+     */
+    public int asInt(int defaultValue) {
+        return newValue instanceof Number number ? number.intValue() : defaultValue;
+    }
+
+    /**
+     * Returns the new value as a {@code long}.
+     *
+     * @param defaultValue the value returned if the new value is not numeric
+     * @return the new value or {@code defaultValue}
+     */
+    public long asLong(long defaultValue) {
+        return newValue instanceof Number number ? number.longValue() : defaultValue;
+    }
+
+    /**
+     * Returns the new value as a {@code double}.
+     *
+     * @param defaultValue the value returned if the new value is not numeric
+     * @return the new value or {@code defaultValue}
+     */
+    public double asDouble(double defaultValue) {
+        return newValue instanceof Number number ? number.doubleValue() : defaultValue;
+    }
+
+    /**
+     * Returns the new value as a {@code boolean}.
+     *
+     * @param defaultValue the value returned if the new value is not a boolean
+     * @return the new value or {@code defaultValue}
+     */
+    public boolean asBoolean(boolean defaultValue) {
+        return newValue instanceof Boolean bool ? bool : defaultValue;
+    }
+
+    /**
+     * Returns the new value as a string.
+     *
+     * @return the new value's string form, or {@code null} if it is {@code null}
+     */
+    public String asString() {
+        return newValue == null ? null : newValue.toString();
+    }
+
+}
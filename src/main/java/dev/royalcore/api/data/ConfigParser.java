@@ -0,0 +1,212 @@
+package dev.royalcore.api.data;
+
+import dev.royalcore.api.errors.Result;
+import net.kyori.adventure.text.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Streaming parser for the flat {@code key: value} YAML subset written by {@link Config#save()}.
+ * <p>
+ * The parser reads one line at a time and never builds a document tree. Unquoted scalars are
+ * handed out as raw text so that {@link Config} can defer type conversion until first access;
+ * single- and double-quoted scalars are unescaped eagerly because they are always strings.
+ */
+final class ConfigParser {
+
+    private ConfigParser() {
+    }
+
+    /**
+     * Parses every entry of the given reader.
+     * <p>
+     * Malformed lines are skipped and reported together in the returned error; all
+     * well-formed lines are still handed to {@code handler}.
+     *
+     * @param reader   the source to read
+     * @param fileName the file name used in error messages
+     * @param handler  receives every parsed entry in file order
+     * @return {@link Result#Ok()} if every line parsed, otherwise an {@link Result.Err} listing each bad line
+     * @throws IOException if reading fails
+     */
+    static Result<Void> parse(BufferedReader reader, String fileName, EntryHandler handler) throws IOException {
+        List<String> problems = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+
+        String line;
+        int number = 0;
+        while ((line = reader.readLine()) != null) {
+            number++;
+            String problem = parseLine(line, number, seen, handler);
+            if (problem != null) {
+                problems.add("line " + number + ": " + problem);
+            }
+        }
+
+        if (problems.isEmpty()) {
+            return Result.Ok();
+        }
+        return Result.Err(
+                Component.text("Failed to parse config '" + fileName + "': " + String.join("; ", problems)),
+                false
+        );
+    }
+
+    /**
+     * Parses a single line.
+     *
+     * @return a description of the problem, or {@code null} if the line was valid or ignorable
+     */
+    private static String parseLine(String line, int number, Set<String> seen, EntryHandler handler) {
+        if (line.isBlank()) return null;
+
+        char first = line.charAt(0);
+        if (first == '#') return null;
+        if (line.startsWith("---") || line.startsWith("...")) return null;
+        if (first == ' ' || first == '\t') {
+            return line.stripLeading().startsWith("#") ? null : "nested values are not supported";
+        }
+
+        int colon = keySeparator(line);
+        if (colon == -1) return "expected 'key: value'";
+
+        String key = line.substring(0, colon).strip();
+        if (key.isEmpty()) return "missing key";
+        if (!seen.add(key)) return "duplicate key '" + key + "'";
+
+        int start = colon + 1;
+        while (start < line.length() && (line.charAt(start) == ' ' || line.charAt(start) == '\t')) start++;
+
+        if (start == line.length()) {
+            handler.accept(key, null, false, number);
+            return null;
+        }
+
+        char quote = line.charAt(start);
+        if (quote == '\'') return singleQuoted(line, start, key, number, handler);
+        if (quote == '"') return doubleQuoted(line, start, key, number, handler);
+
+        int end = line.length();
+        for (int i = start; i < line.length(); i++) {
+            if (line.charAt(i) == '#' && (line.charAt(i - 1) == ' ' || line.charAt(i - 1) == '\t')) {
+                end = i;
+                break;
+            }
+        }
+
+        String value = line.substring(start, end).strip();
+        handler.accept(key, value.equals("~") || value.equals("null") ? null : value, false, number);
+        return null;
+    }
+
+    private static String singleQuoted(String line, int start, String key, int number, EntryHandler handler) {
+        StringBuilder builder = new StringBuilder();
+        int i = start + 1;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < line.length() && line.charAt(i + 1) == '\'') {
+                    builder.append('\'');
+                    i += 2;
+                    continue;
+                }
+                String trailing = trailing(line, i + 1);
+                if (trailing != null) return trailing;
+                handler.accept(key, builder.toString(), true, number);
+                return null;
+            }
+            builder.append(c);
+            i++;
+        }
+        return "unterminated single-quoted string";
+    }
+
+    private static String doubleQuoted(String line, int start, String key, int number, EntryHandler handler) {
+        StringBuilder builder = new StringBuilder();
+        int i = start + 1;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                String trailing = trailing(line, i + 1);
+                if (trailing != null) return trailing;
+                handler.accept(key, builder.toString(), true, number);
+                return null;
+            }
+            if (c == '\\') {
+                if (i + 1 >= line.length()) break;
+                char escaped = line.charAt(i + 1);
+                switch (escaped) {
+                    case 'n' -> builder.append('\n');
+                    case 't' -> builder.append('\t');
+                    case 'r' -> builder.append('\r');
+                    case '0' -> builder.append('\0');
+                    case '"', '\\', '/', ' ' -> builder.append(escaped);
+                    case 'u' -> {
+                        if (i + 6 > line.length()) return "truncated unicode escape";
+                        try {
+                            builder.append((char) Integer.parseInt(line.substring(i + 2, i + 6), 16));
+                        } catch (NumberFormatException e) {
+                            return "invalid unicode escape";
+                        }
+                        i += 4;
+                    }
+                    default -> {
+                        return "unknown escape '\\" + escaped + "'";
+                    }
+                }
+                i += 2;
+                continue;
+            }
+            builder.append(c);
+            i++;
+        }
+        return "unterminated double-quoted string";
+    }
+
+    /**
+     * Validates that only whitespace or a comment follows a closing quote.
+     */
+    private static String trailing(String line, int from) {
+        for (int i = from; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '#') return null;
+            if (c != ' ' && c != '\t') return "unexpected text after closing quote";
+        }
+        return null;
+    }
+
+    /**
+     * Finds the first ':' followed by whitespace or the end of the line.
+     */
+    private static int keySeparator(String line) {
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) != ':') continue;
+            if (i + 1 == line.length() || line.charAt(i + 1) == ' ' || line.charAt(i + 1) == '\t') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Receives parsed entries.
+     */
+    @FunctionalInterface
+    interface EntryHandler {
+        /**
+         * Accepts a single parsed entry.
+         *
+         * @param key    the entry key
+         * @param value  the unescaped value, the raw scalar text if unquoted, or {@code null} for YAML null
+         * @param quoted whether the value was quoted and is therefore always a string
+         * @param line   the 1-based line number of the entry
+         */
+        void accept(String key, String value, boolean quoted, int line);
+    }
+
+}
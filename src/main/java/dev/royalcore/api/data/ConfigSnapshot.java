@@ -0,0 +1,172 @@
+package dev.royalcore.api.data;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Compact binary cache of the entries parsed from a {@link Config} file.
+ * <p>
+ * The snapshot sits next to the YAML file and is keyed by the size, modification time and
+ * CRC32 of the YAML file it was built from. On startup it is memory-mapped and replayed
+ * instead of re-parsing the text; if any key component differs it is ignored. The YAML file
+ * always stays the source of truth.
+ * <p>
+ * Layout (big-endian): magic, version, source size, source mtime, source CRC32, entry count,
+ * then per entry a tag byte, the source line and the length-prefixed UTF-8 key and value.
+ */
+final class ConfigSnapshot {
+
+    /**
+     * Returned by {@link #read} when the snapshot is missing, stale or corrupt.
+     */
+    static final long MISS = -1L;
+
+    private static final int MAGIC = 0x52434346; // "RCCF"
+    private static final int VERSION = 2;
+
+    private static final byte NULL = 0;
+    private static final byte RAW = 1;
+    private static final byte QUOTED = 2;
+
+    private ConfigSnapshot() {
+    }
+
+    /**
+     * Returns the snapshot path belonging to a YAML file.
+     *
+     * @param source the YAML file
+     * @return the sibling snapshot path
+     */
+    static Path pathOf(Path source) {
+        return source.resolveSibling(source.getFileName() + ".cache");
+    }
+
+    /**
+     * Replays a snapshot into {@code handler} if it matches the current source file.
+     * <p>
+     * The header is fully validated before any entry is handed out.
+     *
+     * @param source  the YAML file
+     * @param handler receives every cached entry in file order
+     * @return the CRC32 of the source file, or {@link #MISS} if the snapshot cannot be used
+     */
+    static long read(Path source, ConfigParser.EntryHandler handler) {
+        Path snapshot = pathOf(source);
+        if (!Files.isRegularFile(snapshot)) {
+            return MISS;
+        }
+
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) return MISS;
+            if (buffer.getLong() != Files.size(source)) return MISS;
+            if (buffer.getLong() != Files.getLastModifiedTime(source).toMillis()) return MISS;
+
+            long crc = buffer.getLong();
+            if (crc != checksum(source)) return MISS;
+
+            int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                byte tag = buffer.get();
+                int line = buffer.getInt();
+                String key = string(buffer);
+                String value = tag == NULL ? null : string(buffer);
+                handler.accept(key, value, tag == QUOTED, line);
+            }
+            return crc;
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+            return MISS;
+        }
+    }
+
+    /**
+     * Writes a snapshot for the current state of the source file.
+     * <p>
+     * The snapshot is written to a temporary file and atomically moved into place.
+     *
+     * @param source  the YAML file the entries were parsed from
+     * @param crc     the CRC32 of the source file
+     * @param entries the parsed entries in file order
+     * @throws IOException if the snapshot cannot be written
+     */
+    static void write(Path source, long crc, List<Entry> entries) throws IOException {
+        Path snapshot = pathOf(source);
+        Path temp = snapshot.resolveSibling(snapshot.getFileName() + ".tmp");
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(Files.size(source));
+            out.writeLong(Files.getLastModifiedTime(source).toMillis());
+            out.writeLong(crc);
+            out.writeInt(entries.size());
+
+            for (Entry entry : entries) {
+                out.writeByte(entry.value() == null ? NULL : entry.quoted() ? QUOTED : RAW);
+                out.writeInt(entry.line());
+                string(out, entry.key());
+                if (entry.value() != null) {
+                    string(out, entry.value());
+                }
+            }
+        }
+
+        try {
+            Files.move(temp, snapshot, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Computes the CRC32 of a file through a read-only memory mapping.
+     */
+    private static long checksum(Path source) throws IOException {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            CRC32 crc = new CRC32();
+            crc.update(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            return crc.getValue();
+        }
+    }
+
+    private static String string(MappedByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void string(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * A single parsed entry as stored in the snapshot.
+     *
+     * @param key    the entry key
+     * @param value  the unescaped or raw value, or {@code null}
+     * @param quoted whether the value was a quoted string
+     * @param line   the 1-based line the entry was read from
+     */
+    record Entry(String key, String value, boolean quoted, int line) {
+    }
+
+}
@@ -0,0 +1,171 @@
+package dev.royalcore.api.data;
+
+import dev.royalcore.Main;
+import org.bukkit.Bukkit;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Watches the directories of {@link Config} files with a single {@link WatchService}
+ * on one background thread and reloads configs whose files changed.
+ */
+final class ConfigWatcher {
+
+    /**
+     * Bursts of file events (editors often write a file in several steps) are merged
+     * by waiting this long after the first event before reloading.
+     */
+    private static final long SETTLE_MILLIS = 50L;
+
+    private static ConfigWatcher watcher;
+
+    private final WatchService service;
+    private final Thread thread;
+    private final Map<Path, WatchKey> directories = new HashMap<>();
+    private final Map<Path, Config> configs = new ConcurrentHashMap<>();
+
+    private ConfigWatcher() throws IOException {
+        service = FileSystems.getDefault().newWatchService();
+
+        thread = new Thread(this::run, "ConfigWatchThread");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Returns the shared watcher, starting its thread on first use.
+     *
+     * @return the shared watcher
+     */
+    static synchronized ConfigWatcher getWatcher() {
+        if (watcher == null) {
+            try {
+                watcher = new ConfigWatcher();
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to create the config watch service", e);
+            }
+        }
+        return watcher;
+    }
+
+    /**
+     * Closes the shared watch service and stops its thread, if it was started.
+     */
+    static synchronized void shutdown() {
+        if (watcher == null) return;
+
+        watcher.thread.interrupt();
+        try {
+            watcher.service.close();
+        } catch (IOException ignored) {
+        }
+        watcher = null;
+    }
+
+    /**
+     * Starts watching the file of the given config.
+     *
+     * @param config the config to watch
+     * @throws IOException if the directory cannot be registered
+     */
+    synchronized void watch(Config config) throws IOException {
+        Path file = config.getFile().toPath().toAbsolutePath();
+        Path directory = file.getParent();
+
+        if (!directories.containsKey(directory)) {
+            directories.put(directory, directory.register(
+                    service,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY
+            ));
+        }
+        configs.put(file, config);
+    }
+
+    /**
+     * Stops watching the file of the given config, releasing its directory once unused.
+     *
+     * @param config the config to stop watching
+     */
+    synchronized void unwatch(Config config) {
+        Path file = config.getFile().toPath().toAbsolutePath();
+        if (!configs.remove(file, config)) return;
+
+        Path directory = file.getParent();
+        for (Path watched : configs.keySet()) {
+            if (watched.getParent().equals(directory)) return;
+        }
+
+        WatchKey key = directories.remove(directory);
+        if (key != null) key.cancel();
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                Set<Config> changed = new LinkedHashSet<>();
+                collect(key, changed);
+
+                Thread.sleep(SETTLE_MILLIS);
+                while ((key = service.poll()) != null) {
+                    collect(key, changed);
+                }
+
+                for (Config config : changed) {
+                    reload(config);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ignored) {
+        }
+    }
+
+    private void collect(WatchKey key, Set<Config> changed) {
+        Path directory = (Path) key.watchable();
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                for (Map.Entry<Path, Config> entry : configs.entrySet()) {
+                    if (entry.getKey().getParent().equals(directory)) changed.add(entry.getValue());
+                }
+                continue;
+            }
+
+            Config config = configs.get(directory.resolve((Path) event.context()));
+            if (config != null) changed.add(config);
+        }
+
+        key.reset();
+    }
+
+    /**
+     * Reads and parses a config on the watch thread, then applies and publishes its changes on the main thread.
+     */
+    private void reload(Config config) {
+        Config.Reload reload = config.read();
+        if (reload.result().isErr()) {
+            reload.result().print();
+        }
+        if (reload.values() == null) return;
+
+        Main plugin = Main.getPlugin();
+        if (plugin != null && plugin.isEnabled()) {
+            Bukkit.getScheduler().runTask(plugin, () -> config.publish(config.apply(reload.values())));
+        } else {
+            config.publish(config.apply(reload.values()));
+        }
+    }
+
+}
@@ -1,26 +1,44 @@
 package dev.royalcore.api.data;
 
 import com.google.gson.Gson;
+import dev.royalcore.api.data.DatabaseStatistics.Operation;
+import dev.royalcore.internal.jfr.DatabaseOperationEvent;
+import lombok.Getter;
 import org.bukkit.plugin.Plugin;
 
 import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
 import java.sql.*;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.*;
+import java.util.function.BiConsumer;
+import java.util.function.ToLongFunction;
 
 /**
  * Simple asynchronous SQLite database helper for RoyaleCore.
  * <p>
  * This class manages a single SQLite connection and provides table-scoped
  * {@link DatabaseSession} instances for async CRUD-style operations.
+ * Every table operation is timed and recorded in the database's {@link DatabaseStatistics}.
  */
 public class Database {
+    private static final Set<Database> openDatabases = ConcurrentHashMap.newKeySet();
+
     private final String dbPath;
     private final ExecutorService dbExecutor;
     private final Plugin plugin;
     private final Map<String, DatabaseSession> tableCache = new ConcurrentHashMap<>();
     private final Gson gson = new Gson();
+    /**
+     * Latency, volume and slow-operation statistics for every table of this database.
+     */
+    @Getter
+    private final DatabaseStatistics statistics = new DatabaseStatistics();
     private Connection connection;
 
     /**
@@ -39,6 +57,24 @@ public class Database {
         });
     }
 
+    /**
+     * Returns all databases that are currently connected.
+     *
+     * @return an unmodifiable view of the open databases
+     */
+    public static Collection<Database> getOpenDatabases() {
+        return Collections.unmodifiableSet(openDatabases);
+    }
+
+    /**
+     * Returns the path this database was created with.
+     *
+     * @return the database path
+     */
+    public String getPath() {
+        return dbPath;
+    }
+
     /**
      * Opens a connection to the configured SQLite database.
      *
@@ -54,6 +90,8 @@ public class Database {
             stmt.execute("PRAGMA journal_mode = WAL;");
             stmt.execute("PRAGMA synchronous = NORMAL;");
         }
+
+        openDatabases.add(this);
     }
 
     /**
@@ -62,6 +100,7 @@ public class Database {
      * Should be called in your plugin's {@code onDisable()}.
      */
     public void shutdown() {
+        openDatabases.remove(this);
         dbExecutor.shutdown();
         try {
             if (!dbExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
@@ -118,11 +157,84 @@ public class Database {
         return future;
     }
 
+    /**
+     * Submits a table operation and records its latency and volume in {@link #getStatistics()}.
+     *
+     * @param task         the callable to execute
+     * @param context      a short description used in error logging and the slow-operation log
+     * @param table        the physical table the operation targets
+     * @param operation    the kind of operation
+     * @param rows         extracts the number of rows touched from the task result
+     * @param bytesWritten extracts the number of value bytes written from the task result
+     * @param <T>          the result type of the callable
+     * @return a {@link CompletableFuture} representing the task result
+     */
+    private <T> CompletableFuture<T> runAsync(
+            Callable<T> task,
+            String context,
+            String table,
+            Operation operation,
+            ToLongFunction<T> rows,
+            ToLongFunction<T> bytesWritten
+    ) {
+        return runAsync(() -> timed(task, context, table, operation, rows, bytesWritten), context);
+    }
+
+    /**
+     * Runs a table operation on the calling (database) thread and records its latency and volume.
+     *
+     * @param task         the callable to execute
+     * @param context      a short description used in the slow-operation log
+     * @param table        the physical table the operation targets
+     * @param operation    the kind of operation
+     * @param rows         extracts the number of rows touched from the task result
+     * @param bytesWritten extracts the number of value bytes written from the task result
+     * @param <T>          the result type of the callable
+     * @return the task result
+     * @throws Exception if the task throws
+     */
+    private <T> T timed(
+            Callable<T> task,
+            String context,
+            String table,
+            Operation operation,
+            ToLongFunction<T> rows,
+            ToLongFunction<T> bytesWritten
+    ) throws Exception {
+        DatabaseOperationEvent event = new DatabaseOperationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        boolean failed = true;
+        long touched = 0L;
+        long bytes = 0L;
+        try {
+            T result = task.call();
+            touched = rows.applyAsLong(result);
+            bytes = bytesWritten.applyAsLong(result);
+            failed = false;
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            statistics.record(table, operation, elapsed, touched, bytes, failed, context);
+
+            if (event.shouldCommit()) {
+                event.database = dbPath;
+                event.table = table;
+                event.operation = operation.name();
+                event.rows = touched;
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
     /**
      * Table/session abstraction; all methods are asynchronous and thread-safe.
      */
     public class DatabaseSession {
         private final String tableName;
+        private final List<BiConsumer<String, Object>> writeListeners = new CopyOnWriteArrayList<>();
+        private final List<Runnable> deleteListeners = new CopyOnWriteArrayList<>();
 
         /**
          * Creates a new session bound to a specific table name.
@@ -133,6 +245,46 @@ public class Database {
             this.tableName = tableName;
         }
 
+        /**
+         * Registers a callback invoked on the database thread after every successful
+         * {@link #write(String, Object)} to this table, in write order.
+         * <p>
+         * Listeners run once the write has been recorded in the statistics, so their run time is not
+         * counted as write latency. A listener that throws is logged and does not fail the write.
+         *
+         * @param listener receives the written key and the original value
+         */
+        public void onWrite(BiConsumer<String, Object> listener) {
+            writeListeners.add(listener);
+        }
+
+        /**
+         * Registers a callback invoked on the database thread after this table has been dropped.
+         *
+         * @param listener the callback to run
+         */
+        public void onDelete(Runnable listener) {
+            deleteListeners.add(listener);
+        }
+
+        /**
+         * Removes a callback registered with {@link #onWrite(BiConsumer)}.
+         *
+         * @param listener the exact listener instance that was registered
+         */
+        public void removeWriteListener(BiConsumer<String, Object> listener) {
+            writeListeners.remove(listener);
+        }
+
+        /**
+         * Removes a callback registered with {@link #onDelete(Runnable)}.
+         *
+         * @param listener the exact listener instance that was registered
+         */
+        public void removeDeleteListener(Runnable listener) {
+            deleteListeners.remove(listener);
+        }
+
         /**
          * Ensures that the underlying table exists, creating it if necessary.
          *
@@ -145,7 +297,7 @@ public class Database {
                     stmt.execute(sql);
                 }
                 return null;
-            }, "ensureExists: " + tableName);
+            }, "ensureExists: " + tableName, tableName, Operation.ENSURE_EXISTS, _ -> 0L, _ -> 0L);
         }
 
         /**
@@ -159,15 +311,23 @@ public class Database {
          * @return a future that completes when the write finishes
          */
         public @Nullable CompletableFuture<Void> write(String key, Object value) {
+            String context = "write: " + tableName + " key=" + key;
             return Database.this.runAsync(() -> {
-                String sql = "INSERT OR REPLACE INTO " + tableName + " (key, value) VALUES (?, ?);";
-                try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-                    pstmt.setString(1, key);
-                    pstmt.setString(2, isPrimitive(value) ? String.valueOf(value) : gson.toJson(value));
-                    pstmt.executeUpdate();
+                timed(() -> {
+                    String serialized = isPrimitive(value) ? String.valueOf(value) : gson.toJson(value);
+                    String sql = "INSERT OR REPLACE INTO " + tableName + " (key, value) VALUES (?, ?);";
+                    try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                        pstmt.setString(1, key);
+                        pstmt.setString(2, serialized);
+                        pstmt.executeUpdate();
+                    }
+                    return (long) serialized.getBytes(StandardCharsets.UTF_8).length;
+                }, context, tableName, Operation.WRITE, _ -> 1L, Long::longValue);
+                for (BiConsumer<String, Object> listener : writeListeners) {
+                    notifyListener(() -> listener.accept(key, value), context);
                 }
                 return null;
-            }, "write: " + tableName + " key=" + key);
+            }, context);
         }
 
         /**
@@ -188,7 +348,7 @@ public class Database {
                         return null;
                     }
                 }
-            }, "read: " + tableName + " key=" + key);
+            }, "read: " + tableName + " key=" + key, tableName, Operation.READ, str -> str != null ? 1L : 0L, _ -> 0L);
         }
 
         /**
@@ -234,7 +394,7 @@ public class Database {
                     }
                 }
                 return result;
-            }, "readAll: " + tableName);
+            }, "readAll: " + tableName, tableName, Operation.READ_ALL, Map::size, _ -> 0L);
         }
 
         /**
@@ -279,13 +439,34 @@ public class Database {
          * @return a future that completes when the table has been dropped
          */
         public @Nullable CompletableFuture<Void> delete() {
+            String context = "delete: " + tableName;
             return Database.this.runAsync(() -> {
-                String sql = "DROP TABLE IF EXISTS " + tableName + ";";
-                try (Statement stmt = connection.createStatement()) {
-                    stmt.execute(sql);
+                timed(() -> {
+                    String sql = "DROP TABLE IF EXISTS " + tableName + ";";
+                    try (Statement stmt = connection.createStatement()) {
+                        stmt.execute(sql);
+                    }
+                    return null;
+                }, context, tableName, Operation.DELETE, _ -> 0L, _ -> 0L);
+                for (Runnable listener : deleteListeners) {
+                    notifyListener(listener, context);
                 }
                 return null;
-            }, "delete: " + tableName);
+            }, context);
+        }
+
+        /**
+         * Runs a write or delete listener, logging instead of failing the operation if it throws.
+         *
+         * @param listener the listener call
+         * @param context  the operation the listener is notified of
+         */
+        private void notifyListener(Runnable listener, String context) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                plugin.getLogger().severe("Database listener failed (" + context + "): " + e.getMessage());
+            }
         }
 
         /**
@@ -0,0 +1,272 @@
+package dev.royalcore.api.data;
+
+import dev.royalcore.api.metrics.Counter;
+import dev.royalcore.api.metrics.Histogram;
+import dev.royalcore.api.metrics.MetricsRegistry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-table latency and volume statistics collected by a {@link Database}.
+ * <p>
+ * Every table operation is timed on the database thread and recorded into the
+ * {@link MetricsRegistry} histogram and counters for its table and {@link Operation}.
+ * Their handles are looked up once per table, so recording never touches the registry.
+ * Operations slower than the configured threshold are additionally kept in a bounded
+ * slow-operation log together with the context string passed to {@code runAsync}.
+ */
+public class DatabaseStatistics {
+
+    private static final int SLOW_LOG_CAPACITY = 128;
+
+    private final Map<String, TableStatistics> tables = new ConcurrentHashMap<>();
+    private final Deque<SlowOperation> slowOperations = new ArrayDeque<>(SLOW_LOG_CAPACITY);
+    private volatile long slowThresholdNanos = Duration.ofMillis(50).toNanos();
+
+    /**
+     * Creates an empty statistics holder.
+     */
+    public DatabaseStatistics() {
+    }
+
+    /**
+     * Records the outcome of a single table operation.
+     *
+     * @param table        the physical table name
+     * @param operation    the kind of operation
+     * @param nanos        how long the operation took on the database thread
+     * @param rows         the number of rows read or written
+     * @param bytesWritten the number of value bytes written
+     * @param failed       whether the operation threw
+     * @param context      the context string describing the operation
+     */
+    void record(String table, Operation operation, long nanos, long rows, long bytesWritten, boolean failed, String context) {
+        TableStatistics stats = tables.computeIfAbsent(table, TableStatistics::new);
+        Handles handles = stats.handles.get(operation);
+        handles.latency().record(nanos);
+        handles.rows().add(rows);
+
+        if (operation == Operation.WRITE) {
+            stats.rowsWritten.add(rows);
+        } else {
+            stats.rowsRead.add(rows);
+        }
+        stats.bytesWritten.add(bytesWritten);
+
+        if (failed) {
+            stats.failures.increment();
+            handles.failures().increment();
+        }
+
+        if (nanos >= slowThresholdNanos) {
+            synchronized (slowOperations) {
+                if (slowOperations.size() == SLOW_LOG_CAPACITY) {
+                    slowOperations.removeFirst();
+                }
+                slowOperations.addLast(new SlowOperation(table, operation, nanos, context, Instant.now()));
+            }
+        }
+    }
+
+    /**
+     * Returns the threshold above which operations are added to the slow-operation log.
+     *
+     * @return the slow-operation threshold
+     */
+    public Duration getSlowThreshold() {
+        return Duration.ofNanos(slowThresholdNanos);
+    }
+
+    /**
+     * Sets the threshold above which operations are added to the slow-operation log.
+     *
+     * @param threshold the new threshold
+     */
+    public void setSlowThreshold(Duration threshold) {
+        this.slowThresholdNanos = threshold.toNanos();
+    }
+
+    /**
+     * Returns the statistics of a single table.
+     *
+     * @param table the physical table name (including the {@code data_} prefix)
+     * @return the table statistics, or {@code null} if the table has not been used yet
+     */
+    public TableStatistics table(String table) {
+        return tables.get(table);
+    }
+
+    /**
+     * Returns the statistics of all tables that have been used so far.
+     *
+     * @return an unmodifiable view of all table statistics
+     */
+    public Collection<TableStatistics> tables() {
+        return Collections.unmodifiableCollection(tables.values());
+    }
+
+    /**
+     * Returns a snapshot of the slow-operation log, oldest first.
+     *
+     * @return the recorded slow operations
+     */
+    public List<SlowOperation> slowOperations() {
+        synchronized (slowOperations) {
+            return new ArrayList<>(slowOperations);
+        }
+    }
+
+    /**
+     * Clears the slow-operation log.
+     * <p>
+     * Table statistics are not cleared: their latencies are the exported metrics, which only ever accumulate.
+     */
+    public void reset() {
+        synchronized (slowOperations) {
+            slowOperations.clear();
+        }
+    }
+
+    /**
+     * Kinds of table operations tracked by the statistics.
+     */
+    public enum Operation {
+        /**
+         * Single key lookup.
+         */
+        READ,
+        /**
+         * Single key insert or replace.
+         */
+        WRITE,
+        /**
+         * Full table scan.
+         */
+        READ_ALL,
+        /**
+         * Table creation check.
+         */
+        ENSURE_EXISTS,
+        /**
+         * Table drop.
+         */
+        DELETE
+    }
+
+    /**
+     * Latency histograms and counters for a single table.
+     */
+    public static class TableStatistics {
+
+        private final String table;
+        private final Map<Operation, Handles> handles = new EnumMap<>(Operation.class);
+        private final LongAdder rowsRead = new LongAdder();
+        private final LongAdder rowsWritten = new LongAdder();
+        private final LongAdder bytesWritten = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        private TableStatistics(String table) {
+            this.table = table;
+            // Populated once so the map is never structurally modified afterwards.
+            MetricsRegistry metrics = MetricsRegistry.getRegistry();
+            for (Operation operation : Operation.values()) {
+                String op = operation.name().toLowerCase(Locale.ROOT);
+                handles.put(operation, new Handles(
+                        metrics.histogram("royalecore_db_operation_seconds", "Latency of database table operations", "table", table, "operation", op),
+                        metrics.counter("royalecore_db_rows_total", "Rows touched by database table operations", "table", table, "operation", op),
+                        metrics.counter("royalecore_db_failures_total", "Database table operations that threw", "table", table, "operation", op)
+                ));
+            }
+        }
+
+        /**
+         * Returns the physical table name.
+         *
+         * @return the table name
+         */
+        public String table() {
+            return table;
+        }
+
+        /**
+         * Returns the latency histogram for the given operation.
+         *
+         * @param operation the operation kind
+         * @return the histogram for that operation
+         */
+        public Histogram latency(Operation operation) {
+            return handles.get(operation).latency();
+        }
+
+        /**
+         * Returns the number of rows returned by reads.
+         *
+         * @return the rows read
+         */
+        public long rowsRead() {
+            return rowsRead.sum();
+        }
+
+        /**
+         * Returns the number of rows inserted or replaced.
+         *
+         * @return the rows written
+         */
+        public long rowsWritten() {
+            return rowsWritten.sum();
+        }
+
+        /**
+         * Returns the number of UTF-8 value bytes written.
+         *
+         * @return the bytes written
+         */
+        public long bytesWritten() {
+            return bytesWritten.sum();
+        }
+
+        /**
+         * Returns the number of operations that threw.
+         *
+         * @return the failure count
+         */
+        public long failures() {
+            return failures.sum();
+        }
+    }
+
+    /**
+     * Metrics of one table and operation.
+     *
+     * @param latency  the operation latency
+     * @param rows     the rows touched
+     * @param failures the operations that threw
+     */
+    private record Handles(Histogram latency, Counter rows, Counter failures) {
+    }
+
+    /**
+     * A single operation that exceeded the slow-operation threshold.
+     *
+     * @param table         the physical table name
+     * @param operation     the kind of operation
+     * @param durationNanos how long the operation took
+     * @param context       the context string passed to {@code runAsync}
+     * @param at            when the operation completed
+     */
+    public record SlowOperation(String table, Operation operation, long durationNanos, String context, Instant at) {
+    }
+
+}
@@ -0,0 +1,326 @@
+package dev.royalcore.api.data;
+
+import dev.royalcore.annotations.Experimental;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Incrementally maintained top-K leaderboard over a {@link Database.DatabaseSession}.
+ * <p>
+ * The leaderboard is seeded once from storage via {@link #seed()} and then kept up to date
+ * from every {@link Database.DatabaseSession#write(String, Object)} on the tracked table.
+ * Entries are ordered by score (highest first), ties broken by key.
+ * <p>
+ * Internally every key is held in a hash index and a size-augmented treap, so updates and
+ * {@link #rank(String)} are {@code O(log n)} and {@link #top()} costs {@code O(K)} at most
+ * once per change that affects the top K. All methods are thread-safe.
+ *
+ * @param <T> the stored value type
+ */
+@Experimental
+public class Leaderboard<T> {
+
+    private final Database.DatabaseSession session;
+    private final Class<T> type;
+    private final ToDoubleFunction<T> score;
+    private final int size;
+    private final Map<String, Node> index = new HashMap<>();
+    private final BiConsumer<String, Object> writeListener = this::written;
+    private final Runnable deleteListener = this::clear;
+    private Node root;
+    private List<Entry> top;
+
+    private Leaderboard(Database.DatabaseSession session, Class<T> type, ToDoubleFunction<T> score, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Leaderboard size must be at least 1: " + size);
+        }
+        this.session = session;
+        this.type = type;
+        this.score = score;
+        this.size = size;
+        session.onWrite(writeListener);
+        session.onDelete(deleteListener);
+    }
+
+    /**
+     * Creates a leaderboard over the given session scoring each stored object.
+     * <p>
+     * The leaderboard is empty until {@link #seed()} completes.
+     *
+     * @param session the table to track
+     * @param type    the stored value type
+     * @param score   extracts the score from a stored value
+     * @param size    how many entries {@link #top()} returns
+     * @param <T>     the stored value type
+     * @return a new, unseeded leaderboard
+     */
+    public static <T> Leaderboard<T> leaderboard(Database.DatabaseSession session, Class<T> type, ToDoubleFunction<T> score, int size) {
+        return new Leaderboard<>(session, type, score, size);
+    }
+
+    /**
+     * Creates a leaderboard over a table storing plain numbers (e.g. kills or wins per player).
+     *
+     * @param session the table to track
+     * @param size    how many entries {@link #top()} returns
+     * @return a new, unseeded leaderboard
+     */
+    public static Leaderboard<Double> numeric(Database.DatabaseSession session, int size) {
+        return new Leaderboard<>(session, Double.class, Double::doubleValue, size);
+    }
+
+    /**
+     * Loads every row of the tracked table once and rebuilds the leaderboard from it.
+     *
+     * @return a future completing with this leaderboard once it is seeded
+     */
+    public CompletableFuture<Leaderboard<T>> seed() {
+        return session.readAll(type).thenApply(rows -> {
+            synchronized (this) {
+                index.clear();
+                root = null;
+                top = null;
+                for (Map.Entry<String, T> row : rows.entrySet()) {
+                    put(row.getKey(), score.applyAsDouble(row.getValue()));
+                }
+            }
+            return this;
+        });
+    }
+
+    /**
+     * Sets the score of a key directly, without touching storage.
+     *
+     * @param key   the key to update
+     * @param value the new score
+     */
+    public synchronized void update(String key, double value) {
+        put(key, value);
+    }
+
+    /**
+     * Removes a key from the leaderboard, without touching storage.
+     *
+     * @param key the key to remove
+     */
+    public synchronized void remove(String key) {
+        Node node = index.remove(key);
+        if (node == null) return;
+
+        if (rankOf(node) < size) top = null;
+        root = delete(root, node);
+    }
+
+    /**
+     * Returns the highest-scoring entries, best first.
+     *
+     * @return an unmodifiable list of at most {@code size} entries
+     */
+    public synchronized List<Entry> top() {
+        if (top == null) {
+            List<Entry> entries = new ArrayList<>(Math.min(size, index.size()));
+            collect(root, entries);
+            top = Collections.unmodifiableList(entries);
+        }
+        return top;
+    }
+
+    /**
+     * Returns the 1-based rank of a key among all tracked keys.
+     *
+     * @param key the key to look up
+     * @return the rank, or {@code -1} if the key is not tracked
+     */
+    public synchronized int rank(String key) {
+        Node node = index.get(key);
+        return node == null ? -1 : rankOf(node) + 1;
+    }
+
+    /**
+     * Returns the current score of a key.
+     *
+     * @param key the key to look up
+     * @return the score, or an empty optional if the key is not tracked
+     */
+    public synchronized OptionalDouble score(String key) {
+        Node node = index.get(key);
+        return node == null ? OptionalDouble.empty() : OptionalDouble.of(node.score);
+    }
+
+    /**
+     * Returns the number of tracked keys.
+     *
+     * @return the number of keys
+     */
+    public synchronized int count() {
+        return index.size();
+    }
+
+    /**
+     * Stops tracking the table. The leaderboard keeps its current entries but no longer follows writes.
+     */
+    public void close() {
+        session.removeWriteListener(writeListener);
+        session.removeDeleteListener(deleteListener);
+    }
+
+    /**
+     * Applies a completed table write to the leaderboard.
+     *
+     * @param key   the written key
+     * @param value the written value
+     */
+    private void written(String key, Object value) {
+        if (type.isInstance(value)) {
+            update(key, score.applyAsDouble(type.cast(value)));
+        } else if (value instanceof Number number && Number.class.isAssignableFrom(type)) {
+            update(key, number.doubleValue());
+        }
+    }
+
+    private synchronized void clear() {
+        index.clear();
+        root = null;
+        top = null;
+    }
+
+    private void put(String key, double value) {
+        Node old = index.get(key);
+        if (old != null) {
+            if (old.score == value) return;
+            if (rankOf(old) < size) top = null;
+            root = delete(root, old);
+        }
+
+        Node node = new Node(key, value);
+        index.put(key, node);
+        Node[] halves = split(root, node);
+        root = merge(merge(halves[0], node), halves[1]);
+
+        if (rankOf(node) < size) top = null;
+    }
+
+    /**
+     * Counts the nodes ordered before the given node.
+     */
+    private int rankOf(Node target) {
+        int rank = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = compare(target, node);
+            if (cmp == 0) {
+                return rank + sizeOf(node.left);
+            }
+            if (cmp < 0) {
+                node = node.left;
+            } else {
+                rank += sizeOf(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    private void collect(Node node, List<Entry> entries) {
+        if (node == null || entries.size() >= size) return;
+        collect(node.left, entries);
+        if (entries.size() < size) {
+            entries.add(new Entry(node.key, node.score, entries.size() + 1));
+        }
+        collect(node.right, entries);
+    }
+
+    /**
+     * Splits a treap into nodes ordered strictly before {@code pivot} and the rest.
+     */
+    private static Node[] split(Node node, Node pivot) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(node, pivot) < 0) {
+            Node[] halves = split(node.right, pivot);
+            node.right = halves[0];
+            node.update();
+            return new Node[]{node, halves[1]};
+        }
+        Node[] halves = split(node.left, pivot);
+        node.left = halves[1];
+        node.update();
+        return new Node[]{halves[0], node};
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) return right;
+        if (right == null) return left;
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static Node delete(Node node, Node target) {
+        if (node == null) return null;
+        int cmp = compare(target, node);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = delete(node.left, target);
+        } else {
+            node.right = delete(node.right, target);
+        }
+        node.update();
+        return node;
+    }
+
+    private static int compare(Node a, Node b) {
+        int byScore = Double.compare(b.score, a.score);
+        return byScore != 0 ? byScore : a.key.compareTo(b.key);
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * A single leaderboard row.
+     *
+     * @param key   the stored key (usually a player UUID)
+     * @param score the score of the key
+     * @param rank  the 1-based rank of the key
+     */
+    public record Entry(String key, double score, int rank) {
+    }
+
+    private static final class Node {
+        private final String key;
+        private final double score;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(String key, double score) {
+            this.key = key;
+            this.score = score;
+        }
+
+        private void update() {
+            size = 1 + sizeOf(left) + sizeOf(right);
+        }
+    }
+
+}
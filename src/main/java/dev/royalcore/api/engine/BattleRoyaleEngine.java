@@ -2,31 +2,43 @@ package dev.royalcore.api.engine;
 
 import com.mojang.brigadier.tree.LiteralCommandNode;
 import dev.royalcore.Main;
+import dev.royalcore.annotations.Experimental;
 import dev.royalcore.annotations.MarkedForRemoval;
 import dev.royalcore.api.br.BattleRoyale;
 import dev.royalcore.api.errors.Result;
+import dev.royalcore.api.errors.StacklessException;
 import dev.royalcore.api.item.BattleRoyaleItem;
+import dev.royalcore.api.metrics.Counter;
+import dev.royalcore.api.metrics.Histogram;
+import dev.royalcore.api.metrics.MetricsRegistry;
+import dev.royalcore.api.registries.BattleRoyaleRegistry;
 import dev.royalcore.api.registries.CommandRegistry;
-import dev.royalcore.api.registries.FailedBRRegistry;
 import dev.royalcore.api.registries.ListenerRegistry;
 import dev.royalcore.api.registries.RecipeRegistry;
 import dev.royalcore.api.scenario.Scenario;
+import dev.royalcore.api.scenario.ScenarioGraph;
+import dev.royalcore.internal.jfr.ScenarioValidationEvent;
+import dev.royalcore.internal.profiler.StartupProfiler;
+import dev.royalcore.internal.watchdog.TickWatchdog;
 import io.papermc.paper.command.brigadier.CommandSourceStack;
 import lombok.Getter;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
+import org.bukkit.Keyed;
 import org.bukkit.World;
 import org.bukkit.WorldBorder;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Listener;
 import org.bukkit.inventory.Recipe;
-import org.bukkit.inventory.ShapedRecipe;
-import org.bukkit.inventory.ShapelessRecipe;
 
-import java.rmi.AlreadyBoundException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 
 /**
@@ -44,11 +56,101 @@ public class BattleRoyaleEngine {
     @Getter
     private static final BattleRoyaleEngine battleRoyaleEngine = new BattleRoyaleEngine();
 
+    private static final Result<Void> UNIQUE_LISTENER = Result.Ok(Component.text("Listener is unique."), true);
+    private static final Result<Void> UNIQUE_COMMAND = Result.Ok(Component.text("Command node is unique."), true);
+    private static final Result<Void> UNIQUE_RECIPE = Result.Ok(Component.text("Recipe is unique."), true);
+    private static final Result<Void> NULL_RECIPE = Result.Ok(Component.text("Recipe is null; skipping duplicate check."), true);
+
+    private static final Histogram REGISTER_TIME = MetricsRegistry.getRegistry()
+            .histogram("royalecore_engine_register_seconds", "Time taken to validate and register a battle royale");
+    private static final Counter REGISTERED = MetricsRegistry.getRegistry()
+            .counter("royalecore_battleroyales_registered_total", "Battle royales registered successfully");
+    private static final Counter FAILED = MetricsRegistry.getRegistry()
+            .counter("royalecore_battleroyales_failed_total", "Battle royales rejected during registration");
+
+    private final List<BattleRoyale> pending = new ArrayList<>();
+
     private BattleRoyaleEngine() {
     }
 
     /**
-     * Validates and registers a {@link BattleRoyale} definition.
+     * Returns every battle royale that passed validation and was registered.
+     * <p>
+     * A battle royale whose ID is already registered is rejected, so the listeners, commands and recipes of the
+     * registered one stay the only ones under that ID.
+     *
+     * @return an unmodifiable view of the registered battle royales
+     * @see BattleRoyaleRegistry#registered()
+     */
+    public Collection<BattleRoyale> getRegistered() {
+        return BattleRoyaleRegistry.getBattleRoyaleRegistry().registered();
+    }
+
+    /**
+     * Returns the order in which a battle royale's scenarios are activated: required scenarios before the
+     * scenarios that need them, then by descending {@link dev.royalcore.api.enums.ScenarioPriority}.
+     * <p>
+     * Listeners are registered and scenario start hooks run in this order; stop hooks run in reverse.
+     *
+     * @param battleRoyale the battle royale
+     * @return the scenarios in activation order; for a battle royale that was not registered, the order is
+     * computed on the fly
+     */
+    @Experimental
+    public List<Scenario> activationOrder(BattleRoyale battleRoyale) {
+        return BattleRoyaleRegistry.getBattleRoyaleRegistry().get(battleRoyale.id())
+                .filter(registration -> registration.battleRoyale() == battleRoyale)
+                .filter(registration -> registration.outcome() == BattleRoyaleRegistry.Outcome.REGISTERED)
+                .map(BattleRoyaleRegistry.Registration::activationOrder)
+                .orElseGet(() -> List.copyOf(ScenarioGraph.compile(battleRoyale.scenarios()).order(battleRoyale.scenarios())));
+    }
+
+    /**
+     * Queues a battle royale to be validated and registered by the next {@link #commit()}.
+     * <p>
+     * Every {@link BattleRoyale} queues itself when it is constructed; this method may be called from any thread.
+     *
+     * @param battleRoyale the battle royale definition to register
+     */
+    public void enqueue(BattleRoyale battleRoyale) {
+        synchronized (pending) {
+            pending.add(battleRoyale);
+        }
+    }
+
+    /**
+     * Registers every queued battle royale as one batch and flushes the registries. Must be called on the main thread.
+     * <p>
+     * The batch goes through {@link #registerAll(Collection)}, each result is logged, and then each registry makes
+     * one pass over what was added to it. Registries skip listeners, commands and recipes that an earlier battle
+     * royale, in this batch or an earlier commit, already contributed, so scenarios shared between battle royales
+     * are registered once. RoyaleCore commits when it is enabled and again on the first server tick, after every
+     * plugin has been enabled; call this to register battle royales created later.
+     *
+     * @return one {@link Result} per committed battle royale, in the order they were queued
+     */
+    @Experimental
+    public List<Result<Void>> commit() {
+        List<BattleRoyale> batch;
+        synchronized (pending) {
+            batch = List.copyOf(pending);
+            pending.clear();
+        }
+
+        List<Result<Void>> results = batch.isEmpty() ? List.of() : registerAll(batch);
+        for (Result<Void> result : results) {
+            result.print();
+        }
+
+        RecipeRegistry.getRecipeRegistry().finish();
+        CommandRegistry.getCommandRegistry().finish();
+        ListenerRegistry.getListenerRegistry().finish();
+
+        return results;
+    }
+
+    /**
+     * Validates and registers a {@link BattleRoyale} definition right away, without waiting for {@link #commit()}.
      * <p>
      * This method:
      * <ul>
@@ -57,81 +159,163 @@ public class BattleRoyaleEngine {
      *     <li>Applies scenario border configuration and per-player behaviour.</li>
      *     <li>Registers listeners, commands and recipes through their registries.</li>
      * </ul>
+     * The registries are not flushed; that happens on the next {@link #commit()}.
      *
      * @param battleRoyale the battle royale definition to register
      * @return a {@link Result} indicating success or failure and an explanatory message
      */
-    public Result register(BattleRoyale battleRoyale) {
+    public Result<Void> register(BattleRoyale battleRoyale) {
+        return registerAll(List.of(battleRoyale)).getFirst();
+    }
+
+    /**
+     * Validates and registers several {@link BattleRoyale} definitions as described in {@link #register(BattleRoyale)}.
+     * <p>
+     * The dependency graph of all their scenarios is compiled once up front. Validation has no side effects,
+     * so independent battle royales are validated in parallel on the common fork-join pool. The results are
+     * then applied one by one, in the given order, on the calling thread, which must be the main thread.
+     *
+     * @param battleRoyales the battle royale definitions to register
+     * @return one {@link Result} per battle royale, in the given order
+     */
+    @Experimental
+    public List<Result<Void>> registerAll(Collection<BattleRoyale> battleRoyales) {
+        ScenarioGraph graph = ScenarioGraph.compile(battleRoyales.stream()
+                .flatMap(battleRoyale -> battleRoyale.scenarios().stream())
+                .toList());
+
+        List<Validation> validations = battleRoyales.size() > 1
+                ? battleRoyales.parallelStream().map(battleRoyale -> validate(battleRoyale, graph)).toList()
+                : battleRoyales.stream().map(battleRoyale -> validate(battleRoyale, graph)).toList();
+
+        List<Result<Void>> results = new ArrayList<>(validations.size());
+        for (Validation validation : validations) {
+            long start = System.nanoTime();
+            Result<Void> result = apply(validation);
+            long elapsed = validation.nanos() + System.nanoTime() - start;
+
+            REGISTER_TIME.record(elapsed);
+            StartupProfiler.getProfiler().record(StartupProfiler.Category.BATTLE_ROYALE, String.valueOf(validation.battleRoyale().id()), elapsed);
+            (result.isErr() ? FAILED : REGISTERED).increment();
+            results.add(result);
+        }
+        return results;
+    }
+
+    /**
+     * Checks a battle royale without touching any registry or world.
+     * <p>
+     * Duplicates are found through hash sets: listeners by identity, commands by their literal and recipes
+     * by their key, or by identity if they have none. Required and conflicting scenarios are checked against
+     * the compiled {@link ScenarioGraph} before anything is collected, and scenarios are then visited in
+     * activation order.
+     *
+     * @param battleRoyale the battle royale to validate
+     * @param graph        a graph compiled from at least the battle royale's scenarios
+     * @return the collected registrations, or the first problem found
+     */
+    private static Validation validate(BattleRoyale battleRoyale, ScenarioGraph graph) {
+        long validationStart = System.nanoTime();
+
+        Result<Void> selection = graph.check(battleRoyale.scenarios());
+        if (selection.isErr()) {
+            return Validation.failed(battleRoyale, selection, validationStart);
+        }
+        List<Scenario> order = List.copyOf(graph.order(battleRoyale.scenarios()));
+
+        Set<Listener> seenListeners = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<String> seenCommands = new HashSet<>();
+        Set<Object> seenRecipes = new HashSet<>();
 
         List<Listener> listeners = new ArrayList<>();
         List<LiteralCommandNode<CommandSourceStack>> commandNodes = new ArrayList<>();
         List<Recipe> recipes = new ArrayList<>();
 
-        for (Scenario scenario : battleRoyale.scenarios()) {
+        for (Scenario scenario : order) {
 
-            for (Listener listener : scenario.listenerConsumer().getListeners()) {
-                Result dupResult = isDuped(listeners, listener, battleRoyale);
-                if (dupResult.isErr()) {
-                    return dupResult;
-                }
-                listeners.add(listener);
-            }
+            ScenarioValidationEvent event = new ScenarioValidationEvent();
+            event.begin();
+            long start = System.nanoTime();
 
-            for (LiteralCommandNode<CommandSourceStack> commandNode : scenario.commandConsumer().getCommandNodes()) {
-                Result dupResult = isDuped(commandNodes, commandNode, battleRoyale);
-                if (dupResult.isErr()) {
-                    return dupResult;
+            try {
+                for (Listener listener : scenario.listenerConsumer().getListeners()) {
+                    if (!seenListeners.add(listener)) {
+                        return Validation.failed(battleRoyale, Duplicate.LISTENER, validationStart);
+                    }
+                    listeners.add(listener);
                 }
-                commandNodes.add(commandNode);
-            }
-
-            for (BattleRoyaleItem item : scenario.itemConsumer().getItems()) {
 
-                ShapedRecipe shapedRecipe = item.getShapedRecipe();
-                ShapelessRecipe shapelessRecipe = item.getShapelessRecipe();
-
-                if (shapedRecipe != null) {
-                    Result dupResult = isDuped(recipes, shapedRecipe, battleRoyale);
-                    if (dupResult.isErr()) {
-                        return dupResult;
+                for (LiteralCommandNode<CommandSourceStack> commandNode : scenario.commandConsumer().getCommandNodes()) {
+                    if (!seenCommands.add(commandNode.getLiteral())) {
+                        return Validation.failed(battleRoyale, Duplicate.COMMAND, validationStart);
                     }
-                    recipes.add(shapedRecipe);
+                    commandNodes.add(commandNode);
                 }
 
-                if (shapelessRecipe != null) {
-                    Result dupResult = isDuped(recipes, shapelessRecipe, battleRoyale);
-                    if (dupResult.isErr()) {
-                        return dupResult;
+                for (BattleRoyaleItem item : scenario.itemConsumer().getItems()) {
+                    for (Recipe recipe : new Recipe[]{item.getShapedRecipe(), item.getShapelessRecipe()}) {
+                        if (recipe == null) {
+                            continue;
+                        }
+                        if (!seenRecipes.add(recipeKey(recipe))) {
+                            return Validation.failed(battleRoyale, Duplicate.RECIPE, validationStart);
+                        }
+                        recipes.add(recipe);
                     }
-                    recipes.add(shapelessRecipe);
                 }
 
+                event.valid = true;
+            } finally {
+                if (event.shouldCommit()) {
+                    event.battleRoyale = battleRoyale.id().toString();
+                    event.scenario = scenario.plainName();
+                    event.commit();
+                }
+                StartupProfiler.getProfiler().record(
+                        StartupProfiler.Category.SCENARIO,
+                        battleRoyale.id() + " / " + scenario.plainName(),
+                        System.nanoTime() - start
+                );
             }
+        }
 
-            for (Scenario requiredScenario : scenario.requiredScenarios()) {
-
-                if (!battleRoyale.scenarios().contains(requiredScenario)) {
-                    FailedBRRegistry.add(battleRoyale);
-                    return Result.Err(
-                            Component.text("A battle royale doesn't have a required scenario! Failed to load it."),
-                            new AlreadyBoundException(),
-                            false
-                    );
-                }
+        return new Validation(battleRoyale, order, listeners, commandNodes, recipes, null, null, System.nanoTime() - validationStart);
+    }
 
+    /**
+     * Applies a validation on the main thread: records failures, or configures borders and player hooks and
+     * hands the collected listeners, commands and recipes to their registries.
+     *
+     * @param validation the outcome of {@link #validate(BattleRoyale, ScenarioGraph)}
+     * @return the registration result
+     */
+    private Result<Void> apply(Validation validation) {
+        BattleRoyale battleRoyale = validation.battleRoyale();
+
+        if (validation.failure() != null) {
+            BattleRoyaleRegistry.getBattleRoyaleRegistry().markFailed(battleRoyale);
+            if (validation.duplicate() != null) {
+                Main.getPlugin().getComponentLogger().error(
+                        Component.text(validation.duplicate().logMessage),
+                        new StacklessException(validation.duplicate().reason)
+                );
             }
+            return validation.failure();
+        }
 
-            for (Scenario conflictingScenario : scenario.scenarioConflicts()) {
+        if (BattleRoyaleRegistry.getBattleRoyaleRegistry().isRegistered(battleRoyale.id())) {
+            BattleRoyaleRegistry.getBattleRoyaleRegistry().markFailed(battleRoyale);
+            return Result.Err(
+                    () -> Component.text("A battle royale with the ID of " + battleRoyale.id() + " is already registered."),
+                    new StacklessException("Duplicate battle royale ID"),
+                    false
+            );
+        }
 
-                if (battleRoyale.scenarios().contains(conflictingScenario)) {
-                    FailedBRRegistry.add(battleRoyale);
-                    return Result.Err(
-                            Component.text("A battle royale has been found to have conflicting scenarios! Failed to load it."),
-                            new AlreadyBoundException(),
-                            false
-                    );
-                }
+        for (Scenario scenario : validation.order()) {
 
+            for (Listener listener : scenario.listenerConsumer().getListeners()) {
+                TickWatchdog.getWatchdog().own(listener.getClass(), scenario.plainName());
             }
 
             for (Map.Entry<World, Consumer<WorldBorder>> entry : scenario.borderConsumer().getBorders().entrySet()) {
@@ -150,108 +334,183 @@ public class BattleRoyaleEngine {
                 }
 
             });
-
         }
 
-        for (Listener listener : listeners) {
+        for (Listener listener : validation.listeners()) {
             ListenerRegistry.getListenerRegistry().register(listener);
         }
 
-        for (LiteralCommandNode<CommandSourceStack> commandNode : commandNodes) {
+        for (LiteralCommandNode<CommandSourceStack> commandNode : validation.commandNodes()) {
             CommandRegistry.getCommandRegistry().register(commandNode);
         }
 
-        for (Recipe recipe : recipes) {
+        for (Recipe recipe : validation.recipes()) {
             RecipeRegistry.getRecipeRegistry().register(recipe);
         }
 
+        BattleRoyaleRegistry.getBattleRoyaleRegistry().markRegistered(battleRoyale, validation.order());
+
         return Result.Ok(
-                Component.text("Successfully registered a battle royale with the ID of " + battleRoyale.id()),
+                () -> Component.text("Successfully registered a battle royale with the ID of " + battleRoyale.id()),
                 true
         );
 
     }
 
     /**
-     * Checks whether a listener is already present in the given list.
+     * Returns what identifies a recipe for duplicate checks: its key if it has one, otherwise the recipe itself.
+     *
+     * @param recipe the recipe
+     * @return the recipe's key, or the recipe
+     */
+    private static Object recipeKey(Recipe recipe) {
+        return recipe instanceof Keyed keyed ? keyed.getKey() : recipe;
+    }
+
+    /**
+     * Checks whether a listener is already present in the given list. Listeners are compared by identity,
+     * as during validation.
      *
      * @param listeners    the list of already collected listeners
      * @param listener     the listener to check
      * @param battleRoyale the battle royale being registered
      * @return a {@link Result} error if a duplicate is found, otherwise a successful result
+     * @deprecated duplicates are found while a battle royale is validated; use {@link #register(BattleRoyale)}
      */
-    public Result isDuped(List<Listener> listeners, Listener listener, BattleRoyale battleRoyale) {
-        if (listeners.contains(listener)) {
-            FailedBRRegistry.add(battleRoyale);
-            Main.getPlugin().getComponentLogger().error(
-                    Component.text("A battle royale contained a duplicate listener! Failed to load it."),
-                    new AlreadyBoundException()
-            );
-            return Result.Err(
-                    Component.text("Duplicate listener detected in battle royale."),
-                    new AlreadyBoundException(),
-                    false
-            );
-        }
-
-        return Result.Ok(Component.text("Listener is unique."), true);
+    @Deprecated(forRemoval = true)
+    @MarkedForRemoval(reason = "Duplicates are found while a battle royale is validated.")
+    public Result<Void> isDuped(List<Listener> listeners, Listener listener, BattleRoyale battleRoyale) {
+        Set<Listener> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        seen.addAll(listeners);
+        return seen.contains(listener) ? duplicate(battleRoyale, Duplicate.LISTENER) : UNIQUE_LISTENER;
     }
 
     /**
-     * Checks whether a command node is already present in the given list.
+     * Checks whether a command node is already present in the given list. Command nodes are compared by
+     * their literal, as during validation.
      *
      * @param commandNodes the list of already collected command nodes
      * @param commandNode  the command node to check
      * @param battleRoyale the battle royale being registered
      * @return a {@link Result} error if a duplicate is found, otherwise a successful result
+     * @deprecated duplicates are found while a battle royale is validated; use {@link #register(BattleRoyale)}
      */
-    public Result isDuped(
+    @Deprecated(forRemoval = true)
+    @MarkedForRemoval(reason = "Duplicates are found while a battle royale is validated.")
+    public Result<Void> isDuped(
             List<LiteralCommandNode<CommandSourceStack>> commandNodes,
             LiteralCommandNode<CommandSourceStack> commandNode,
             BattleRoyale battleRoyale
     ) {
-        if (commandNodes.contains(commandNode)) {
-            FailedBRRegistry.add(battleRoyale);
-            Main.getPlugin().getComponentLogger().error(
-                    Component.text("A battle royale contained a duplicate command! Failed to load it."),
-                    new AlreadyBoundException()
-            );
-            return Result.Err(
-                    Component.text("Duplicate command detected in battle royale."),
-                    new AlreadyBoundException(),
-                    false
-            );
+        Set<String> seen = new HashSet<>();
+        for (LiteralCommandNode<CommandSourceStack> node : commandNodes) {
+            seen.add(node.getLiteral());
         }
-        return Result.Ok(Component.text("Command node is unique."), true);
+        return seen.contains(commandNode.getLiteral()) ? duplicate(battleRoyale, Duplicate.COMMAND) : UNIQUE_COMMAND;
     }
 
     /**
-     * Checks whether a recipe is already present in the given list.
+     * Checks whether a recipe is already present in the given list. Recipes are compared by their key, or by
+     * identity if they have none, as during validation.
      *
      * @param recipes      the list of already collected recipes
      * @param recipe       the recipe to check
      * @param battleRoyale the battle royale being registered
      * @return a {@link Result} error if a duplicate is found, otherwise a successful result
+     * @deprecated duplicates are found while a battle royale is validated; use {@link #register(BattleRoyale)}
      */
-    public Result isDuped(List<Recipe> recipes, Recipe recipe, BattleRoyale battleRoyale) {
+    @Deprecated(forRemoval = true)
+    @MarkedForRemoval(reason = "Duplicates are found while a battle royale is validated.")
+    public Result<Void> isDuped(List<Recipe> recipes, Recipe recipe, BattleRoyale battleRoyale) {
         if (recipe == null) {
-            return Result.Ok(Component.text("Recipe is null; skipping duplicate check."), true);
+            return NULL_RECIPE;
         }
 
-        if (recipes.contains(recipe)) {
-            FailedBRRegistry.add(battleRoyale);
-            Main.getPlugin().getComponentLogger().error(
-                    Component.text("A battle royale contained a duplicate recipe! Failed to load it."),
-                    new AlreadyBoundException()
-            );
-            return Result.Err(
-                    Component.text("Duplicate recipe detected in battle royale."),
-                    new AlreadyBoundException(),
+        Set<Object> seen = new HashSet<>();
+        for (Recipe other : recipes) {
+            seen.add(recipeKey(other));
+        }
+        return seen.contains(recipeKey(recipe)) ? duplicate(battleRoyale, Duplicate.RECIPE) : UNIQUE_RECIPE;
+    }
+
+    /**
+     * Records a battle royale as failed because of a duplicate and logs it, as {@link #apply(Validation)} does.
+     *
+     * @param battleRoyale the battle royale being registered
+     * @param duplicate    the kind of duplicate found
+     * @return the error to return
+     */
+    private static Result<Void> duplicate(BattleRoyale battleRoyale, Duplicate duplicate) {
+        BattleRoyaleRegistry.getBattleRoyaleRegistry().markFailed(battleRoyale);
+        Main.getPlugin().getComponentLogger().error(
+                Component.text(duplicate.logMessage),
+                new StacklessException(duplicate.reason)
+        );
+        return Result.Err(
+                Component.text(duplicate.message),
+                new StacklessException(duplicate.reason),
+                false
+        );
+    }
+
+    /**
+     * Kinds of duplicate registrations, with the messages reported for them.
+     *
+     * @param logMessage the message logged when the duplicate is found
+     * @param message    the message of the returned error
+     * @param reason     the reason carried by the error's exception
+     */
+    private enum Duplicate {
+        LISTENER("A battle royale contained a duplicate listener! Failed to load it.", "Duplicate listener detected in battle royale.", "Duplicate listener"),
+        COMMAND("A battle royale contained a duplicate command! Failed to load it.", "Duplicate command detected in battle royale.", "Duplicate command"),
+        RECIPE("A battle royale contained a duplicate recipe! Failed to load it.", "Duplicate recipe detected in battle royale.", "Duplicate recipe");
+
+        private final String logMessage;
+        private final String message;
+        private final String reason;
+
+        Duplicate(String logMessage, String message, String reason) {
+            this.logMessage = logMessage;
+            this.message = message;
+            this.reason = reason;
+        }
+    }
+
+    /**
+     * Outcome of validating one battle royale.
+     *
+     * @param battleRoyale the validated battle royale
+     * @param order        the battle royale's scenarios in activation order
+     * @param listeners    the listeners to register, in activation order
+     * @param commandNodes the command nodes to register, in activation order
+     * @param recipes      the recipes to register, in activation order
+     * @param failure      the first problem found, or {@code null} if the battle royale is valid
+     * @param duplicate    the kind of duplicate that caused the failure, or {@code null}
+     * @param nanos        how long validation took
+     */
+    private record Validation(
+            BattleRoyale battleRoyale,
+            List<Scenario> order,
+            List<Listener> listeners,
+            List<LiteralCommandNode<CommandSourceStack>> commandNodes,
+            List<Recipe> recipes,
+            Result<Void> failure,
+            Duplicate duplicate,
+            long nanos
+    ) {
+
+        static Validation failed(BattleRoyale battleRoyale, Result<Void> failure, long start) {
+            return new Validation(battleRoyale, List.of(), List.of(), List.of(), List.of(), failure, null, System.nanoTime() - start);
+        }
+
+        static Validation failed(BattleRoyale battleRoyale, Duplicate duplicate, long start) {
+            Result<Void> failure = Result.Err(
+                    Component.text(duplicate.message),
+                    new StacklessException(duplicate.reason),
                     false
             );
+            return new Validation(battleRoyale, List.of(), List.of(), List.of(), List.of(), failure, duplicate, System.nanoTime() - start);
         }
-
-        return Result.Ok(Component.text("Recipe is unique."), true);
     }
 
 }
@@ -8,15 +8,20 @@ import dev.royalcore.api.consumer.SettingsConsumer;
 import dev.royalcore.api.consumer.WorldConsumer;
 import dev.royalcore.api.enums.BattleRoyaleState;
 import dev.royalcore.api.errors.Result;
-import dev.royalcore.api.registries.ListenerRegistry;
+import dev.royalcore.api.errors.StacklessException;
+import dev.royalcore.api.metrics.Counter;
+import dev.royalcore.api.metrics.Histogram;
+import dev.royalcore.api.metrics.MetricsRegistry;
 import dev.royalcore.api.scenario.Scenario;
+import dev.royalcore.api.session.ArenaSession;
+import dev.royalcore.api.session.SessionManager;
 import dev.royalcore.api.start.Queue;
+import dev.royalcore.internal.jfr.ScheduleBindingEvent;
+import dev.royalcore.internal.jfr.TeleportEvent;
 import dev.royalcore.internal.lifesteal.LifestealListener;
-import dev.royalcore.internal.start.MoveListener;
+import dev.royalcore.internal.watchdog.TickWatchdog;
 import lombok.Getter;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.NamedTextColor;
-import net.kyori.adventure.title.Title;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
@@ -43,6 +48,19 @@ public class NewEngine {
     @Getter
     private static final NewEngine engine = new NewEngine();
 
+    private static final Result<Void> SCHEDULES_VALID = Result.Ok(Component.text("Successfully validated all schedules"), true);
+    private static final Result<Void> NO_DUPLICATES = Result.Ok(Component.text("No duplicates found."), true);
+    private static final Result<Void> NO_DUPLICATE_LITERALS = Result.Ok(Component.text("No duplicate command literals found."), true);
+
+    private static final Counter SCHEDULES_BOUND = MetricsRegistry.getRegistry()
+            .counter("royalecore_schedules_bound_total", "Scenario schedules bound to the Bukkit scheduler");
+    private static final Counter SCHEDULES_INVALID = MetricsRegistry.getRegistry()
+            .counter("royalecore_schedules_invalid_total", "Scenario schedules rejected because of an invalid window");
+    private static final Counter PLAYERS_TELEPORTED = MetricsRegistry.getRegistry()
+            .counter("royalecore_players_teleported_total", "Players teleported to a spawn location");
+    private static final Histogram TELEPORT_TIME = MetricsRegistry.getRegistry()
+            .histogram("royalecore_teleport_seconds", "Time taken to teleport a queue to its spawn locations");
+
     /**
      * Creates a new {@link NewEngine} instance.
      * <p>
@@ -52,49 +70,57 @@ public class NewEngine {
     private NewEngine() {
     }
 
-    public Result randomlySpawn(Queue queue, WorldConsumer worldConsumer) {
-        for (UUID id : queue.getPlayers()) {
-            Player player = Bukkit.getPlayer(id);
-            if (player != null && player.isOnline()) {
-                int spawnloc = ThreadLocalRandom.current().nextInt(1, queue.getPlayers().size() + 1);
-                Location location = worldConsumer.getSpawnLocations().get(spawnloc);
-
-                if (location != null) {
-                    player.teleport(location);
-                } else {
-                    return Result.Err(Component.text("Found a null location!"), false);
-                }
+    public Result<Void> randomlySpawn(Queue queue, WorldConsumer worldConsumer) {
+        TeleportEvent event = new TeleportEvent();
+        event.begin();
+        long start = System.nanoTime();
+        event.players = queue.getPlayers().size();
 
+        try {
+            List<Location> spawnLocations = worldConsumer.getSpawnLocations();
+            if (spawnLocations.isEmpty()) {
+                return Result.Err(Component.text("No spawn locations were configured!"), false);
             }
-        }
-        return Result.Ok();
-    }
-
-    public void runStart(Queue queue) {
-        MoveListener.setCanMove(false);
-
-        for (UUID uuid : queue.getPlayers()) {
 
-            Player player = Bukkit.getPlayer(uuid);
+            for (UUID id : queue.getPlayers()) {
+                Player player = Bukkit.getPlayer(id);
+                if (player != null && player.isOnline()) {
+                    int spawnloc = ThreadLocalRandom.current().nextInt(spawnLocations.size());
+                    Location location = spawnLocations.get(spawnloc);
 
-            if (player == null) continue;
-            if (!player.isOnline()) continue;
-
-            player.showTitle(Title.title(Component.text("5").color(NamedTextColor.DARK_RED), Component.text(""), 1, 2, 1));
-            player.showTitle(Title.title(Component.text("4").color(NamedTextColor.RED), Component.text(""), 1, 2, 1));
-            player.showTitle(Title.title(Component.text("3").color(NamedTextColor.GOLD), Component.text(""), 1, 2, 1));
-            player.showTitle(Title.title(Component.text("2").color(NamedTextColor.YELLOW), Component.text(""), 1, 2, 1));
-            player.showTitle(Title.title(Component.text("1").color(NamedTextColor.DARK_GREEN), Component.text(""), 1, 2, 1));
-
-            player.showTitle(Title.title(Component.text("GO!").color(NamedTextColor.GREEN), Component.text(""), 1, 2, 1));
+                    if (location != null) {
+                        player.teleport(location);
+                        event.teleported++;
+                    } else {
+                        return Result.Err(Component.text("Found a null location!"), false);
+                    }
 
+                }
+            }
+            return Result.Ok();
+        } finally {
+            TELEPORT_TIME.record(System.nanoTime() - start);
+            PLAYERS_TELEPORTED.add(event.teleported);
+
+            if (event.shouldCommit()) {
+                event.world = worldConsumer.getBrWorld() == null ? null : worldConsumer.getBrWorld().getName();
+                event.commit();
+            }
         }
+    }
 
-        MoveListener.setCanMove(true);
-
+    /**
+     * Starts the session's {@link dev.royalcore.api.session.PhaseDriver} in the queue phase. Once the queue has
+     * filled, advancing the driver freezes the players for the countdown and then moves the match through grace,
+     * play and border phases.
+     *
+     * @param session the session to start
+     */
+    public void runStart(ArenaSession session) {
+        session.getPhases().start();
     }
 
-    public Result validateSettings(BattleRoyale battleRoyale) {
+    public Result<Void> validateSettings(BattleRoyale battleRoyale) {
 
         SettingsConsumer settingsConsumer = battleRoyale.settingsConsumer();
 
@@ -103,10 +129,34 @@ public class NewEngine {
         Object grace = settingsConsumer.getSetting(SettingsConsumer.Setting.GRACE);
         Object latejoinbehaviour = settingsConsumer.getSetting(SettingsConsumer.Setting.LATE_JOIN_BEHAVIOUR);
 
+        if (!(grace instanceof Duration duration)) {
+            return Result.Err(
+                    () -> Component.text("The grace period of battle royale " + battleRoyale.id() + " must be set to a duration!"),
+                    new StacklessException("Missing grace period"),
+                    false
+            );
+        }
+
+        if (duration.isNegative()) {
+            return Result.Err(
+                    () -> Component.text("The grace period of battle royale " + battleRoyale.id() + " must not be negative!"),
+                    new StacklessException("Invalid grace period"),
+                    false
+            );
+        }
+
+        // The session is only opened once the settings are known to be valid, so a rejected battle royale
+        // does not keep its world claimed.
+        Result<ArenaSession> opened = SessionManager.getSessionManager().open(battleRoyale);
+        if (opened.isErr()) {
+            return opened.map(_ -> null);
+        }
+        ArenaSession session = opened.orElse(null);
+
         if (lifesteal instanceof Boolean lf && lf) {
 
             LifestealListener lifestealListener = new LifestealListener();
-            ListenerRegistry.getListenerRegistry().register(lifestealListener);
+            session.listen(lifestealListener);
             lifestealListener.setLifesteal(true);
 
             if (maxheart instanceof Double mh) {
@@ -115,39 +165,60 @@ public class NewEngine {
 
         }
 
-        if (grace instanceof Duration duration) {
-
-        }
-
-
         return Result.Ok();
     }
 
-    public Result addToOnStart(BattleRoyale battleRoyale) {
+    public Result<Void> addToOnStart(BattleRoyale battleRoyale) {
+
+        Result<ArenaSession> opened = SessionManager.getSessionManager().open(battleRoyale);
+        if (opened.isErr()) {
+            return opened.map(_ -> null);
+        }
+        ArenaSession session = opened.orElse(null);
 
         battleRoyale.onStart(onStart -> {
-            battleRoyale.state(BattleRoyaleState.WAITING);
 
-            Queue queue = Queue.queue(Bukkit.getOnlinePlayers(), players -> {
+            runStart(session);
+
+            // Players already playing another match stay in it.
+            List<Player> available = Bukkit.getOnlinePlayers().stream()
+                    .filter(player -> SessionManager.getSessionManager().session(player).map(other -> other == session).orElse(true))
+                    .map(Player.class::cast)
+                    .toList();
+
+            Queue queue = Queue.queue(available, players -> {
+                session.addPlayer(players);
                 battleRoyale.resourcepackConsumer().sendPack(players);
                 battleRoyale.structureConsumer().spawnAll(battleRoyale.worldConsumer().getBrWorld());
             }, queueAct -> {
                 randomlySpawn(queueAct, battleRoyale.worldConsumer());
-                runStart(queueAct);
+                session.getPhases().advance();
+
+                for (Scenario scenario : BattleRoyaleEngine.getBattleRoyaleEngine().activationOrder(battleRoyale)) {
+                    scenario.onStart().run();
+                }
             });
 
         });
 
-        return Result.Ok(Component.text("Successfully added valid onStart actions to Battle Royale " + battleRoyale.id()), true);
+        return Result.Ok(() -> Component.text("Successfully added valid onStart actions to Battle Royale " + battleRoyale.id()), true);
     }
 
-    public Result addToStop(BattleRoyale battleRoyale) {
+    public Result<Void> addToStop(BattleRoyale battleRoyale) {
 
         battleRoyale.onStop(onStop -> {
-            battleRoyale.state(BattleRoyaleState.ENDED);
+            List<Scenario> order = BattleRoyaleEngine.getBattleRoyaleEngine().activationOrder(battleRoyale);
+            for (Scenario scenario : order.reversed()) {
+                scenario.onStop().run();
+            }
+
+            SessionManager.getSessionManager().get(battleRoyale.id()).ifPresentOrElse(session -> {
+                session.getPhases().end();
+                SessionManager.getSessionManager().close(session);
+            }, () -> battleRoyale.state(BattleRoyaleState.ENDED));
         });
 
-        return Result.Ok(Component.text("Successfully added valid onStop actions to Battle Royale " + battleRoyale.id()), true);
+        return Result.Ok(() -> Component.text("Successfully added valid onStop actions to Battle Royale " + battleRoyale.id()), true);
     }
 
     /**
@@ -166,48 +237,107 @@ public class NewEngine {
      * @return a {@link Result.Ok} if all schedules are valid and bound,
      * or a {@link Result.Err} if an invalid schedule window is encountered
      */
-    public Result validateScheduleForScenario(Scenario scenario) {
+    public Result<Void> validateScheduleForScenario(Scenario scenario) {
+        return bindSchedules(scenario, null);
+    }
+
+    /**
+     * Validates the schedules of a {@link Scenario} and starts them for one session, as described in
+     * {@link #validateScheduleForScenario(Scenario)}.
+     * <p>
+     * The tasks belong to the session and are cancelled when it is closed, so the same scenario can run in
+     * several matches at once.
+     *
+     * @param session  the session to run the schedules in
+     * @param scenario the scenario whose registered schedules are validated and scheduled
+     * @return a {@link Result.Ok} if all schedules are valid and bound,
+     * or a {@link Result.Err} if an invalid schedule window is encountered
+     */
+    public Result<Void> validateScheduleForScenario(ArenaSession session, Scenario scenario) {
+        return bindSchedules(scenario, session);
+    }
+
+    private Result<Void> bindSchedules(Scenario scenario, ArenaSession session) {
 
         SchedulerConsumer schedulerConsumer = scenario.schedulerConsumer();
 
+        ScheduleBindingEvent event = new ScheduleBindingEvent();
+        event.begin();
+        event.schedules = schedulerConsumer.getSchedules().size();
+
         for (Map.Entry<SchedulerConsumer.ScheduleWindow, Runnable> entry : schedulerConsumer.getSchedules().entrySet()) {
             SchedulerConsumer.ScheduleWindow window = entry.getKey();
-            Runnable runnable = entry.getValue();
+            TickWatchdog.getWatchdog().own(entry.getValue().getClass(), scenario.plainName());
+            Runnable runnable = TickWatchdog.attribute(scenario.plainName(), MetricsRegistry.getRegistry()
+                    .histogram("royalecore_scheduled_task_seconds", "Run time of scheduled scenario tasks", "scenario", scenario.plainName())
+                    .timed(entry.getValue()));
 
             if (window.start().isEmpty() && window.stop().isEmpty()) {
-                scenario.onStart(_ -> Bukkit.getScheduler().runTask(Main.getPlugin(), runnable));
+                scenario.onStart(_ -> runTask(session, runnable));
                 continue;
             }
 
             if (window.start().isPresent() && window.stop().isEmpty()) {
                 long delayTicks = toTicks(window.start().get());
-                scenario.onStart(_ -> Bukkit.getScheduler().runTaskLater(Main.getPlugin(), runnable, delayTicks));
+                scenario.onStart(_ -> runTaskLater(session, runnable, delayTicks));
                 continue;
             }
 
             if (window.start().isPresent() && window.stop().isPresent()) {
                 long delayTicks = toTicks(window.start().get());
                 long periodTicks = toTicks(window.stop().get());
-                scenario.onStart(_ -> Bukkit.getScheduler().runTaskTimer(Main.getPlugin(), runnable, delayTicks, periodTicks));
+                scenario.onStart(_ -> runTaskTimer(session, runnable, delayTicks, periodTicks));
                 continue;
             }
 
             if (window.start().equals(Optional.empty()) && window.start().equals(Optional.of(Duration.ofDays(Long.MAX_VALUE)))) {
-                scenario.onStart(_ -> Bukkit.getScheduler().runTaskTimer(Main.getPlugin(), runnable, 0L, 1L));
+                scenario.onStart(_ -> runTaskTimer(session, runnable, 0L, 1L));
                 continue;
             }
 
             Result.Err(
-                    Component.text("Failed to schedule a task for Scenario '" + scenario.name() + "' because it contained an invalid value!"),
-                    new IllegalStateException("Invalid schedule window in Scenario '" + scenario.name() + "'."),
+                    () -> Component.text("Failed to schedule a task for Scenario '" + scenario.name() + "' because it contained an invalid value!"),
+                    new StacklessException("Invalid schedule window"),
                     false
             );
+            event.invalid++;
+            SCHEDULES_INVALID.increment();
 
             continue;
 
         }
 
-        return Result.Ok(Component.text("Successfully validated all schedules"), true);
+        if (event.shouldCommit()) {
+            event.scenario = scenario.plainName();
+            event.commit();
+        }
+        SCHEDULES_BOUND.add(event.schedules - event.invalid);
+
+        return SCHEDULES_VALID;
+    }
+
+    private void runTask(ArenaSession session, Runnable runnable) {
+        if (session != null) {
+            session.runTask(runnable);
+        } else {
+            Bukkit.getScheduler().runTask(Main.getPlugin(), runnable);
+        }
+    }
+
+    private void runTaskLater(ArenaSession session, Runnable runnable, long delayTicks) {
+        if (session != null) {
+            session.runTaskLater(runnable, delayTicks);
+        } else {
+            Bukkit.getScheduler().runTaskLater(Main.getPlugin(), runnable, delayTicks);
+        }
+    }
+
+    private void runTaskTimer(ArenaSession session, Runnable runnable, long delayTicks, long periodTicks) {
+        if (session != null) {
+            session.runTaskTimer(runnable, delayTicks, periodTicks);
+        } else {
+            Bukkit.getScheduler().runTaskTimer(Main.getPlugin(), runnable, delayTicks, periodTicks);
+        }
     }
 
     /**
@@ -234,7 +364,7 @@ public class NewEngine {
      * @return a {@link Result.Ok} if no duplicates are found, or a {@link Result.Err}
      * if at least one duplicate exists
      */
-    public <T> Result checkDupe(List<T> objects, Consumer<List<T>> action) {
+    public <T> Result<Void> checkDupe(List<T> objects, Consumer<List<T>> action) {
         long distinct = objects.stream().distinct().count();
 
         if (distinct != objects.size()) {
@@ -242,7 +372,7 @@ public class NewEngine {
             return Result.Err(Component.text("Duplicates detected."), true);
         }
 
-        return Result.Ok(Component.text("No duplicates found."), true);
+        return NO_DUPLICATES;
     }
 
     /**
@@ -260,7 +390,7 @@ public class NewEngine {
      * @return a {@link Result.Ok} if no duplicate literals are found, or a {@link Result.Err}
      * if any duplicate first literals are detected
      */
-    public <C> Result checkCommandLiteralDupes(List<C> commands,
+    public <C> Result<Void> checkCommandLiteralDupes(List<C> commands,
                                                Function<C, String> firstLiteralExtractor,
                                                Consumer<List<C>> onDupes) {
         Map<String, List<C>> byLiteral = commands.stream()
@@ -276,7 +406,7 @@ public class NewEngine {
             return Result.Err(Component.text("Duplicate command literals detected."), true);
         }
 
-        return Result.Ok(Component.text("No duplicate command literals found."), true);
+        return NO_DUPLICATE_LITERALS;
     }
 
     /**
@@ -291,7 +421,7 @@ public class NewEngine {
      * @return a {@link Result.Ok} if no duplicates are found, or a {@link Result.Err}
      * describing the duplicates that were detected
      */
-    public <T> Result forEachDupe(List<T> objects, Consumer<T> action) {
+    public <T> Result<Void> forEachDupe(List<T> objects, Consumer<T> action) {
         var seen = new java.util.HashSet<T>();
         var dupes = new java.util.HashSet<T>();
 
@@ -303,10 +433,10 @@ public class NewEngine {
 
         if (!dupes.isEmpty()) {
             dupes.forEach(action);
-            return Result.Err(Component.text("Duplicates detected: " + dupes), true);
+            return Result.Err(() -> Component.text("Duplicates detected: " + dupes), true);
         }
 
-        return Result.Ok(Component.text("No duplicates found."), true);
+        return NO_DUPLICATES;
     }
 
 }
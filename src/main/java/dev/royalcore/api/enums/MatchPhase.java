@@ -0,0 +1,70 @@
+package dev.royalcore.api.enums;
+
+import dev.royalcore.annotations.Experimental;
+
+/**
+ * The phases a match goes through, in order.
+ * <p>
+ * Each phase maps to the coarser {@link BattleRoyaleState} reported for the battle royale, and decides whether
+ * players may damage each other.
+ */
+@Experimental
+public enum MatchPhase {
+
+    /**
+     * Players are being collected, sent resource packs and spread over the world.
+     */
+    QUEUE(BattleRoyaleState.WAITING, false),
+
+    /**
+     * Players are frozen while the countdown runs.
+     */
+    COUNTDOWN(BattleRoyaleState.WAITING, false),
+
+    /**
+     * Players can move and gather, but cannot damage each other.
+     */
+    GRACE(BattleRoyaleState.IN_GAME, false),
+
+    /**
+     * The match is being played.
+     */
+    PLAY(BattleRoyaleState.IN_GAME, true),
+
+    /**
+     * The match is being played and the world border closes in.
+     */
+    BORDER(BattleRoyaleState.IN_GAME, true),
+
+    /**
+     * The match has ended.
+     */
+    END(BattleRoyaleState.ENDED, false);
+
+    private final BattleRoyaleState state;
+    private final boolean pvpAllowed;
+
+    MatchPhase(BattleRoyaleState state, boolean pvpAllowed) {
+        this.state = state;
+        this.pvpAllowed = pvpAllowed;
+    }
+
+    /**
+     * Returns the battle royale state reported during this phase.
+     *
+     * @return the battle royale state
+     */
+    public BattleRoyaleState state() {
+        return state;
+    }
+
+    /**
+     * Returns whether players may damage each other during this phase.
+     *
+     * @return {@code true} if PvP is allowed
+     */
+    public boolean isPvpAllowed() {
+        return pvpAllowed;
+    }
+
+}
@@ -0,0 +1,223 @@
+package dev.royalcore.api.errors;
+
+import dev.royalcore.Main;
+import dev.royalcore.annotations.Experimental;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Result} that completes in the future.
+ * <p>
+ * Wraps a {@link CompletableFuture} of {@link Result} and keeps {@link Result.Err} semantics across every step:
+ * a step that returns an error or throws short-circuits the rest of the chain, and the error is carried through
+ * to the end instead of completing the future exceptionally. This lets multi-step work, such as loading a
+ * schematic off-thread and placing it on the main thread, be written without blocking either thread.
+ * <p>
+ * Steps without an {@link Executor} run on whichever thread completed the previous step.
+ * Use {@link #mainThread()} for steps that touch the world.
+ *
+ * @param <T> the type of the value carried by a successful result
+ */
+@Experimental
+public final class AsyncResult<T> {
+
+    private final CompletableFuture<Result<T>> future;
+
+    private AsyncResult(CompletableFuture<Result<T>> future) {
+        this.future = future;
+    }
+
+    /**
+     * Wraps an already available result.
+     *
+     * @param result the result
+     * @param <T>    the value type of the result
+     * @return a completed {@link AsyncResult}
+     */
+    public static <T> AsyncResult<T> of(Result<T> result) {
+        return new AsyncResult<>(CompletableFuture.completedFuture(result));
+    }
+
+    /**
+     * Runs a task on the common pool.
+     *
+     * @param task produces the result
+     * @param <T>  the value type of the result
+     * @return an {@link AsyncResult} completed with the task's result
+     */
+    public static <T> AsyncResult<T> supplyAsync(Supplier<? extends Result<T>> task) {
+        return supplyAsync(task, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Runs a task on the given executor.
+     *
+     * @param task     produces the result
+     * @param executor the executor to run the task on
+     * @param <T>      the value type of the result
+     * @return an {@link AsyncResult} completed with the task's result
+     */
+    public static <T> AsyncResult<T> supplyAsync(Supplier<? extends Result<T>> task, Executor executor) {
+        return settle(CompletableFuture.supplyAsync(task, executor));
+    }
+
+    /**
+     * Adapts a plain future, turning exceptional completion into an {@link Result.Err}.
+     *
+     * @param future the future to adapt
+     * @param <T>    the type of the future's value
+     * @return an {@link AsyncResult} completed with the future's value or error
+     */
+    public static <T> AsyncResult<T> fromFuture(CompletableFuture<? extends T> future) {
+        return settle(future.thenApply(value -> Result.<T>Ok(value)));
+    }
+
+    /**
+     * Returns an executor that runs tasks on the server's main thread.
+     *
+     * @return the main thread executor of RoyaleCore
+     */
+    public static Executor mainThread() {
+        return Bukkit.getScheduler().getMainThreadExecutor(Main.getPlugin());
+    }
+
+    /**
+     * Transforms the value once it is available, see {@link Result#map(Function)}.
+     *
+     * @param mapper transforms the value
+     * @param <U>    the type of the transformed value
+     * @return an {@link AsyncResult} carrying the transformed value, or the original error
+     */
+    public <U> AsyncResult<U> map(Function<? super T, ? extends U> mapper) {
+        return settle(future.thenApply(result -> result.map(mapper)));
+    }
+
+    /**
+     * Transforms the value on the given executor, see {@link Result#map(Function)}.
+     *
+     * @param mapper   transforms the value
+     * @param executor the executor to run {@code mapper} on
+     * @param <U>      the type of the transformed value
+     * @return an {@link AsyncResult} carrying the transformed value, or the original error
+     */
+    public <U> AsyncResult<U> map(Function<? super T, ? extends U> mapper, Executor executor) {
+        return settle(future.thenApplyAsync(result -> result.map(mapper), executor));
+    }
+
+    /**
+     * Chains a step that may fail, see {@link Result#flatMap(Function)}.
+     *
+     * @param mapper produces the next result from the value
+     * @param <U>    the value type of the next result
+     * @return an {@link AsyncResult} completed with the next result, or the original error
+     */
+    public <U> AsyncResult<U> flatMap(Function<? super T, ? extends Result<U>> mapper) {
+        return settle(future.thenApply(result -> result.flatMap(mapper)));
+    }
+
+    /**
+     * Chains a step that may fail on the given executor, see {@link Result#flatMap(Function)}.
+     *
+     * @param mapper   produces the next result from the value
+     * @param executor the executor to run {@code mapper} on
+     * @param <U>      the value type of the next result
+     * @return an {@link AsyncResult} completed with the next result, or the original error
+     */
+    public <U> AsyncResult<U> flatMap(Function<? super T, ? extends Result<U>> mapper, Executor executor) {
+        return settle(future.thenApplyAsync(result -> result.flatMap(mapper), executor));
+    }
+
+    /**
+     * Chains another asynchronous step. Errors skip the step and are passed through.
+     *
+     * @param mapper starts the next asynchronous step from the value
+     * @param <U>    the value type of the next step
+     * @return an {@link AsyncResult} completed once the next step completes, or with the original error
+     */
+    public <U> AsyncResult<U> flatMapAsync(Function<? super T, AsyncResult<U>> mapper) {
+        return settle(future.thenCompose(result -> {
+            Result<AsyncResult<U>> next = result.map(mapper);
+            if (next instanceof Result.Ok<AsyncResult<U>> ok) {
+                return ok.value().future;
+            }
+            return CompletableFuture.completedFuture(next.<U>map(_ -> null));
+        }));
+    }
+
+    /**
+     * Turns an error into a value, see {@link Result#recover(Function)}.
+     *
+     * @param fallback computes the fallback value from the error
+     * @return an {@link AsyncResult} that always completes successfully
+     */
+    public AsyncResult<T> recover(Function<? super Result.Err<T>, ? extends T> fallback) {
+        return settle(future.thenApply(result -> result.recover(fallback)));
+    }
+
+    /**
+     * Runs an action with the final result once it is available.
+     *
+     * @param action   receives the result
+     * @param executor the executor to run {@code action} on
+     * @return this {@link AsyncResult}
+     */
+    public AsyncResult<T> onComplete(Consumer<? super Result<T>> action, Executor executor) {
+        future.thenAcceptAsync(action, executor);
+        return this;
+    }
+
+    /**
+     * Returns the underlying future. It never completes exceptionally.
+     *
+     * @return the future of the result
+     */
+    public CompletableFuture<Result<T>> toFuture() {
+        return future;
+    }
+
+    /**
+     * Blocks until the result is available.
+     * <p>
+     * Must not be called on the main thread while a step is scheduled on {@link #mainThread()}.
+     *
+     * @return the result
+     */
+    public Result<T> join() {
+        return future.join();
+    }
+
+    /**
+     * Replaces exceptional completion with an {@link Result.Err} carrying the cause.
+     *
+     * @param future the future to settle
+     * @param <T>    the value type of the result
+     * @return an {@link AsyncResult} whose future never completes exceptionally
+     */
+    private static <T> AsyncResult<T> settle(CompletableFuture<? extends Result<T>> future) {
+        CompletableFuture<Result<T>> settled = future.handle((result, throwable) -> {
+            if (throwable == null) {
+                return result;
+            }
+
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause()
+                    : throwable;
+
+            return Result.Err(
+                    () -> Component.text("Asynchronous step failed: " + cause),
+                    cause instanceof Exception exception ? exception : new RuntimeException(cause),
+                    false
+            );
+        });
+        return new AsyncResult<>(settled);
+    }
+
+}
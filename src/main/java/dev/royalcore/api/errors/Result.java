@@ -2,11 +2,14 @@ package dev.royalcore.api.errors;
 
 import dev.royalcore.Main;
 import dev.royalcore.annotations.Experimental;
+import dev.royalcore.internal.logging.AsyncLogSink;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextComponent;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Represents the outcome of an operation within the RoyaleCore API.
@@ -14,19 +17,45 @@ import java.util.List;
  * A {@code Result} is a sealed interface with three possible implementations:
  * {@link Result.Ok} for successful outcomes, {@link Result.Err} for failures,
  * and {@link Result.Broadcast} for aggregating and printing multiple results.
+ * <p>
+ * Messages are held as {@link Supplier}s and only built when {@link #print()} actually logs,
+ * and message-less results are shared singletons, so validating hot paths allocate nothing
+ * on success. Printing only enqueues the message on the {@link AsyncLogSink}; it is rendered
+ * and written on a background thread. Prefer {@link StacklessException} over stack-capturing exceptions when the
+ * stack trace would only ever point at RoyaleCore internals.
+ * <p>
+ * A successful result may carry a value of type {@code T}; operations that only report success or failure
+ * return {@code Result<Void>}. Results can be chained with {@link #map(Function)}, {@link #flatMap(Function)}
+ * and {@link #recover(Function)}, and {@link AsyncResult} offers the same composition for steps that complete
+ * on other threads.
+ *
+ * @param <T> the type of the value carried by a successful result
  */
 @Experimental
-public sealed interface Result
+public sealed interface Result<T>
         permits Result.Ok, Result.Err, Result.Broadcast {
 
     /**
-     * Creates a successful {@link Ok} result with an empty success message,
+     * Returns the shared successful {@link Ok} result with an empty success message and no value,
      * logged unconditionally (not only in debug mode).
      *
-     * @return a new {@link Ok} result with an empty message and {@code onlyIfDebugModeIsEnabled = false}
+     * @param <T> the value type of the result
+     * @return the shared {@link Ok} result with an empty message and {@code onlyIfDebugModeIsEnabled = false}
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Ok<T> Ok() {
+        return (Ok<T>) Ok.EMPTY;
+    }
+
+    /**
+     * Creates a successful {@link Ok} result carrying the given value and an empty success message.
+     *
+     * @param value the value produced by the operation
+     * @param <T>   the value type of the result
+     * @return a new {@link Ok} result carrying the given value
      */
-    static Ok Ok() {
-        return new Ok(Component.empty(), false);
+    static <T> Ok<T> Ok(T value) {
+        return new Ok<>(value, Ok.EMPTY_MESSAGE, false);
     }
 
     /**
@@ -34,30 +63,59 @@ public sealed interface Result
      *
      * @param msg                      the success message to log
      * @param onlyIfDebugModeIsEnabled whether the message should be logged only when debug mode is enabled
+     * @param <T>                      the value type of the result
      * @return a new {@link Ok} result carrying the given message and debug flag
      */
-    static Ok Ok(TextComponent msg, boolean onlyIfDebugModeIsEnabled) {
-        return new Ok(msg, onlyIfDebugModeIsEnabled);
+    static <T> Ok<T> Ok(TextComponent msg, boolean onlyIfDebugModeIsEnabled) {
+        return new Ok<>(msg, onlyIfDebugModeIsEnabled);
+    }
+
+    /**
+     * Creates a successful {@link Ok} result whose message is only built if it is printed.
+     *
+     * @param msg                      supplies the success message to log
+     * @param onlyIfDebugModeIsEnabled whether the message should be logged only when debug mode is enabled
+     * @param <T>                      the value type of the result
+     * @return a new {@link Ok} result carrying the given message supplier and debug flag
+     */
+    static <T> Ok<T> Ok(Supplier<? extends TextComponent> msg, boolean onlyIfDebugModeIsEnabled) {
+        return new Ok<>(null, msg, onlyIfDebugModeIsEnabled);
+    }
+
+    /**
+     * Creates a successful {@link Ok} result carrying a value and a lazily built success message.
+     *
+     * @param value                    the value produced by the operation
+     * @param msg                      supplies the success message to log
+     * @param onlyIfDebugModeIsEnabled whether the message should be logged only when debug mode is enabled
+     * @param <T>                      the value type of the result
+     * @return a new {@link Ok} result carrying the given value, message supplier and debug flag
+     */
+    static <T> Ok<T> Ok(T value, Supplier<? extends TextComponent> msg, boolean onlyIfDebugModeIsEnabled) {
+        return new Ok<>(value, msg, onlyIfDebugModeIsEnabled);
     }
 
     /**
-     * Creates an error {@link Err} result with an empty message and no exception,
+     * Returns the shared error {@link Err} result with an empty message and no exception,
      * logged unconditionally (not only in debug mode).
      *
-     * @return a new {@link Err} result with an empty message and no exception
+     * @param <T> the value type of the result
+     * @return the shared {@link Err} result with an empty message and no exception
      */
-    static Err Err() {
-        return new Err(Component.empty(), null, false);
+    @SuppressWarnings("unchecked")
+    static <T> Err<T> Err() {
+        return (Err<T>) Err.EMPTY;
     }
 
     /**
      * Creates an error {@link Err} result with the given exception and an empty message.
      *
      * @param exception the exception associated with this error
+     * @param <T>       the value type of the result
      * @return a new {@link Err} result with the given exception and an empty message
      */
-    static Err Err(Exception exception) {
-        return new Err(Component.empty(), exception, false);
+    static <T> Err<T> Err(Exception exception) {
+        return new Err<>(Err.EMPTY_MESSAGE, exception, false);
     }
 
     /**
@@ -65,10 +123,11 @@ public sealed interface Result
      *
      * @param msg                      the error message to log
      * @param onlyIfDebugModeIsEnabled whether the message should be logged only when debug mode is enabled
+     * @param <T>                      the value type of the result
      * @return a new {@link Err} result with the given message and debug flag
      */
-    static Err Err(TextComponent msg, boolean onlyIfDebugModeIsEnabled) {
-        return new Err(msg, null, onlyIfDebugModeIsEnabled);
+    static <T> Err<T> Err(TextComponent msg, boolean onlyIfDebugModeIsEnabled) {
+        return new Err<>(msg, null, onlyIfDebugModeIsEnabled);
     }
 
     /**
@@ -77,10 +136,36 @@ public sealed interface Result
      * @param msg                      the error message to log
      * @param exception                the exception associated with this error
      * @param onlyIfDebugModeIsEnabled whether the message should be logged only when debug mode is enabled
+     * @param <T>                      the value type of the result
      * @return a new {@link Err} result with the given message, exception, and debug flag
      */
-    static Err Err(TextComponent msg, Exception exception, boolean onlyIfDebugModeIsEnabled) {
-        return new Err(msg, exception, onlyIfDebugModeIsEnabled);
+    static <T> Err<T> Err(TextComponent msg, Exception exception, boolean onlyIfDebugModeIsEnabled) {
+        return new Err<>(msg, exception, onlyIfDebugModeIsEnabled);
+    }
+
+    /**
+     * Creates an error {@link Err} result whose message is only built if it is printed.
+     *
+     * @param msg                      supplies the error message to log
+     * @param onlyIfDebugModeIsEnabled whether the message should be logged only when debug mode is enabled
+     * @param <T>                      the value type of the result
+     * @return a new {@link Err} result with the given message supplier and debug flag
+     */
+    static <T> Err<T> Err(Supplier<? extends TextComponent> msg, boolean onlyIfDebugModeIsEnabled) {
+        return new Err<>(msg, null, onlyIfDebugModeIsEnabled);
+    }
+
+    /**
+     * Creates an error {@link Err} result whose message is only built if it is printed.
+     *
+     * @param msg                      supplies the error message to log
+     * @param exception                the exception associated with this error
+     * @param onlyIfDebugModeIsEnabled whether the message should be logged only when debug mode is enabled
+     * @param <T>                      the value type of the result
+     * @return a new {@link Err} result with the given message supplier, exception, and debug flag
+     */
+    static <T> Err<T> Err(Supplier<? extends TextComponent> msg, Exception exception, boolean onlyIfDebugModeIsEnabled) {
+        return new Err<>(msg, exception, onlyIfDebugModeIsEnabled);
     }
 
     /**
@@ -98,7 +183,7 @@ public sealed interface Result
      * @param r the result to inspect
      * @return {@code true} if the result is an instance of {@link Ok}, {@code false} otherwise
      */
-    static boolean isOk(Result r) {
+    static boolean isOk(Result<?> r) {
         return r instanceof Result.Ok;
     }
 
@@ -108,7 +193,7 @@ public sealed interface Result
      * @param r the result to inspect
      * @return {@code true} if the result is an instance of {@link Err}, {@code false} otherwise
      */
-    static boolean isErr(Result r) {
+    static boolean isErr(Result<?> r) {
         return r instanceof Result.Err;
     }
 
@@ -130,6 +215,80 @@ public sealed interface Result
         return this instanceof Result.Ok;
     }
 
+    /**
+     * Transforms the value of a successful result.
+     * <p>
+     * An {@link Err} is returned unchanged. A {@link Broadcast} is treated as its first contained {@link Err},
+     * or as an {@link Ok} without a value if it contains none. The success message of an {@link Ok} is kept.
+     *
+     * @param mapper transforms the value
+     * @param <U>    the type of the transformed value
+     * @return a result carrying the transformed value, or the original error
+     */
+    default <U> Result<U> map(Function<? super T, ? extends U> mapper) {
+        return switch (this) {
+            case Ok<T> ok -> new Ok<>(mapper.apply(ok.value()), ok.message(), ok.onlyIfDebugModeIsEnabled());
+            case Err<T> err -> err.cast();
+            case Broadcast broadcast -> Result.<T>retype(broadcast.collapse()).map(mapper);
+        };
+    }
+
+    /**
+     * Chains another operation that may itself fail onto a successful result.
+     * <p>
+     * An {@link Err} is returned unchanged without invoking {@code mapper}.
+     * A {@link Broadcast} is treated as described in {@link #map(Function)}.
+     *
+     * @param mapper produces the next result from the value
+     * @param <U>    the value type of the next result
+     * @return the result produced by {@code mapper}, or the original error
+     */
+    default <U> Result<U> flatMap(Function<? super T, ? extends Result<U>> mapper) {
+        return switch (this) {
+            case Ok<T> ok -> mapper.apply(ok.value());
+            case Err<T> err -> err.cast();
+            case Broadcast broadcast -> Result.<T>retype(broadcast.collapse()).flatMap(mapper);
+        };
+    }
+
+    /**
+     * Turns an error into a successful result by computing a fallback value.
+     * <p>
+     * Successful results are returned unchanged. The recovered {@link Ok} carries no message.
+     *
+     * @param fallback computes the fallback value from the error
+     * @return this result if it is successful, otherwise an {@link Ok} carrying the fallback value
+     */
+    default Result<T> recover(Function<? super Err<T>, ? extends T> fallback) {
+        return switch (this) {
+            case Ok<T> ok -> ok;
+            case Err<T> err -> Result.Ok(fallback.apply(err));
+            case Broadcast broadcast -> Result.<T>retype(broadcast.collapse()).recover(fallback);
+        };
+    }
+
+    /**
+     * Returns the value of a successful result, or the given fallback if this is an error.
+     *
+     * @param fallback the value to return if this result is not an {@link Ok}
+     * @return the carried value, or {@code fallback}
+     */
+    default T orElse(T fallback) {
+        return this instanceof Ok<T> ok ? ok.value() : fallback;
+    }
+
+    /**
+     * Re-types a result whose value type is known to match, such as a {@link Broadcast} seen as a {@code Result<T>}.
+     *
+     * @param result the result to re-type
+     * @param <T>    the target value type
+     * @return the same result
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Result<T> retype(Result<?> result) {
+        return (Result<T>) result;
+    }
+
     /**
      * Prints this result to the configured log outputs.
      * <p>
@@ -140,35 +299,96 @@ public sealed interface Result
     void print();
 
     /**
-     * Successful {@link Result} carrying an optional success message and a debug-only flag.
+     * Successful {@link Result} carrying an optional value, an optional, lazily built success message and a debug-only flag.
      *
-     * @param successMsg               the success message associated with this result
+     * @param value                    the value produced by the operation, or {@code null} if none
+     * @param message                  supplies the success message associated with this result
      * @param onlyIfDebugModeIsEnabled whether the message should be logged only when debug mode is enabled
+     * @param <T>                      the type of the carried value
      */
-    record Ok(TextComponent successMsg, boolean onlyIfDebugModeIsEnabled) implements Result {
+    record Ok<T>(T value, Supplier<? extends TextComponent> message, boolean onlyIfDebugModeIsEnabled) implements Result<T> {
+
+        private static final Supplier<TextComponent> EMPTY_MESSAGE = Component::empty;
+        private static final Ok<?> EMPTY = new Ok<>(null, EMPTY_MESSAGE, false);
+
+        /**
+         * Creates a successful result with an already built message.
+         *
+         * @param successMsg               the success message associated with this result
+         * @param onlyIfDebugModeIsEnabled whether the message should be logged only when debug mode is enabled
+         */
+        public Ok(TextComponent successMsg, boolean onlyIfDebugModeIsEnabled) {
+            this(null, () -> successMsg, onlyIfDebugModeIsEnabled);
+        }
+
+        /**
+         * Builds and returns the success message.
+         *
+         * @return the success message associated with this result
+         */
+        public TextComponent successMsg() {
+            return message.get();
+        }
+
         /**
          * Logs the success message either always or only when debug mode is enabled,
-         * depending on {@code onlyIfDebugModeIsEnabled}.
+         * depending on {@code onlyIfDebugModeIsEnabled}. The message is not built if nothing is logged,
+         * and is otherwise built on the background log thread.
          */
         @Override
         public void print() {
             if (onlyIfDebugModeIsEnabled) {
-                Main.debug(successMsg);
+                Main.debug(message);
                 return;
             }
 
-            Main.getPlugin().getComponentLogger().info(successMsg);
+            AsyncLogSink.getSink().info(message);
         }
     }
 
     /**
-     * Error {@link Result} carrying an error message, an optional exception, and a debug-only flag.
+     * Error {@link Result} carrying a lazily built error message, an optional exception, and a debug-only flag.
      *
-     * @param errorMsg             the error message associated with this result
+     * @param message              supplies the error message associated with this result
      * @param exception            the exception linked to this error, or {@code null} if none
      * @param onlyIfDebugIsEnabled whether the error should be logged only when debug mode is enabled
+     * @param <T>                  the value type the failed operation would have produced
      */
-    record Err(TextComponent errorMsg, Exception exception, boolean onlyIfDebugIsEnabled) implements Result {
+    record Err<T>(Supplier<? extends TextComponent> message, Exception exception, boolean onlyIfDebugIsEnabled) implements Result<T> {
+
+        private static final Supplier<TextComponent> EMPTY_MESSAGE = Component::empty;
+        private static final Err<?> EMPTY = new Err<>(EMPTY_MESSAGE, null, false);
+
+        /**
+         * Creates an error result with an already built message.
+         *
+         * @param errorMsg             the error message associated with this result
+         * @param exception            the exception linked to this error, or {@code null} if none
+         * @param onlyIfDebugIsEnabled whether the error should be logged only when debug mode is enabled
+         */
+        public Err(TextComponent errorMsg, Exception exception, boolean onlyIfDebugIsEnabled) {
+            this(() -> errorMsg, exception, onlyIfDebugIsEnabled);
+        }
+
+        /**
+         * Builds and returns the error message.
+         *
+         * @return the error message associated with this result
+         */
+        public TextComponent errorMsg() {
+            return message.get();
+        }
+
+        /**
+         * Re-types this error; an error carries no value, so this is always safe.
+         *
+         * @param <U> the new value type
+         * @return this error
+         */
+        @SuppressWarnings("unchecked")
+        private <U> Err<U> cast() {
+            return (Err<U>) this;
+        }
 
         /**
          * Logs the error message (and associated exception, if present).
@@ -180,18 +400,14 @@ public sealed interface Result
         public void print() {
             if (onlyIfDebugIsEnabled) {
                 if (exception == null) {
-                    Main.debug(errorMsg);
+                    Main.debug(message);
                 } else {
-                    Main.debug(errorMsg, exception);
+                    Main.debug(message, exception);
                 }
                 return;
             }
 
-            if (exception == null) {
-                Main.getPlugin().getComponentLogger().error(errorMsg);
-            } else {
-                Main.getPlugin().getComponentLogger().error(errorMsg, exception);
-            }
+            AsyncLogSink.getSink().error(message, exception);
         }
     }
 
@@ -201,8 +417,8 @@ public sealed interface Result
      * This is useful when an operation consists of several sub-steps, each of which returns a {@link Result},
      * and you want to collect and output all of them at once.
      */
-    final class Broadcast implements Result {
-        private final List<Result> results = new ArrayList<>();
+    final class Broadcast implements Result<Void> {
+        private final List<Result<?>> results = new ArrayList<>();
 
         /**
          * Creates an empty broadcast result collection.
@@ -216,7 +432,7 @@ public sealed interface Result
          * @param result the result to add
          * @return this {@link Broadcast} instance for chaining
          */
-        public Broadcast add(Result result) {
+        public Broadcast add(Result<?> result) {
             results.add(result);
             return this;
         }
@@ -227,7 +443,7 @@ public sealed interface Result
          * @param result the result to remove
          * @return this {@link Broadcast} instance for chaining
          */
-        public Broadcast remove(Result result) {
+        public Broadcast remove(Result<?> result) {
             results.remove(result);
             return this;
         }
@@ -237,9 +453,23 @@ public sealed interface Result
          */
         @Override
         public void print() {
-            for (Result r : results) {
+            for (Result<?> r : results) {
                 r.print();
             }
         }
+
+        /**
+         * Reduces this broadcast to its first contained error, or to a successful result without a value.
+         *
+         * @return the first contained {@link Err}, or {@link Result#Ok()} if there is none
+         */
+        private Result<Void> collapse() {
+            for (Result<?> r : results) {
+                if (r instanceof Err<?> err) {
+                    return err.cast();
+                }
+            }
+            return Result.Ok();
+        }
     }
 }
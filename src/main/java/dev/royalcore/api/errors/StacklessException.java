@@ -0,0 +1,31 @@
+package dev.royalcore.api.errors;
+
+/**
+ * Lightweight exception that does not capture a stack trace.
+ * <p>
+ * Intended as the cause of {@link Result.Err} values produced by RoyaleCore's own
+ * validation, where a stack trace would only ever point at engine internals and
+ * filling it in would dominate the cost of reporting the error.
+ */
+public class StacklessException extends RuntimeException {
+
+    /**
+     * Creates a stackless exception with the given message.
+     *
+     * @param message the detail message
+     */
+    public StacklessException(String message) {
+        super(message, null, false, false);
+    }
+
+    /**
+     * Creates a stackless exception with the given message and cause.
+     *
+     * @param message the detail message
+     * @param cause   the underlying cause, which keeps its own stack trace
+     */
+    public StacklessException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+
+}
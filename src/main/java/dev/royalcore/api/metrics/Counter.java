@@ -0,0 +1,48 @@
+package dev.royalcore.api.metrics;
+
+import dev.royalcore.annotations.Experimental;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonically increasing count, exposed as a Prometheus {@code counter}.
+ * <p>
+ * Backed by a {@link LongAdder}, so concurrent increments from many threads do not contend.
+ */
+@Experimental
+public final class Counter implements Metric {
+
+    private final LongAdder value = new LongAdder();
+
+    Counter() {
+    }
+
+    /**
+     * Adds one to this counter.
+     */
+    public void increment() {
+        value.increment();
+    }
+
+    /**
+     * Adds the given amount to this counter.
+     *
+     * @param amount the amount to add; must not be negative
+     */
+    public void add(long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Counters can only increase");
+        }
+        value.add(amount);
+    }
+
+    /**
+     * Returns the current count.
+     *
+     * @return the current count
+     */
+    public long get() {
+        return value.sum();
+    }
+
+}
@@ -0,0 +1,30 @@
+package dev.royalcore.api.metrics;
+
+import dev.royalcore.annotations.Experimental;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Value sampled whenever the metrics are rendered, exposed as a Prometheus {@code gauge}.
+ * <p>
+ * The supplier runs on the metrics export thread and must therefore be thread-safe.
+ */
+@Experimental
+public final class Gauge implements Metric {
+
+    private final DoubleSupplier value;
+
+    Gauge(DoubleSupplier value) {
+        this.value = value;
+    }
+
+    /**
+     * Samples the current value.
+     *
+     * @return the current value
+     */
+    public double get() {
+        return value.getAsDouble();
+    }
+
+}
@@ -0,0 +1,185 @@
+package dev.royalcore.api.metrics;
+
+import dev.royalcore.annotations.Experimental;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with log-linear buckets, exposed as a Prometheus {@code summary}.
+ * <p>
+ * Like an HDR histogram, every power of two is split into {@value #SUB_BUCKETS} linear sub-buckets,
+ * so percentiles are accurate to within 12.5% over the whole nanosecond to centuries range.
+ * Updates are striped by thread across several bucket arrays, so threads recording at the same time
+ * rarely touch the same cache line; stripes are merged when a {@link Snapshot} is taken.
+ * Recording never allocates.
+ */
+@Experimental
+public final class Histogram implements Metric {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    private static final int STRIPES = Math.min(8, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors())));
+
+    private final AtomicLongArray buckets = new AtomicLongArray(STRIPES * BUCKETS);
+    private final LongAdder sumNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Creates a histogram that is not part of the {@link MetricsRegistry}.
+     * <p>
+     * Use {@link MetricsRegistry#histogram(String, String, String...)} for histograms that should be exported.
+     */
+    public Histogram() {
+    }
+
+    /**
+     * Records a single observation.
+     *
+     * @param nanos the observed latency in nanoseconds; negative values are clamped to zero
+     */
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        int stripe = (int) Thread.currentThread().threadId() & (STRIPES - 1);
+        buckets.incrementAndGet(stripe * BUCKETS + bucketOf(value));
+        sumNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    /**
+     * Wraps a task so that every run of it is recorded in this histogram.
+     *
+     * @param task the task to time
+     * @return a runnable that runs {@code task} and records how long it took
+     */
+    public Runnable timed(Runnable task) {
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                record(System.nanoTime() - start);
+            }
+        };
+    }
+
+    /**
+     * Merges all stripes into a consistent view for percentile queries.
+     *
+     * @return a snapshot of this histogram
+     */
+    public Snapshot snapshot() {
+        long[] merged = new long[BUCKETS];
+        long count = 0L;
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            int offset = stripe * BUCKETS;
+            for (int i = 0; i < BUCKETS; i++) {
+                long n = buckets.get(offset + i);
+                merged[i] += n;
+                count += n;
+            }
+        }
+        return new Snapshot(merged, count, sumNanos.sum(), maxNanos.get());
+    }
+
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    private static long lowerBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int sub = bucket % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + sub) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    private static long upperBoundOf(int bucket) {
+        return bucket + 1 < BUCKETS ? lowerBoundOf(bucket + 1) - 1 : Long.MAX_VALUE;
+    }
+
+    /**
+     * Point-in-time view of a {@link Histogram}.
+     */
+    public static final class Snapshot {
+
+        private final long[] buckets;
+        private final long count;
+        private final long sumNanos;
+        private final long maxNanos;
+
+        private Snapshot(long[] buckets, long count, long sumNanos, long maxNanos) {
+            this.buckets = buckets;
+            this.count = count;
+            this.sumNanos = sumNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        /**
+         * Returns the number of recorded observations.
+         *
+         * @return the observation count
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * Returns the sum of all recorded observations.
+         *
+         * @return the total latency in nanoseconds
+         */
+        public long sumNanos() {
+            return sumNanos;
+        }
+
+        /**
+         * Returns the largest recorded observation.
+         *
+         * @return the maximum latency in nanoseconds, or {@code 0} if nothing was recorded
+         */
+        public long maxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Returns the mean of all recorded observations.
+         *
+         * @return the mean latency in nanoseconds, or {@code 0} if nothing was recorded
+         */
+        public double meanNanos() {
+            return count == 0 ? 0D : (double) sumNanos / count;
+        }
+
+        /**
+         * Approximates the given percentile by the upper bound of the bucket it falls into.
+         *
+         * @param percentile the percentile in the range {@code [0, 100]}
+         * @return the approximate latency in nanoseconds, never above {@link #maxNanos()}
+         */
+        public long percentileNanos(double percentile) {
+            if (count == 0) {
+                return 0L;
+            }
+
+            long rank = Math.max(1L, (long) Math.ceil(count * Math.min(100.0, Math.max(0.0, percentile)) / 100.0));
+            long seen = 0L;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return Math.min(upperBoundOf(i), maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+    }
+
+}
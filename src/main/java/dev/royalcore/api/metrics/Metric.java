@@ -0,0 +1,12 @@
+package dev.royalcore.api.metrics;
+
+import dev.royalcore.annotations.Experimental;
+
+/**
+ * A single time series held by the {@link MetricsRegistry}.
+ * <p>
+ * Every metric is safe to update from any thread without locking.
+ */
+@Experimental
+public sealed interface Metric permits Counter, Gauge, Histogram {
+}
@@ -0,0 +1,314 @@
+package dev.royalcore.api.metrics;
+
+import dev.royalcore.annotations.Experimental;
+import dev.royalcore.api.errors.Result;
+import lombok.Getter;
+import net.kyori.adventure.text.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Process-wide registry of RoyaleCore's counters, gauges and latency histograms.
+ * <p>
+ * Metrics are identified by a Prometheus-style name and an optional set of labels, given as
+ * alternating label names and values. Asking for the same name and labels twice returns the same
+ * metric, so hot paths should look a metric up once and keep the handle.
+ * <p>
+ * While exporting, the registry periodically writes every metric in the Prometheus text exposition
+ * format to a file, so that a node-exporter textfile collector can scrape it. The file is replaced
+ * atomically and never observed half-written.
+ */
+@Experimental
+public final class MetricsRegistry {
+
+    /**
+     * Singleton instance of the {@link MetricsRegistry}.
+     */
+    @Getter
+    private static final MetricsRegistry registry = new MetricsRegistry();
+
+    private static final Pattern NAME = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+    private static final Pattern LABEL = Pattern.compile("[a-zA-Z_][a-zA-Z0-9_]*");
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private static final ScheduledExecutorService exportExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "RoyaleCoreMetricsThread");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final Map<String, Family> families = new ConcurrentSkipListMap<>();
+
+    private Path exportFile;
+    private ScheduledFuture<?> exportTask;
+
+    private MetricsRegistry() {
+    }
+
+    /**
+     * Returns the counter with the given name and labels, creating it if needed.
+     *
+     * @param name   the metric name, conventionally ending in {@code _total}
+     * @param help   a short description of the metric
+     * @param labels alternating label names and values
+     * @return the counter
+     * @throws IllegalArgumentException if the name is already used by a different kind of metric
+     */
+    public Counter counter(String name, String help, String... labels) {
+        return metric(name, help, Type.COUNTER, labels, _ -> new Counter());
+    }
+
+    /**
+     * Returns the gauge with the given name and labels, creating it with the given supplier if needed.
+     *
+     * @param name   the metric name
+     * @param help   a short description of the metric
+     * @param value  samples the value; runs on the export thread
+     * @param labels alternating label names and values
+     * @return the gauge
+     * @throws IllegalArgumentException if the name is already used by a different kind of metric
+     */
+    public Gauge gauge(String name, String help, DoubleSupplier value, String... labels) {
+        return metric(name, help, Type.GAUGE, labels, _ -> new Gauge(value));
+    }
+
+    /**
+     * Returns the latency histogram with the given name and labels, creating it if needed.
+     * <p>
+     * Observations are recorded in nanoseconds and exported in seconds.
+     *
+     * @param name   the metric name, conventionally ending in {@code _seconds}
+     * @param help   a short description of the metric
+     * @param labels alternating label names and values
+     * @return the histogram
+     * @throws IllegalArgumentException if the name is already used by a different kind of metric
+     */
+    public Histogram histogram(String name, String help, String... labels) {
+        return metric(name, help, Type.SUMMARY, labels, _ -> new Histogram());
+    }
+
+    /**
+     * Returns every histogram, keyed by its name and rendered labels, in name order.
+     *
+     * @return all histograms
+     */
+    public Map<String, Histogram> histograms() {
+        Map<String, Histogram> histograms = new TreeMap<>();
+        for (Family family : families.values()) {
+            for (Map.Entry<String, Metric> child : family.children().entrySet()) {
+                if (child.getValue() instanceof Histogram histogram) {
+                    histograms.put(family.name() + braced(child.getKey()), histogram);
+                }
+            }
+        }
+        return histograms;
+    }
+
+    /**
+     * Returns every counter, keyed by its name and rendered labels, in name order.
+     *
+     * @return all counters
+     */
+    public Map<String, Counter> counters() {
+        Map<String, Counter> counters = new TreeMap<>();
+        for (Family family : families.values()) {
+            for (Map.Entry<String, Metric> child : family.children().entrySet()) {
+                if (child.getValue() instanceof Counter counter) {
+                    counters.put(family.name() + braced(child.getKey()), counter);
+                }
+            }
+        }
+        return counters;
+    }
+
+    /**
+     * Renders every metric in the Prometheus text exposition format.
+     *
+     * @return the rendered metrics
+     */
+    public String render() {
+        StringBuilder out = new StringBuilder(4096);
+        for (Family family : families.values()) {
+            out.append("# HELP ").append(family.name()).append(' ').append(escapeHelp(family.help())).append('\n');
+            out.append("# TYPE ").append(family.name()).append(' ').append(family.type().exposition).append('\n');
+
+            for (Map.Entry<String, Metric> child : family.children().entrySet()) {
+                String labels = child.getKey();
+                switch (child.getValue()) {
+                    case Counter counter -> sample(out, family.name(), labels, counter.get());
+                    case Gauge gauge -> sample(out, family.name(), labels, gauge.get());
+                    case Histogram histogram -> {
+                        Histogram.Snapshot snapshot = histogram.snapshot();
+                        for (double quantile : QUANTILES) {
+                            String quantileLabels = (labels.isEmpty() ? "" : labels + ",") + "quantile=\"" + quantile + "\"";
+                            sample(out, family.name(), quantileLabels, seconds(snapshot.percentileNanos(quantile * 100)));
+                        }
+                        sample(out, family.name() + "_sum", labels, seconds(snapshot.sumNanos()));
+                        sample(out, family.name() + "_count", labels, snapshot.count());
+                    }
+                }
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Starts writing the rendered metrics to the given file at a fixed interval.
+     * <p>
+     * Replaces any previously started export.
+     *
+     * @param file     the file to write, conventionally ending in {@code .prom}
+     * @param interval the time between two writes
+     */
+    public synchronized void startExport(Path file, Duration interval) {
+        stopExport();
+        this.exportFile = file;
+        this.exportTask = exportExecutor.scheduleAtFixedRate(
+                () -> export().print(),
+                interval.toMillis(),
+                interval.toMillis(),
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    /**
+     * Stops the periodic export and writes the metrics one last time.
+     */
+    public synchronized void stopExport() {
+        if (exportTask == null) {
+            return;
+        }
+        exportTask.cancel(false);
+        exportTask = null;
+        export().print();
+    }
+
+    /**
+     * Writes the rendered metrics to the export file, replacing it atomically.
+     *
+     * @return {@link Result#Ok()} on success or if no export is configured, otherwise an {@link Result.Err}
+     */
+    public synchronized Result<Void> export() {
+        Path target = exportFile;
+        if (target == null) {
+            return Result.Ok();
+        }
+
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(target.toAbsolutePath().getParent());
+            Files.writeString(temp, render(), StandardCharsets.UTF_8);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            return Result.Err(
+                    () -> Component.text("Failed to write metrics to '" + target + "'"),
+                    e,
+                    false
+            );
+        }
+        return Result.Ok();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <M extends Metric> M metric(String name, String help, Type type, String[] labels, Function<String, M> factory) {
+        Family family = families.computeIfAbsent(name, _ -> {
+            if (!NAME.matcher(name).matches()) {
+                throw new IllegalArgumentException("Invalid metric name '" + name + "'");
+            }
+            return new Family(name, help, type, new ConcurrentHashMap<>());
+        });
+
+        if (family.type() != type) {
+            throw new IllegalArgumentException("Metric '" + name + "' is a " + family.type().exposition + ", not a " + type.exposition);
+        }
+
+        return (M) family.children().computeIfAbsent(labels(labels), factory);
+    }
+
+    private static String labels(String[] labels) {
+        if (labels.length == 0) {
+            return "";
+        }
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be given as name/value pairs");
+        }
+
+        List<String> pairs = new ArrayList<>(labels.length / 2);
+        for (int i = 0; i < labels.length; i += 2) {
+            if (!LABEL.matcher(labels[i]).matches()) {
+                throw new IllegalArgumentException("Invalid label name '" + labels[i] + "'");
+            }
+            pairs.add(labels[i] + "=\"" + escapeLabel(String.valueOf(labels[i + 1])) + "\"");
+        }
+        return String.join(",", pairs);
+    }
+
+    private static String braced(String labels) {
+        return labels.isEmpty() ? "" : "{" + labels + "}";
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, double value) {
+        out.append(name).append(braced(labels)).append(' ');
+        if (Double.isNaN(value)) {
+            out.append("NaN");
+        } else if (Double.isInfinite(value)) {
+            out.append(value > 0 ? "+Inf" : "-Inf");
+        } else if (value == (long) value) {
+            out.append((long) value);
+        } else {
+            out.append(value);
+        }
+        out.append('\n');
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / 1_000_000_000D;
+    }
+
+    private static String escapeHelp(String help) {
+        return help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+
+    private static String escapeLabel(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private enum Type {
+        COUNTER("counter"),
+        GAUGE("gauge"),
+        SUMMARY("summary");
+
+        private final String exposition;
+
+        Type(String exposition) {
+            this.exposition = exposition;
+        }
+    }
+
+    private record Family(String name, String help, Type type, Map<String, Metric> children) {
+    }
+
+}
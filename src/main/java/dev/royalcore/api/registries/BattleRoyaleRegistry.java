@@ -0,0 +1,181 @@
+package dev.royalcore.api.registries;
+
+import dev.royalcore.annotations.Experimental;
+import dev.royalcore.annotations.NotForDeveloperUse;
+import dev.royalcore.api.br.BattleRoyale;
+import dev.royalcore.api.enums.BattleRoyaleState;
+import dev.royalcore.api.scenario.Scenario;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Registry of every battle royale the engine has committed, keyed by battle royale ID.
+ * <p>
+ * Each entry records whether the battle royale was registered or failed, together with its scenario
+ * activation order. Registered battle royales are also indexed by their current {@link BattleRoyaleState},
+ * so finding every battle royale in a given state does not scan the registry. {@link BattleRoyale#state(BattleRoyaleState)}
+ * keeps that index up to date.
+ * <p>
+ * All methods are thread-safe. Updates to one battle royale are serialized, and the returned views are
+ * weakly consistent: they never fail while being iterated, but a battle royale that is changing state may
+ * briefly show up in both its old and its new state.
+ */
+@Experimental
+public final class BattleRoyaleRegistry {
+
+    @Getter
+    private static final BattleRoyaleRegistry battleRoyaleRegistry = new BattleRoyaleRegistry();
+
+    private final Map<UUID, Registration> registrations = new ConcurrentHashMap<>();
+    private final Set<BattleRoyale> registered = ConcurrentHashMap.newKeySet();
+    private final Map<BattleRoyaleState, Set<BattleRoyale>> byState = new EnumMap<>(BattleRoyaleState.class);
+    private final Queue<BattleRoyale> failed = new ConcurrentLinkedQueue<>();
+
+    private BattleRoyaleRegistry() {
+        for (BattleRoyaleState state : BattleRoyaleState.values()) {
+            byState.put(state, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    /**
+     * Returns the registration of a battle royale.
+     *
+     * @param id the battle royale ID
+     * @return the registration, or an empty optional if no battle royale with this ID was committed
+     */
+    public Optional<Registration> get(UUID id) {
+        return Optional.ofNullable(registrations.get(id));
+    }
+
+    /**
+     * Returns every registered battle royale.
+     *
+     * @return an unmodifiable view of the registered battle royales
+     */
+    public Collection<BattleRoyale> registered() {
+        return Collections.unmodifiableSet(registered);
+    }
+
+    /**
+     * Returns every registered battle royale currently in the given state.
+     *
+     * @param state the state
+     * @return an unmodifiable view of the registered battle royales in this state
+     */
+    public Set<BattleRoyale> inState(BattleRoyaleState state) {
+        return Collections.unmodifiableSet(byState.get(state));
+    }
+
+    /**
+     * Returns every battle royale that failed validation or registration, in the order they failed.
+     *
+     * @return an unmodifiable view of the failed battle royales
+     */
+    public Collection<BattleRoyale> failed() {
+        return Collections.unmodifiableCollection(failed);
+    }
+
+    /**
+     * Returns whether a battle royale with the given ID is registered.
+     *
+     * @param id the battle royale ID
+     * @return {@code true} if a battle royale with this ID passed registration
+     */
+    public boolean isRegistered(UUID id) {
+        Registration registration = registrations.get(id);
+        return registration != null && registration.outcome() == Outcome.REGISTERED;
+    }
+
+    /**
+     * Records a battle royale as registered.
+     *
+     * @param battleRoyale    the registered battle royale
+     * @param activationOrder its scenarios in activation order
+     * @throws IllegalStateException if a battle royale with the same ID is already registered
+     */
+    @NotForDeveloperUse
+    public void markRegistered(BattleRoyale battleRoyale, List<Scenario> activationOrder) {
+        Registration registration = new Registration(battleRoyale, Outcome.REGISTERED, List.copyOf(activationOrder));
+        registrations.compute(battleRoyale.id(), (_, previous) -> {
+            if (previous != null && previous.outcome() == Outcome.REGISTERED) {
+                throw new IllegalStateException("A battle royale with the ID of " + battleRoyale.id() + " is already registered");
+            }
+            registered.add(battleRoyale);
+            byState.get(battleRoyale.state()).add(battleRoyale);
+            return registration;
+        });
+    }
+
+    /**
+     * Records a battle royale as failed. A battle royale already registered under the same ID stays registered.
+     *
+     * @param battleRoyale the failed battle royale
+     */
+    @NotForDeveloperUse
+    public void markFailed(BattleRoyale battleRoyale) {
+        failed.add(battleRoyale);
+        Registration registration = new Registration(battleRoyale, Outcome.FAILED, List.of());
+        registrations.compute(battleRoyale.id(), (_, previous) ->
+                previous != null && previous.outcome() == Outcome.REGISTERED ? previous : registration);
+    }
+
+    /**
+     * Moves a registered battle royale from one state index to another. Called by
+     * {@link BattleRoyale#state(BattleRoyaleState)} while it holds the battle royale's lock.
+     *
+     * @param battleRoyale the battle royale whose state changed
+     * @param previous     the state it left
+     * @param state        the state it entered
+     */
+    @NotForDeveloperUse
+    public void reindex(BattleRoyale battleRoyale, BattleRoyaleState previous, BattleRoyaleState state) {
+        registrations.computeIfPresent(battleRoyale.id(), (_, registration) -> {
+            if (registration.battleRoyale() == battleRoyale && registration.outcome() == Outcome.REGISTERED) {
+                byState.get(state).add(battleRoyale);
+                if (previous != state) {
+                    byState.get(previous).remove(battleRoyale);
+                }
+            }
+            return registration;
+        });
+    }
+
+    /**
+     * The outcome of committing a battle royale.
+     */
+    public enum Outcome {
+
+        /**
+         * The battle royale passed validation and its listeners, commands and recipes were registered.
+         */
+        REGISTERED,
+
+        /**
+         * The battle royale was rejected.
+         */
+        FAILED
+
+    }
+
+    /**
+     * A committed battle royale.
+     *
+     * @param battleRoyale    the battle royale
+     * @param outcome         whether it was registered or failed
+     * @param activationOrder its scenarios in activation order; empty if it failed
+     */
+    public record Registration(BattleRoyale battleRoyale, Outcome outcome, List<Scenario> activationOrder) {
+    }
+
+}
@@ -9,13 +9,16 @@ import io.papermc.paper.plugin.lifecycle.event.types.LifecycleEvents;
 import lombok.Getter;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Registry for deferred registration of Brigadier commands.
  * <p>
  * Command nodes are collected and later registered using Paper's
- * {@link LifecycleEvents#COMMANDS} lifecycle event.
+ * {@link LifecycleEvents#COMMANDS} lifecycle event. Nodes are identified by
+ * their literal; the first node added for a literal wins.
  */
 @UnstableOnServerStart
 public class CommandRegistry {
@@ -28,35 +31,46 @@ public class CommandRegistry {
     private static final CommandRegistry commandRegistry = new CommandRegistry();
 
     private final List<LiteralCommandNode<CommandSourceStack>> commandNodes = new ArrayList<>();
+    private final Set<String> literals = new HashSet<>();
+    private boolean hooked;
 
     private CommandRegistry() {
     }
 
     /**
      * Adds a Brigadier command node to the internal registry to be registered later.
+     * <p>
+     * A node whose literal was already added is ignored.
      *
      * @param commandNode the command node to register
      */
     @UnstableOnServerStart
     public void register(LiteralCommandNode<CommandSourceStack> commandNode) {
-        commandNodes.add(commandNode);
+        if (literals.add(commandNode.getLiteral())) {
+            commandNodes.add(commandNode);
+        }
     }
 
     /**
-     * Registers all collected command nodes using Paper's command lifecycle event.
+     * Hooks the collected command nodes into the server's Brigadier command system.
      * <p>
-     * This should be called once during startup to hook commands into the
-     * server's Brigadier command system.
+     * A single handler for Paper's command lifecycle event is registered on the first call; every time
+     * the event fires, it registers all nodes collected up to then. Nodes added after the server has
+     * started therefore become available on the next command reload. Later calls do nothing.
      */
     @NotForDeveloperUse
     @UnstableOnServerStart
     public void finish() {
-        for (LiteralCommandNode<CommandSourceStack> commandNode : commandNodes) {
-            Main.getPlugin().getLifecycleManager().registerEventHandler(
-                    LifecycleEvents.COMMANDS,
-                    commands -> commands.registrar().register(commandNode)
-            );
+        if (hooked) {
+            return;
         }
+        hooked = true;
+
+        Main.getPlugin().getLifecycleManager().registerEventHandler(LifecycleEvents.COMMANDS, commands -> {
+            for (LiteralCommandNode<CommandSourceStack> commandNode : List.copyOf(commandNodes)) {
+                commands.registrar().register(commandNode);
+            }
+        });
     }
 
 }
@@ -6,17 +6,18 @@ import dev.royalcore.api.br.BattleRoyale;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * Registry tracking BattleRoyale instances that failed validation or registration.
+ * <p>
+ * Failures are stored in the {@link BattleRoyaleRegistry}; this class remains as a view over them.
  */
 @MarkedForRemoval
 public class FailedBRRegistry {
 
-    private static final List<BattleRoyale> failedBRs = new ArrayList<>();
+    private static int declared;
 
     /**
      * Creates a new failed battle royale registry.
@@ -30,15 +31,19 @@ public class FailedBRRegistry {
      * @param battleRoyale the failed battle royale
      */
     public static void add(BattleRoyale battleRoyale) {
-        failedBRs.add(battleRoyale);
+        BattleRoyaleRegistry.getBattleRoyaleRegistry().markFailed(battleRoyale);
     }
 
     /**
-     * Declares all failed battle royales, typically by logging them.
+     * Declares the battle royales that failed since the last declaration, typically by logging them.
      */
-    public static void declare() {
+    public static synchronized void declare() {
 
+        List<BattleRoyale> failedBRs = BattleRoyaleRegistry.getBattleRoyaleRegistry().failed().stream()
+                .skip(declared)
+                .toList();
         if (failedBRs.isEmpty()) return;
+        declared += failedBRs.size();
 
         Main.getPlugin().getComponentLogger().info(Component.text("The following Battle Royales failed to load:").color(NamedTextColor.RED));
 
@@ -60,7 +65,10 @@ public class FailedBRRegistry {
      * @return {@code true} if the given battle royale previously failed, otherwise {@code false}
      */
     public boolean didFail(BattleRoyale battleRoyale) {
-        return failedBRs.contains(battleRoyale);
+        return BattleRoyaleRegistry.getBattleRoyaleRegistry().get(battleRoyale.id())
+                .filter(registration -> registration.battleRoyale() == battleRoyale)
+                .map(registration -> registration.outcome() == BattleRoyaleRegistry.Outcome.FAILED)
+                .orElse(false);
     }
 
 }
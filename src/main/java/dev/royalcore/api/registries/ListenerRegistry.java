@@ -3,17 +3,23 @@ package dev.royalcore.api.registries;
 import dev.royalcore.Main;
 import dev.royalcore.annotations.NotForDeveloperUse;
 import dev.royalcore.annotations.UnstableOnServerStart;
+import dev.royalcore.internal.jfr.ListenerRegistrationEvent;
 import lombok.Getter;
 import org.bukkit.event.Listener;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Registry for deferred registration of Bukkit {@link Listener} instances.
  * <p>
  * Listeners are collected during setup and registered with the server's
- * plugin manager in a single batch via {@link #finish()}.
+ * plugin manager in a single batch via {@link #finish()}. Each listener
+ * instance is registered once, however often it is added, and later calls
+ * to {@link #finish()} only register listeners added since the last call.
  */
 @UnstableOnServerStart
 public class ListenerRegistry {
@@ -26,31 +32,52 @@ public class ListenerRegistry {
     private static final ListenerRegistry listenerRegistry = new ListenerRegistry();
 
     private final List<Listener> listeners = new ArrayList<>();
+    private final Set<Listener> known = Collections.newSetFromMap(new IdentityHashMap<>());
+    private int finished;
 
     private ListenerRegistry() {
     }
 
     /**
      * Adds a {@link Listener} to the internal registry to be registered later.
+     * <p>
+     * Adding the same instance again has no effect.
      *
      * @param listener the listener to register
      */
     @UnstableOnServerStart
     public void register(Listener listener) {
-        listeners.add(listener);
+        if (known.add(listener)) {
+            listeners.add(listener);
+        }
     }
 
     /**
-     * Registers all collected listeners with the server's plugin manager.
-     * <p>
-     * This should be called once during startup after all listeners have
-     * been registered with this registry.
+     * Returns every listener added to this registry, in registration order.
+     *
+     * @return an unmodifiable view of the registered listeners
+     */
+    public List<Listener> getListeners() {
+        return Collections.unmodifiableList(listeners);
+    }
+
+    /**
+     * Registers the listeners collected since the last call with the server's plugin manager.
      */
     @NotForDeveloperUse
     @UnstableOnServerStart
     public void finish() {
-        for (Listener listener : listeners) {
+        for (; finished < listeners.size(); finished++) {
+            Listener listener = listeners.get(finished);
+            ListenerRegistrationEvent event = new ListenerRegistrationEvent();
+            event.begin();
+
             Main.getPlugin().getServer().getPluginManager().registerEvents(listener, Main.getPlugin());
+
+            if (event.shouldCommit()) {
+                event.listener = listener.getClass().getName();
+                event.commit();
+            }
         }
     }
 
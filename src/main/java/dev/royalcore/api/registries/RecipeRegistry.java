@@ -4,16 +4,22 @@ import dev.royalcore.Main;
 import dev.royalcore.annotations.NotForDeveloperUse;
 import dev.royalcore.annotations.UnstableOnServerStart;
 import lombok.Getter;
+import org.bukkit.Keyed;
 import org.bukkit.inventory.Recipe;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Registry for deferred registration of {@link Recipe} instances.
  * <p>
  * Recipes are collected during setup and applied to the server in a single
- * batch via {@link #finish()}, typically during plugin startup.
+ * batch via {@link #finish()}, typically during plugin startup. Recipes are
+ * identified by their key, so a recipe added twice is only registered once,
+ * and later calls to {@link #finish()} only add recipes collected since the
+ * last call.
  */
 @UnstableOnServerStart
 public class RecipeRegistry {
@@ -25,31 +31,34 @@ public class RecipeRegistry {
     @Getter
     private static final RecipeRegistry recipeRegistry = new RecipeRegistry();
     private final List<Recipe> recipes = new ArrayList<>();
+    private final Set<Object> known = new HashSet<>();
+    private int finished;
 
     private RecipeRegistry() {
     }
 
     /**
      * Adds a {@link Recipe} to the internal registry to be registered later.
+     * <p>
+     * A recipe whose key was already added is ignored; recipes without a key are compared by identity.
      *
      * @param recipe the recipe to register
      */
     @UnstableOnServerStart
     public void register(Recipe recipe) {
-        recipes.add(recipe);
+        if (known.add(recipe instanceof Keyed keyed ? keyed.getKey() : recipe)) {
+            recipes.add(recipe);
+        }
     }
 
     /**
-     * Registers all collected recipes with the server.
-     * <p>
-     * This should be called once during startup after all recipes
-     * have been registered with this registry.
+     * Adds the recipes collected since the last call to the server.
      */
     @UnstableOnServerStart
     @NotForDeveloperUse
     public void finish() {
-        for (Recipe recipe : recipes) {
-            Main.getPlugin().getServer().addRecipe(recipe);
+        for (; finished < recipes.size(); finished++) {
+            Main.getPlugin().getServer().addRecipe(recipes.get(finished));
         }
     }
 
@@ -6,8 +6,8 @@ import dev.royalcore.api.consumer.*;
 import dev.royalcore.api.enums.ScenarioPriority;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
@@ -17,6 +17,9 @@ import java.util.function.Consumer;
  * <p>
  * A scenario aggregates item, listener, command, border, settings, scheduler,
  * message and player behaviour, along with dependencies and lifecycle callbacks.
+ * <p>
+ * Consumers are configured through the {@link ScenarioBuilder}. A consumer that was never configured there
+ * is a shared, unmodifiable empty instance, so it cannot be changed after {@link ScenarioBuilder#build()}.
  *
  * @param name                 the display name of the scenario
  * @param itemConsumer         item configuration and custom items used by this scenario
@@ -33,6 +36,7 @@ import java.util.function.Consumer;
  * @param onStart              callback invoked when the scenario starts
  * @param onStop               callback invoked when the scenario stops
  * @param resourcepackConsumer resource packs that must be applied
+ * @param phaseConsumer        hooks run when a match enters or leaves a phase
  */
 public record Scenario(
         Component name,
@@ -49,7 +53,8 @@ public record Scenario(
         PlayerConsumer playerConsumer,
         Runnable onStart,
         Runnable onStop,
-        ResourcePackConsumer resourcepackConsumer
+        ResourcePackConsumer resourcepackConsumer,
+        PhaseConsumer phaseConsumer
 ) {
 
     /**
@@ -62,6 +67,41 @@ public record Scenario(
         return new ScenarioBuilder(name);
     }
 
+    /**
+     * Returns the display name of this scenario as plain text, without any formatting.
+     * <p>
+     * Useful wherever the name has to be a string, such as diagnostics and reports.
+     *
+     * @return the plain-text name of this scenario
+     */
+    public String plainName() {
+        return PlainTextComponentSerializer.plainText().serialize(name);
+    }
+
+    /**
+     * Scenarios compare by identity: two definitions are the same scenario only if they are the same instance.
+     * <p>
+     * The generated record equality would walk every consumer, which makes the {@code contains}
+     * checks used for required and conflicting scenarios needlessly expensive.
+     *
+     * @param obj the object to compare with
+     * @return {@code true} if {@code obj} is this scenario
+     */
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj;
+    }
+
+    /**
+     * Returns the identity hash code, consistent with {@link #equals(Object)}.
+     *
+     * @return the identity hash code of this scenario
+     */
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+
     /**
      * Exposes the scenario start callback to external consumers.
      *
@@ -88,20 +128,22 @@ public record Scenario(
     public static class ScenarioBuilder {
         private final Component name;
 
-        private final ItemConsumer itemConsumer = new ItemConsumer();
-        private final ListenerConsumer listenerConsumer = new ListenerConsumer();
-        private final CommandConsumer commandConsumer = new CommandConsumer();
-        private final BorderConsumer borderConsumer = new BorderConsumer();
-        private final SettingsConsumer settingsConsumer = new SettingsConsumer();
-        private final SchedulerConsumer schedulerConsumer = new SchedulerConsumer();
-        private final MessageConsumer messageConsumer = new MessageConsumer();
-        private final PlayerConsumer playerConsumer = new PlayerConsumer();
-        private final ResourcePackConsumer resourcepackConsumer = new ResourcePackConsumer();
+        // Consumers are only allocated once configured; build() substitutes the shared empty instances otherwise.
+        private ItemConsumer itemConsumer;
+        private ListenerConsumer listenerConsumer;
+        private CommandConsumer commandConsumer;
+        private BorderConsumer borderConsumer;
+        private SettingsConsumer settingsConsumer;
+        private PlayerConsumer playerConsumer;
+        private ResourcePackConsumer resourcepackConsumer;
+        private PhaseConsumer phaseConsumer;
+        private SchedulerConsumer schedulerConsumer;
+        private MessageConsumer messageConsumer;
 
         private ScenarioPriority priority = ScenarioPriority.LOW;
 
-        private List<Scenario> requiredScenarios = new ArrayList<>();
-        private List<Scenario> conflictingScenarios = new ArrayList<>();
+        private List<Scenario> requiredScenarios = List.of();
+        private List<Scenario> conflictingScenarios = List.of();
 
         private Runnable onStart = () -> {
         };
@@ -124,6 +166,9 @@ public record Scenario(
          * @return this builder for chaining
          */
         public ScenarioBuilder items(Consumer<ItemConsumer> consumer) {
+            if (itemConsumer == null) {
+                itemConsumer = new ItemConsumer();
+            }
             consumer.accept(itemConsumer);
             return this;
         }
@@ -179,6 +224,9 @@ public record Scenario(
          * @return this builder for chaining
          */
         public ScenarioBuilder listeners(Consumer<ListenerConsumer> consumer) {
+            if (listenerConsumer == null) {
+                listenerConsumer = new ListenerConsumer();
+            }
             consumer.accept(listenerConsumer);
             return this;
         }
@@ -190,6 +238,9 @@ public record Scenario(
          * @return this builder for chaining
          */
         public ScenarioBuilder commands(Consumer<CommandConsumer> consumer) {
+            if (commandConsumer == null) {
+                commandConsumer = new CommandConsumer();
+            }
             consumer.accept(commandConsumer);
             return this;
         }
@@ -201,6 +252,9 @@ public record Scenario(
          * @return this builder for chaining
          */
         public ScenarioBuilder borders(Consumer<BorderConsumer> consumer) {
+            if (borderConsumer == null) {
+                borderConsumer = new BorderConsumer();
+            }
             consumer.accept(borderConsumer);
             return this;
         }
@@ -212,10 +266,41 @@ public record Scenario(
          * @return this builder for chaining
          */
         public ScenarioBuilder settings(Consumer<SettingsConsumer> consumer) {
+            if (settingsConsumer == null) {
+                settingsConsumer = new SettingsConsumer();
+            }
             consumer.accept(settingsConsumer);
             return this;
         }
 
+        /**
+         * Configures scheduled tasks for this scenario.
+         *
+         * @param consumer a consumer that receives the internal {@link SchedulerConsumer}
+         * @return this builder for chaining
+         */
+        public ScenarioBuilder schedules(Consumer<SchedulerConsumer> consumer) {
+            if (schedulerConsumer == null) {
+                schedulerConsumer = new SchedulerConsumer();
+            }
+            consumer.accept(schedulerConsumer);
+            return this;
+        }
+
+        /**
+         * Configures the messages used by this scenario.
+         *
+         * @param consumer a consumer that receives the internal {@link MessageConsumer}
+         * @return this builder for chaining
+         */
+        public ScenarioBuilder messages(Consumer<MessageConsumer> consumer) {
+            if (messageConsumer == null) {
+                messageConsumer = new MessageConsumer();
+            }
+            consumer.accept(messageConsumer);
+            return this;
+        }
+
         /**
          * Sets the priority of this scenario.
          *
@@ -256,6 +341,9 @@ public record Scenario(
          * @return this builder for chaining
          */
         public ScenarioBuilder players(Consumer<PlayerConsumer> players) {
+            if (playerConsumer == null) {
+                playerConsumer = new PlayerConsumer();
+            }
             players.accept(playerConsumer);
             return this;
         }
@@ -268,10 +356,27 @@ public record Scenario(
          *
          */
         public ScenarioBuilder resourcePacks(Consumer<ResourcePackConsumer> resourcepackConsumer) {
+            if (this.resourcepackConsumer == null) {
+                this.resourcepackConsumer = new ResourcePackConsumer();
+            }
             resourcepackConsumer.accept(this.resourcepackConsumer);
             return this;
         }
 
+        /**
+         * Configures hooks run when a match enters or leaves a phase.
+         *
+         * @param phases a consumer that receives the internal {@link PhaseConsumer}
+         * @return this builder for chaining
+         */
+        public ScenarioBuilder phases(Consumer<PhaseConsumer> phases) {
+            if (phaseConsumer == null) {
+                phaseConsumer = new PhaseConsumer();
+            }
+            phases.accept(phaseConsumer);
+            return this;
+        }
+
         /**
          * Builds the {@link Scenario} instance from the accumulated configuration.
          * <p>
@@ -280,46 +385,32 @@ public record Scenario(
          * @return a new {@link Scenario} instance
          */
         public Scenario build() {
-            if (name == null) {
+            Component scenarioName = name;
+            if (scenarioName == null) {
                 Main.getPlugin().getComponentLogger().error(
                         Component.text("The name of a scenario cannot be null or empty!"),
                         new IllegalStateException()
                 );
-                return new Scenario(
-                        Component.text("Unknown (not set!)").color(NamedTextColor.DARK_RED),
-                        itemConsumer,
-                        listenerConsumer,
-                        commandConsumer,
-                        borderConsumer,
-                        settingsConsumer,
-                        schedulerConsumer,
-                        messageConsumer,
-                        priority,
-                        requiredScenarios,
-                        conflictingScenarios,
-                        playerConsumer,
-                        onStart,
-                        onStop,
-                        resourcepackConsumer
-                );
+                scenarioName = Component.text("Unknown (not set!)").color(NamedTextColor.DARK_RED);
             }
 
             return new Scenario(
-                    name,
-                    itemConsumer,
-                    listenerConsumer,
-                    commandConsumer,
-                    borderConsumer,
-                    settingsConsumer,
-                    schedulerConsumer,
-                    messageConsumer,
+                    scenarioName,
+                    itemConsumer != null ? itemConsumer : ItemConsumer.empty(),
+                    listenerConsumer != null ? listenerConsumer : ListenerConsumer.empty(),
+                    commandConsumer != null ? commandConsumer : CommandConsumer.empty(),
+                    borderConsumer != null ? borderConsumer : BorderConsumer.empty(),
+                    settingsConsumer != null ? settingsConsumer : SettingsConsumer.empty(),
+                    schedulerConsumer != null ? schedulerConsumer : SchedulerConsumer.empty(),
+                    messageConsumer != null ? messageConsumer : MessageConsumer.empty(),
                     priority,
-                    requiredScenarios,
                     conflictingScenarios,
-                    playerConsumer,
+                    requiredScenarios,
+                    playerConsumer != null ? playerConsumer : PlayerConsumer.empty(),
                     onStart,
                     onStop,
-                    resourcepackConsumer
+                    resourcepackConsumer != null ? resourcepackConsumer : ResourcePackConsumer.empty(),
+                    phaseConsumer != null ? phaseConsumer : PhaseConsumer.empty()
             );
         }
 
@@ -0,0 +1,260 @@
+package dev.royalcore.api.scenario;
+
+import dev.royalcore.annotations.Experimental;
+import dev.royalcore.api.errors.Result;
+import dev.royalcore.api.errors.StacklessException;
+import net.kyori.adventure.text.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Dependency graph of a set of scenarios, compiled once so that scenario selections can be checked and
+ * ordered cheaply.
+ * <p>
+ * Every scenario, including those only reachable as a requirement or conflict of another, gets a dense
+ * index. Requirements and conflicts are stored as bitsets over those indices; conflicts are symmetric,
+ * so a conflict declared by either side applies to both. Requirement cycles are detected while compiling,
+ * and every scenario on or depending on a cycle is reported as invalid by {@link #check(Collection)}.
+ * <p>
+ * The activation order is topological, so a scenario always comes after the scenarios it requires. Among
+ * scenarios whose requirements are met, higher {@link dev.royalcore.api.enums.ScenarioPriority priorities}
+ * come first, then scenarios in the order they were given.
+ */
+@Experimental
+public final class ScenarioGraph {
+
+    private static final Result<Void> VALID = Result.Ok(Component.text("Scenario selection is valid."), true);
+
+    private final Map<Scenario, Integer> indices;
+    private final List<Scenario> scenarios;
+    private final BitSet[] requires;
+    private final BitSet[] conflicts;
+    private final BitSet cyclic;
+    private final int[] rank;
+
+    private ScenarioGraph(Map<Scenario, Integer> indices, List<Scenario> scenarios, BitSet[] requires, BitSet[] conflicts, BitSet cyclic, int[] rank) {
+        this.indices = indices;
+        this.scenarios = scenarios;
+        this.requires = requires;
+        this.conflicts = conflicts;
+        this.cyclic = cyclic;
+        this.rank = rank;
+    }
+
+    /**
+     * Compiles the graph of the given scenarios and every scenario they require or conflict with.
+     *
+     * @param roots the scenarios to compile
+     * @return the compiled graph
+     */
+    public static ScenarioGraph compile(Collection<Scenario> roots) {
+        Map<Scenario, Integer> indices = new HashMap<>();
+        List<Scenario> scenarios = new ArrayList<>();
+        for (Scenario root : roots) {
+            index(root, indices, scenarios);
+        }
+        // Requirements and conflicts are indexed as they are discovered, so this also covers scenarios
+        // that were only referenced.
+        for (int i = 0; i < scenarios.size(); i++) {
+            Scenario scenario = scenarios.get(i);
+            scenario.requiredScenarios().forEach(required -> index(required, indices, scenarios));
+            scenario.scenarioConflicts().forEach(conflict -> index(conflict, indices, scenarios));
+        }
+
+        int size = scenarios.size();
+        BitSet[] requires = new BitSet[size];
+        BitSet[] conflicts = new BitSet[size];
+        for (int i = 0; i < size; i++) {
+            requires[i] = new BitSet(size);
+            conflicts[i] = new BitSet(size);
+        }
+
+        int[] pending = new int[size];
+        List<List<Integer>> dependents = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            dependents.add(new ArrayList<>());
+        }
+
+        for (int i = 0; i < size; i++) {
+            Scenario scenario = scenarios.get(i);
+            for (Scenario required : scenario.requiredScenarios()) {
+                int r = indices.get(required);
+                if (r != i && !requires[i].get(r)) {
+                    requires[i].set(r);
+                    pending[i]++;
+                    dependents.get(r).add(i);
+                }
+            }
+            for (Scenario conflict : scenario.scenarioConflicts()) {
+                int c = indices.get(conflict);
+                conflicts[i].set(c);
+                conflicts[c].set(i);
+            }
+        }
+
+        Comparator<Integer> activation = Comparator
+                .comparing((Integer i) -> scenarios.get(i).priority(), Comparator.reverseOrder())
+                .thenComparingInt(i -> i);
+        PriorityQueue<Integer> ready = new PriorityQueue<>(activation);
+        for (int i = 0; i < size; i++) {
+            if (pending[i] == 0) {
+                ready.add(i);
+            }
+        }
+
+        int[] rank = new int[size];
+        BitSet cyclic = new BitSet(size);
+        cyclic.set(0, size);
+        int next = 0;
+        while (!ready.isEmpty()) {
+            int i = ready.poll();
+            rank[i] = next++;
+            cyclic.clear(i);
+            for (int dependent : dependents.get(i)) {
+                if (--pending[dependent] == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        // Scenarios left over are on a requirement cycle or depend on one; they sort last.
+        for (int i = cyclic.nextSetBit(0); i >= 0; i = cyclic.nextSetBit(i + 1)) {
+            rank[i] = next++;
+        }
+
+        return new ScenarioGraph(indices, List.copyOf(scenarios), requires, conflicts, cyclic, rank);
+    }
+
+    private static void index(Scenario scenario, Map<Scenario, Integer> indices, List<Scenario> scenarios) {
+        if (indices.putIfAbsent(scenario, scenarios.size()) == null) {
+            scenarios.add(scenario);
+        }
+    }
+
+    /**
+     * Returns the number of scenarios in this graph.
+     *
+     * @return the scenario count
+     */
+    public int size() {
+        return scenarios.size();
+    }
+
+    /**
+     * Returns the dense index of a scenario.
+     *
+     * @param scenario the scenario
+     * @return its index, or {@code -1} if the scenario is not part of this graph
+     */
+    public int indexOf(Scenario scenario) {
+        Integer index = indices.get(scenario);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the set of indices of the given scenarios.
+     *
+     * @param selection scenarios of this graph
+     * @return a new bitset with the index of every selected scenario
+     * @throws IllegalArgumentException if a scenario is not part of this graph
+     */
+    public BitSet bits(Collection<Scenario> selection) {
+        BitSet bits = new BitSet(scenarios.size());
+        for (Scenario scenario : selection) {
+            int index = indexOf(scenario);
+            if (index < 0) {
+                throw new IllegalArgumentException("Scenario '" + scenario.plainName() + "' was not compiled into this graph");
+            }
+            bits.set(index);
+        }
+        return bits;
+    }
+
+    /**
+     * Checks that a selection of scenarios contains every scenario they require and no two conflicting
+     * scenarios.
+     *
+     * @param selection scenarios of this graph, such as those of one battle royale
+     * @return {@link Result.Ok} if the selection is valid, otherwise a {@link Result.Err} naming the problem
+     */
+    public Result<Void> check(Collection<Scenario> selection) {
+        return check(bits(selection));
+    }
+
+    /**
+     * Checks a selection given as a set of scenario indices; see {@link #check(Collection)}.
+     *
+     * @param selection the indices of the selected scenarios
+     * @return {@link Result.Ok} if the selection is valid, otherwise a {@link Result.Err} naming the problem
+     */
+    public Result<Void> check(BitSet selection) {
+        BitSet needed = new BitSet(scenarios.size());
+        BitSet excluded = new BitSet(scenarios.size());
+        for (int i = selection.nextSetBit(0); i >= 0; i = selection.nextSetBit(i + 1)) {
+            needed.or(requires[i]);
+            excluded.or(conflicts[i]);
+        }
+
+        if (selection.intersects(cyclic)) {
+            BitSet onCycle = (BitSet) selection.clone();
+            onCycle.and(cyclic);
+            return Result.Err(
+                    () -> Component.text("Scenarios " + names(onCycle) + " require each other in a cycle! Failed to load the battle royale."),
+                    new StacklessException("Scenario requirement cycle"),
+                    false
+            );
+        }
+
+        needed.andNot(selection);
+        if (!needed.isEmpty()) {
+            return Result.Err(
+                    () -> Component.text("A battle royale doesn't have the required scenarios " + names(needed) + "! Failed to load it."),
+                    new StacklessException("Missing required scenario"),
+                    false
+            );
+        }
+
+        excluded.and(selection);
+        if (!excluded.isEmpty()) {
+            return Result.Err(
+                    () -> Component.text("A battle royale has been found to have conflicting scenarios " + names(excluded) + "! Failed to load it."),
+                    new StacklessException("Conflicting scenarios"),
+                    false
+            );
+        }
+
+        return VALID;
+    }
+
+    /**
+     * Returns the given scenarios in activation order: required scenarios first, then by descending
+     * priority, then in compile order.
+     *
+     * @param selection scenarios of this graph
+     * @return a new list with the selected scenarios in activation order
+     */
+    public List<Scenario> order(Collection<Scenario> selection) {
+        List<Scenario> ordered = new ArrayList<>(selection.size());
+        BitSet bits = bits(selection);
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            ordered.add(scenarios.get(i));
+        }
+        ordered.sort(Comparator.comparingInt(scenario -> rank[indices.get(scenario)]));
+        return ordered;
+    }
+
+    private String names(BitSet bits) {
+        List<String> names = new ArrayList<>();
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            names.add(scenarios.get(i).plainName());
+        }
+        return names.toString();
+    }
+
+}
@@ -0,0 +1,276 @@
+package dev.royalcore.api.session;
+
+import dev.royalcore.Main;
+import dev.royalcore.annotations.Experimental;
+import dev.royalcore.api.br.BattleRoyale;
+import dev.royalcore.api.enums.MatchPhase;
+import dev.royalcore.internal.start.MoveListener;
+import dev.royalcore.internal.start.PvpListener;
+import lombok.Getter;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventException;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * One running match of a {@link BattleRoyale}, isolated from every other match on the server.
+ * <p>
+ * A session owns its players, whether they are frozen, its current {@link MatchPhase}, the listeners and tasks
+ * of the match, and the world it is played in. Listeners added with {@link #listen(Listener)} only receive events
+ * of this session's players and world, and tasks started through the session are cancelled when it is
+ * {@link SessionManager#close(ArenaSession) closed}.
+ * <p>
+ * Sessions are opened through {@link SessionManager#open(BattleRoyale)}.
+ */
+@Experimental
+public final class ArenaSession {
+
+    private final SessionManager manager;
+
+    @Getter
+    private final BattleRoyale battleRoyale;
+
+    @Getter
+    private final World world;
+
+    private final Set<UUID> players = ConcurrentHashMap.newKeySet();
+    private final Map<SessionManager.Slot, List<Handler>> handlers = new ConcurrentHashMap<>();
+    private final List<BukkitTask> tasks = new CopyOnWriteArrayList<>();
+    private final MoveListener moveListener = new MoveListener();
+
+    @Getter
+    private final PhaseDriver phases;
+
+    @Getter
+    private volatile MatchPhase phase = MatchPhase.QUEUE;
+
+    ArenaSession(SessionManager manager, BattleRoyale battleRoyale, World world) {
+        this.manager = manager;
+        this.battleRoyale = battleRoyale;
+        this.world = world;
+        this.phases = new PhaseDriver(this);
+        listen(moveListener);
+        listen(new PvpListener(this));
+    }
+
+    /**
+     * Returns the players taking part in this session.
+     *
+     * @return an unmodifiable view of the players' UUIDs
+     */
+    public Set<UUID> getPlayers() {
+        return Collections.unmodifiableSet(players);
+    }
+
+    /**
+     * Adds a player to this session.
+     *
+     * @param player the player
+     * @return {@code false} if the player already takes part in another session
+     */
+    public boolean addPlayer(Player player) {
+        if (!manager.assign(player.getUniqueId(), this)) {
+            return false;
+        }
+        players.add(player.getUniqueId());
+        return true;
+    }
+
+    /**
+     * Removes a player from this session.
+     *
+     * @param player the player
+     */
+    public void removePlayer(Player player) {
+        players.remove(player.getUniqueId());
+        manager.release(player.getUniqueId(), this);
+    }
+
+    /**
+     * Checks whether a player takes part in this session.
+     *
+     * @param player the player
+     * @return {@code true} if the player is in this session
+     */
+    public boolean hasPlayer(Player player) {
+        return players.contains(player.getUniqueId());
+    }
+
+    /**
+     * Freezes or unfreezes this session's players. Frozen players cannot move.
+     *
+     * @param frozen whether the players are frozen
+     */
+    public void setFrozen(boolean frozen) {
+        moveListener.setCanMove(!frozen);
+    }
+
+    /**
+     * Checks whether this session's players are frozen.
+     *
+     * @return {@code true} if they cannot move
+     */
+    public boolean isFrozen() {
+        return !moveListener.isCanMove();
+    }
+
+    /**
+     * Checks whether players of this session may damage each other in the current phase.
+     *
+     * @return {@code true} if PvP is allowed
+     */
+    public boolean isPvpAllowed() {
+        return phase.isPvpAllowed();
+    }
+
+    /**
+     * Sets the current phase. Only the {@link PhaseDriver} changes phases.
+     *
+     * @param phase the phase entered
+     */
+    void phase(MatchPhase phase) {
+        this.phase = phase;
+    }
+
+    /**
+     * Registers every {@link EventHandler} method of a listener for this session only.
+     *
+     * @param listener the listener
+     */
+    public void listen(Listener listener) {
+        Set<Method> methods = new LinkedHashSet<>(List.of(listener.getClass().getMethods()));
+        methods.addAll(List.of(listener.getClass().getDeclaredMethods()));
+
+        for (Method method : methods) {
+            EventHandler annotation = method.getAnnotation(EventHandler.class);
+            if (annotation == null || method.getParameterCount() != 1 || !Event.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                continue;
+            }
+            Class<? extends Event> type = method.getParameterTypes()[0].asSubclass(Event.class);
+            SessionManager.Slot slot = new SessionManager.Slot(type, annotation.priority());
+
+            handlers.computeIfAbsent(slot, _ -> new CopyOnWriteArrayList<>())
+                    .add(new Handler(listener, EventExecutor.create(method, type), annotation.ignoreCancelled()));
+            manager.hook(slot);
+        }
+    }
+
+    /**
+     * Returns every listener registered for this session through {@link #listen(Listener)}.
+     *
+     * @return the session's listeners, each listed once
+     */
+    public Set<Listener> getListeners() {
+        Set<Listener> listeners = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (List<Handler> slotHandlers : handlers.values()) {
+            for (Handler handler : slotHandlers) {
+                listeners.add(handler.listener());
+            }
+        }
+        return listeners;
+    }
+
+    /**
+     * Runs a task on the next tick.
+     *
+     * @param runnable the task
+     * @return the scheduled task
+     */
+    public BukkitTask runTask(Runnable runnable) {
+        return track(Bukkit.getScheduler().runTask(Main.getPlugin(), runnable));
+    }
+
+    /**
+     * Runs a task once after a delay.
+     *
+     * @param runnable the task
+     * @param delay    the delay in ticks
+     * @return the scheduled task
+     */
+    public BukkitTask runTaskLater(Runnable runnable, long delay) {
+        return track(Bukkit.getScheduler().runTaskLater(Main.getPlugin(), runnable, delay));
+    }
+
+    /**
+     * Runs a task repeatedly until the session is closed.
+     *
+     * @param runnable the task
+     * @param delay    the delay before the first run in ticks
+     * @param period   the ticks between runs
+     * @return the scheduled task
+     */
+    public BukkitTask runTaskTimer(Runnable runnable, long delay, long period) {
+        return track(Bukkit.getScheduler().runTaskTimer(Main.getPlugin(), runnable, delay, period));
+    }
+
+    private BukkitTask track(BukkitTask task) {
+        tasks.removeIf(BukkitTask::isCancelled);
+        tasks.add(task);
+        return task;
+    }
+
+    /**
+     * Cancels every task started through this session.
+     */
+    void cancelTasks() {
+        for (BukkitTask task : tasks) {
+            task.cancel();
+        }
+        tasks.clear();
+    }
+
+    /**
+     * Delivers an event to this session's handlers for the given type and priority.
+     *
+     * @param slot  the event type and priority the event was fired for
+     * @param event the event
+     */
+    void dispatch(SessionManager.Slot slot, Event event) {
+        List<Handler> slotHandlers = handlers.get(slot);
+        if (slotHandlers == null) {
+            return;
+        }
+        for (Handler handler : slotHandlers) {
+            if (handler.ignoreCancelled() && event instanceof Cancellable cancellable && cancellable.isCancelled()) {
+                continue;
+            }
+            try {
+                handler.executor().execute(handler.listener(), event);
+            } catch (EventException | RuntimeException e) {
+                Main.getPlugin().getComponentLogger().error(
+                        Component.text("Listener " + handler.listener().getClass().getName() + " of battle royale " + battleRoyale.id() + " failed to handle " + event.getEventName()),
+                        e
+                );
+            }
+        }
+    }
+
+    /**
+     * A session listener method.
+     *
+     * @param listener        the listener
+     * @param executor        invokes the method
+     * @param ignoreCancelled whether cancelled events are skipped
+     */
+    private record Handler(Listener listener, EventExecutor executor, boolean ignoreCancelled) {
+    }
+
+}
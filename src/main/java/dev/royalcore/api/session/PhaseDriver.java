@@ -0,0 +1,238 @@
+package dev.royalcore.api.session;
+
+import dev.royalcore.Main;
+import dev.royalcore.annotations.Experimental;
+import dev.royalcore.api.br.BattleRoyale;
+import dev.royalcore.api.consumer.SettingsConsumer;
+import dev.royalcore.api.engine.BattleRoyaleEngine;
+import dev.royalcore.api.enums.MatchPhase;
+import dev.royalcore.api.scenario.Scenario;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.title.Title;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Moves one {@link ArenaSession} through the {@link MatchPhase match phases}: queue, countdown, grace, play,
+ * border and end.
+ * <p>
+ * A single repeating task per session counts the ticks spent in the current phase and advances when the phase's
+ * duration is over. The queue phase lasts until {@link #advance()} is called, which the engine does once the
+ * queue has filled and the players were spawned. The countdown and grace durations come from the battle royale's
+ * {@link SettingsConsumer.Setting#COUNTDOWN} and {@link SettingsConsumer.Setting#GRACE} settings, and the play
+ * phase gives way to the border phase after {@link SettingsConsumer.Setting#BORDER} if it is set. Phases with a
+ * zero duration are skipped. The end phase is only entered through {@link #end()}.
+ * <p>
+ * On every transition, the exit hooks of the old phase run in reverse scenario activation order, then the entry
+ * hooks of the new phase in activation order, so higher {@link dev.royalcore.api.enums.ScenarioPriority priority}
+ * scenarios set up first and tear down last. Hooks are collected once, when the driver starts.
+ */
+@Experimental
+public final class PhaseDriver {
+
+    private static final MatchPhase[] PHASES = MatchPhase.values();
+    private static final long UNTIL_ADVANCED = -1L;
+    private static final long TICKS_PER_SECOND = 20L;
+
+    private final ArenaSession session;
+    private final long[] durations = new long[PHASES.length];
+    private final List<List<Consumer<ArenaSession>>> enterHooks = new ArrayList<>(PHASES.length);
+    private final List<List<Consumer<ArenaSession>>> exitHooks = new ArrayList<>(PHASES.length);
+
+    private boolean started;
+    private long elapsed;
+    private BukkitTask task;
+
+    PhaseDriver(ArenaSession session) {
+        this.session = session;
+
+        SettingsConsumer settings = session.getBattleRoyale().settingsConsumer();
+        durations[MatchPhase.QUEUE.ordinal()] = UNTIL_ADVANCED;
+        durations[MatchPhase.COUNTDOWN.ordinal()] = ticks(settings.getSetting(SettingsConsumer.Setting.COUNTDOWN), 0L);
+        durations[MatchPhase.GRACE.ordinal()] = ticks(settings.getSetting(SettingsConsumer.Setting.GRACE), 0L);
+        durations[MatchPhase.PLAY.ordinal()] = ticks(settings.getSetting(SettingsConsumer.Setting.BORDER), UNTIL_ADVANCED);
+        durations[MatchPhase.BORDER.ordinal()] = UNTIL_ADVANCED;
+        durations[MatchPhase.END.ordinal()] = UNTIL_ADVANCED;
+    }
+
+    /**
+     * Enters the queue phase and starts the driver task. Does nothing if the driver already started.
+     */
+    public void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+
+        List<Scenario> order = BattleRoyaleEngine.getBattleRoyaleEngine().activationOrder(session.getBattleRoyale());
+        for (MatchPhase phase : PHASES) {
+            List<Consumer<ArenaSession>> enter = new ArrayList<>();
+            List<Consumer<ArenaSession>> exit = new ArrayList<>();
+            for (Scenario scenario : order) {
+                enter.addAll(scenario.phaseConsumer().getEnterHooks(phase));
+            }
+            for (Scenario scenario : order.reversed()) {
+                exit.addAll(scenario.phaseConsumer().getExitHooks(phase));
+            }
+            enterHooks.add(List.copyOf(enter));
+            exitHooks.add(List.copyOf(exit));
+        }
+
+        enter(MatchPhase.QUEUE);
+        task = session.runTaskTimer(this::tick, 1L, 1L);
+    }
+
+    /**
+     * Ends the match: leaves the current phase, enters {@link MatchPhase#END} and stops the driver task.
+     */
+    public void end() {
+        if (session.getPhase() == MatchPhase.END) {
+            return;
+        }
+        if (started) {
+            exit(session.getPhase());
+        }
+        enter(MatchPhase.END);
+    }
+
+    /**
+     * Leaves the current phase for the next phase with a non-zero duration.
+     */
+    public void advance() {
+        MatchPhase current = session.getPhase();
+        if (current == MatchPhase.END) {
+            return;
+        }
+        MatchPhase next = PHASES[current.ordinal() + 1];
+        while (next != MatchPhase.END && durations[next.ordinal()] == 0L) {
+            next = PHASES[next.ordinal() + 1];
+        }
+        if (next == MatchPhase.END) {
+            end();
+            return;
+        }
+        exit(current);
+        enter(next);
+    }
+
+    /**
+     * Returns the number of ticks spent in the current phase.
+     *
+     * @return the ticks since the current phase was entered
+     */
+    public long getElapsed() {
+        return elapsed;
+    }
+
+    private void tick() {
+        elapsed++;
+        MatchPhase phase = session.getPhase();
+
+        if (phase == MatchPhase.COUNTDOWN && elapsed % TICKS_PER_SECOND == 0) {
+            showCountdown();
+        }
+
+        long duration = durations[phase.ordinal()];
+        if (duration != UNTIL_ADVANCED && elapsed >= duration) {
+            advance();
+        }
+    }
+
+    private void enter(MatchPhase phase) {
+        BattleRoyale battleRoyale = session.getBattleRoyale();
+        session.phase(phase);
+        elapsed = 0L;
+
+        if (battleRoyale.state() != phase.state()) {
+            battleRoyale.state(phase.state());
+        }
+
+        switch (phase) {
+            case COUNTDOWN -> {
+                session.setFrozen(true);
+                showCountdown();
+            }
+            case END -> {
+                if (task != null) {
+                    task.cancel();
+                }
+            }
+            default -> {
+            }
+        }
+
+        if (started) {
+            run(enterHooks.get(phase.ordinal()), phase);
+        }
+    }
+
+    private void exit(MatchPhase phase) {
+        run(exitHooks.get(phase.ordinal()), phase);
+
+        if (phase == MatchPhase.COUNTDOWN) {
+            session.setFrozen(false);
+            showTitle(Component.text("GO!").color(NamedTextColor.GREEN));
+        }
+    }
+
+    private void run(List<Consumer<ArenaSession>> hooks, MatchPhase phase) {
+        for (Consumer<ArenaSession> hook : hooks) {
+            try {
+                hook.accept(session);
+            } catch (RuntimeException e) {
+                Main.getPlugin().getComponentLogger().error(
+                        Component.text("A " + phase + " phase hook of battle royale " + session.getBattleRoyale().id() + " failed"),
+                        e
+                );
+            }
+        }
+    }
+
+    private void showCountdown() {
+        long remaining = (durations[MatchPhase.COUNTDOWN.ordinal()] - elapsed + TICKS_PER_SECOND - 1) / TICKS_PER_SECOND;
+        if (remaining <= 0) {
+            return;
+        }
+        NamedTextColor color = switch ((int) Math.min(remaining, 5)) {
+            case 5 -> NamedTextColor.DARK_RED;
+            case 4 -> NamedTextColor.RED;
+            case 3 -> NamedTextColor.GOLD;
+            case 2 -> NamedTextColor.YELLOW;
+            default -> NamedTextColor.DARK_GREEN;
+        };
+        showTitle(Component.text(String.valueOf(remaining)).color(color));
+    }
+
+    private void showTitle(Component text) {
+        Title title = Title.title(text, Component.text(""), 1, 2, 1);
+        for (UUID id : session.getPlayers()) {
+            Player player = Bukkit.getPlayer(id);
+            if (player != null && player.isOnline()) {
+                player.showTitle(title);
+            }
+        }
+    }
+
+    /**
+     * Converts a duration setting to ticks.
+     *
+     * @param setting  the setting value
+     * @param fallback the ticks to use if the setting is not a non-negative duration
+     * @return the duration in ticks
+     */
+    private static long ticks(Object setting, long fallback) {
+        if (setting instanceof Duration duration && !duration.isNegative()) {
+            return duration.toMillis() / 50L;
+        }
+        return fallback;
+    }
+
+}
@@ -0,0 +1,238 @@
+package dev.royalcore.api.session;
+
+import dev.royalcore.Main;
+import dev.royalcore.annotations.Experimental;
+import dev.royalcore.api.br.BattleRoyale;
+import dev.royalcore.api.errors.Result;
+import dev.royalcore.api.errors.StacklessException;
+import lombok.Getter;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityEvent;
+import org.bukkit.event.player.PlayerEvent;
+import org.bukkit.event.world.WorldEvent;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the {@link ArenaSession sessions} running on this server and routes events to them.
+ * <p>
+ * Sessions are indexed by battle royale ID, by player and by world, so finding the session an event belongs
+ * to is a hash lookup however many matches are running. Each world can be claimed by one session only.
+ * <p>
+ * Session listeners are not registered with Bukkit one by one. Instead, the manager registers a single executor
+ * per event type and priority the first time a session listens to it, and forwards each event to the one
+ * session it belongs to.
+ */
+@Experimental
+public final class SessionManager {
+
+    @Getter
+    private static final SessionManager sessionManager = new SessionManager();
+
+    private static final Listener ROUTER = new Listener() {
+    };
+
+    private final Map<UUID, ArenaSession> sessions = new ConcurrentHashMap<>();
+    private final Map<UUID, ArenaSession> byPlayer = new ConcurrentHashMap<>();
+    private final Map<UUID, ArenaSession> byWorld = new ConcurrentHashMap<>();
+    private final Set<Slot> hooked = ConcurrentHashMap.newKeySet();
+
+    private SessionManager() {
+    }
+
+    /**
+     * Opens a session for a battle royale, or returns the one already open for it.
+     *
+     * @param battleRoyale the battle royale to run
+     * @return the session, or a {@link Result.Err} if the battle royale's world is used by another session
+     */
+    public synchronized Result<ArenaSession> open(BattleRoyale battleRoyale) {
+        ArenaSession existing = sessions.get(battleRoyale.id());
+        if (existing != null) {
+            return Result.Ok(existing);
+        }
+
+        World world = battleRoyale.worldConsumer().getBrWorld();
+        if (world != null && byWorld.containsKey(world.getUID())) {
+            return Result.Err(
+                    () -> Component.text("Cannot start battle royale " + battleRoyale.id() + " because world '" + world.getName() + "' is used by another match!"),
+                    new StacklessException("World already claimed"),
+                    false
+            );
+        }
+
+        ArenaSession session = new ArenaSession(this, battleRoyale, world);
+        sessions.put(battleRoyale.id(), session);
+        if (world != null) {
+            byWorld.put(world.getUID(), session);
+        }
+        return Result.Ok(session);
+    }
+
+    /**
+     * Closes a session: cancels its tasks and releases its players and world.
+     *
+     * @param session the session to close
+     */
+    public synchronized void close(ArenaSession session) {
+        if (!sessions.remove(session.getBattleRoyale().id(), session)) {
+            return;
+        }
+        session.cancelTasks();
+        for (UUID player : session.getPlayers()) {
+            byPlayer.remove(player, session);
+        }
+        if (session.getWorld() != null) {
+            byWorld.remove(session.getWorld().getUID(), session);
+        }
+    }
+
+    /**
+     * Returns the session running a battle royale.
+     *
+     * @param battleRoyaleId the battle royale ID
+     * @return the session, or an empty optional if the battle royale is not running
+     */
+    public Optional<ArenaSession> get(UUID battleRoyaleId) {
+        return Optional.ofNullable(sessions.get(battleRoyaleId));
+    }
+
+    /**
+     * Returns the session a player takes part in.
+     *
+     * @param player the player
+     * @return the session, or an empty optional if the player is in none
+     */
+    public Optional<ArenaSession> session(Player player) {
+        return Optional.ofNullable(byPlayer.get(player.getUniqueId()));
+    }
+
+    /**
+     * Returns the session that claimed a world.
+     *
+     * @param world the world
+     * @return the session, or an empty optional if no session uses the world
+     */
+    public Optional<ArenaSession> session(World world) {
+        return Optional.ofNullable(byWorld.get(world.getUID()));
+    }
+
+    /**
+     * Checks whether a player may damage other players right now: always outside of a session, otherwise only
+     * in a phase that allows PvP.
+     *
+     * @param player the player
+     * @return {@code true} if PvP is allowed for the player
+     */
+    public boolean isPvpAllowed(Player player) {
+        ArenaSession session = byPlayer.get(player.getUniqueId());
+        return session == null || session.isPvpAllowed();
+    }
+
+    /**
+     * Returns every open session.
+     *
+     * @return an unmodifiable view of the open sessions
+     */
+    public Collection<ArenaSession> getSessions() {
+        return Collections.unmodifiableCollection(sessions.values());
+    }
+
+    /**
+     * Finds the session an event belongs to: the session of the player involved if there is one, otherwise the
+     * session of the world the event happens in.
+     *
+     * @param event the event
+     * @return the session, or {@code null} if the event belongs to none
+     */
+    public ArenaSession route(Event event) {
+        return switch (event) {
+            case PlayerEvent playerEvent -> route(playerEvent.getPlayer());
+            case EntityEvent entityEvent -> route(entityEvent.getEntity());
+            case BlockBreakEvent blockBreak -> route(blockBreak.getPlayer());
+            case BlockPlaceEvent blockPlace -> route(blockPlace.getPlayer());
+            case BlockEvent blockEvent -> byWorld.get(blockEvent.getBlock().getWorld().getUID());
+            case WorldEvent worldEvent -> byWorld.get(worldEvent.getWorld().getUID());
+            default -> null;
+        };
+    }
+
+    private ArenaSession route(Entity entity) {
+        if (entity instanceof Player player) {
+            ArenaSession session = byPlayer.get(player.getUniqueId());
+            if (session != null) {
+                return session;
+            }
+        }
+        return byWorld.get(entity.getWorld().getUID());
+    }
+
+    /**
+     * Assigns a player to a session.
+     *
+     * @param player  the player's UUID
+     * @param session the session
+     * @return {@code false} if the player already takes part in another session
+     */
+    boolean assign(UUID player, ArenaSession session) {
+        ArenaSession previous = byPlayer.putIfAbsent(player, session);
+        return previous == null || previous == session;
+    }
+
+    /**
+     * Removes a player from a session.
+     *
+     * @param player  the player's UUID
+     * @param session the session
+     */
+    void release(UUID player, ArenaSession session) {
+        byPlayer.remove(player, session);
+    }
+
+    /**
+     * Makes sure events of the given type and priority are forwarded to sessions.
+     *
+     * @param slot the event type and priority
+     */
+    void hook(Slot slot) {
+        if (!hooked.add(slot)) {
+            return;
+        }
+        Bukkit.getPluginManager().registerEvent(slot.type(), ROUTER, slot.priority(), (_, event) -> {
+            // Subtypes sharing a handler list arrive here too.
+            if (!slot.type().isInstance(event)) {
+                return;
+            }
+            ArenaSession session = route(event);
+            if (session != null) {
+                session.dispatch(slot, event);
+            }
+        }, Main.getPlugin(), false);
+    }
+
+    /**
+     * An event type and priority that session listeners handle.
+     *
+     * @param type     the event type the handler declares
+     * @param priority the handler priority
+     */
+    record Slot(Class<? extends Event> type, EventPriority priority) {
+    }
+
+}
@@ -22,6 +22,10 @@ public class SchematicUtils {
     /**
      * Finds the highest possible flat ground level inside the given XZ bounds where a
      * cuboid of the given size fits.
+     * <p>
+     * The height of every column in the search area is read once up front; candidate origins are then
+     * evaluated against that heightmap with {@link #findHighestFittingOrigin}, so the world is only queried
+     * again to check that the space above a flat candidate is empty.
      *
      * @param world           target world
      * @param minX            minimum X of the search area
@@ -45,58 +49,112 @@ public class SchematicUtils {
             int minY,
             int maxY
     ) {
-        Location best = null;
+        int sizeX = maxX - minX + 1;
+        int sizeZ = maxZ - minZ + 1;
+        if (sizeX < structureWidth || sizeZ < structureLength) {
+            return null;
+        }
 
-        for (int x = minX; x <= maxX - structureWidth + 1; x++) {
-            for (int z = minZ; z <= maxZ - structureLength + 1; z++) {
+        int[] heights = new int[sizeX * sizeZ];
+        for (int x = 0; x < sizeX; x++) {
+            for (int z = 0; z < sizeZ; z++) {
+                heights[x * sizeZ + z] = world.getHighestBlockYAt(minX + x, minZ + z);
+            }
+        }
 
-                int minGroundY = Integer.MAX_VALUE;
-                int maxGroundY = Integer.MIN_VALUE;
+        int index = findHighestFittingOrigin(
+                heights, sizeX, sizeZ,
+                structureWidth, structureLength,
+                minY, maxY,
+                (x, groundY, z) -> isClear(world, minX + x, groundY, minZ + z, structureWidth, structureLength, structureHeight)
+        );
 
-                for (int dx = 0; dx < structureWidth; dx++) {
-                    for (int dz = 0; dz < structureLength; dz++) {
-                        Block highest = world.getHighestBlockAt(x + dx, z + dz);
-                        int gy = highest.getY();
-                        if (gy < minGroundY) minGroundY = gy;
-                        if (gy > maxGroundY) maxGroundY = gy;
-                    }
-                }
+        if (index == -1) {
+            return null;
+        }
 
-                if (minGroundY != maxGroundY) {
-                    continue;
-                }
+        return new Location(world, minX + index / sizeZ, heights[index] + 1, minZ + index % sizeZ);
+    }
+
+    /**
+     * Finds the highest flat origin in a heightmap where a cuboid footprint fits.
+     * <p>
+     * A candidate is flat if every column under the footprint has the same height, that height lies within
+     * {@code [minY, maxY]}, and {@code clearance} accepts it. Among equally high candidates the first one in
+     * X-then-Z order wins.
+     *
+     * @param heights         column heights, indexed by {@code x * sizeZ + z}
+     * @param sizeX           number of columns along X
+     * @param sizeZ           number of columns along Z
+     * @param structureWidth  width of the footprint (X)
+     * @param structureLength length of the footprint (Z)
+     * @param minY            minimum allowed ground Y
+     * @param maxY            maximum allowed ground Y
+     * @param clearance       checks that the space above a flat candidate is free
+     * @return the heightmap index of the origin, or {@code -1} if none fits
+     */
+    public static int findHighestFittingOrigin(
+            int[] heights,
+            int sizeX, int sizeZ,
+            int structureWidth,
+            int structureLength,
+            int minY,
+            int maxY,
+            Clearance clearance
+    ) {
+        int best = -1;
+        int bestY = Integer.MIN_VALUE;
 
-                int groundY = maxGroundY;
+        for (int x = 0; x <= sizeX - structureWidth; x++) {
+            for (int z = 0; z <= sizeZ - structureLength; z++) {
 
-                if (groundY < minY || groundY > maxY) {
+                int groundY = heights[x * sizeZ + z];
+                if (groundY < minY || groundY > maxY || groundY <= bestY) {
                     continue;
                 }
 
-                boolean clear = true;
-                for (int dx = 0; dx < structureWidth && clear; dx++) {
-                    for (int dz = 0; dz < structureLength && clear; dz++) {
-                        for (int dy = 1; dy <= structureHeight; dy++) {
-                            Block b = world.getBlockAt(x + dx, groundY + dy, z + dz);
-                            if (!b.isEmpty()) {
-                                clear = false;
-                            }
-                        }
-                    }
+                if (!isFlat(heights, sizeZ, x, z, structureWidth, structureLength, groundY)) {
+                    continue;
                 }
 
-                if (!clear) {
+                if (!clearance.isClear(x, groundY, z)) {
                     continue;
                 }
 
-                if (best == null || groundY > best.getBlockY() - 1) {
-                    best = new Location(world, x, groundY + 1, z);
-                }
+                best = x * sizeZ + z;
+                bestY = groundY;
             }
         }
 
         return best;
     }
 
+    private static boolean isFlat(int[] heights, int sizeZ, int x, int z, int width, int length, int groundY) {
+        for (int dx = 0; dx < width; dx++) {
+            int row = (x + dx) * sizeZ + z;
+            for (int dz = 0; dz < length; dz++) {
+                if (heights[row + dz] != groundY) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isClear(World world, int x, int groundY, int z, int width, int length, int height) {
+        for (int dx = 0; dx < width; dx++) {
+            for (int dz = 0; dz < length; dz++) {
+                for (int dy = 1; dy <= height; dy++) {
+                    Block block = world.getBlockAt(x + dx, groundY + dy, z + dz);
+                    if (!block.isEmpty()) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
     /**
      * Returns a random integer in the inclusive range [min, max].
      *
@@ -111,4 +169,21 @@ public class SchematicUtils {
         return random.nextInt((max - min) + 1) + min;
     }
 
+    /**
+     * Checks whether the space above a flat candidate origin is free.
+     */
+    @FunctionalInterface
+    public interface Clearance {
+
+        /**
+         * Checks a candidate origin.
+         *
+         * @param x       X offset of the origin within the heightmap
+         * @param groundY the ground height under the origin
+         * @param z       Z offset of the origin within the heightmap
+         * @return {@code true} if the cuboid fits above the ground
+         */
+        boolean isClear(int x, int groundY, int z);
+    }
+
 }
@@ -0,0 +1,285 @@
+package dev.royalcore.internal.commands;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.tree.LiteralCommandNode;
+import dev.royalcore.Main;
+import dev.royalcore.api.data.Database;
+import dev.royalcore.api.data.DatabaseStatistics;
+import dev.royalcore.api.engine.BattleRoyaleEngine;
+import dev.royalcore.api.errors.Result;
+import dev.royalcore.api.metrics.Counter;
+import dev.royalcore.api.metrics.Histogram;
+import dev.royalcore.api.metrics.MetricsRegistry;
+import dev.royalcore.api.registries.ListenerRegistry;
+import dev.royalcore.api.session.ArenaSession;
+import dev.royalcore.api.session.SessionManager;
+import dev.royalcore.internal.footprint.FootprintEstimator;
+import dev.royalcore.internal.logging.AsyncLogSink;
+import dev.royalcore.internal.logging.ErrorAggregator;
+import dev.royalcore.internal.recording.EventRecorder;
+import io.papermc.paper.command.brigadier.CommandSourceStack;
+import io.papermc.paper.command.brigadier.Commands;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.event.Event;
+import org.bukkit.event.Listener;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Administrative {@code /royalecore} command exposing RoyaleCore diagnostics.
+ */
+public class RoyaleCoreCommand {
+
+    private static final String PERMISSION = "royalecore.admin";
+    private static final int SLOW_OPERATIONS_SHOWN = 10;
+    private static final int ERRORS_SHOWN = 15;
+    private static final int FOOTPRINTS_SHOWN = 15;
+    private static final DateTimeFormatter RECORDING_NAME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private RoyaleCoreCommand() {
+    }
+
+    /**
+     * Builds the {@code /royalecore} command tree.
+     *
+     * @return the root command node
+     */
+    public static LiteralCommandNode<CommandSourceStack> create() {
+        return Commands.literal("royalecore")
+                .requires(source -> source.getSender().hasPermission(PERMISSION))
+                .then(Commands.literal("db").executes(RoyaleCoreCommand::database))
+                .then(Commands.literal("errors").executes(RoyaleCoreCommand::errors))
+                .then(Commands.literal("footprint").executes(RoyaleCoreCommand::footprint))
+                .then(Commands.literal("metrics").executes(RoyaleCoreCommand::metrics))
+                .then(Commands.literal("record")
+                        .then(Commands.literal("start").executes(RoyaleCoreCommand::startRecording))
+                        .then(Commands.literal("stop").executes(RoyaleCoreCommand::stopRecording)))
+                .build();
+    }
+
+    /**
+     * Prints per-table statistics and the most recent slow operations of every open database.
+     *
+     * @param context the command context
+     * @return {@link Command#SINGLE_SUCCESS}
+     */
+    private static int database(CommandContext<CommandSourceStack> context) {
+        CommandSender sender = context.getSource().getSender();
+
+        if (Database.getOpenDatabases().isEmpty()) {
+            sender.sendMessage(Component.text("No databases are open.").color(NamedTextColor.GRAY));
+            return Command.SINGLE_SUCCESS;
+        }
+
+        for (Database database : Database.getOpenDatabases()) {
+            DatabaseStatistics statistics = database.getStatistics();
+            sender.sendMessage(Component.text("Database " + database.getPath()).color(NamedTextColor.GOLD));
+
+            for (DatabaseStatistics.TableStatistics table : statistics.tables()) {
+                sender.sendMessage(Component.text(" " + table.table()
+                        + " rowsRead=" + table.rowsRead()
+                        + " rowsWritten=" + table.rowsWritten()
+                        + " bytesWritten=" + table.bytesWritten()
+                        + " failures=" + table.failures()).color(NamedTextColor.YELLOW));
+
+                for (DatabaseStatistics.Operation operation : DatabaseStatistics.Operation.values()) {
+                    Histogram.Snapshot latency = table.latency(operation).snapshot();
+                    if (latency.count() == 0) continue;
+
+                    sender.sendMessage(Component.text("  " + operation.name().toLowerCase()
+                            + " n=" + latency.count()
+                            + " mean=" + millis((long) latency.meanNanos())
+                            + " p50=" + millis(latency.percentileNanos(50))
+                            + " p99=" + millis(latency.percentileNanos(99))
+                            + " max=" + millis(latency.maxNanos())));
+                }
+            }
+
+            List<DatabaseStatistics.SlowOperation> slow = statistics.slowOperations();
+            if (slow.isEmpty()) continue;
+
+            sender.sendMessage(Component.text(" Slow operations (> " + statistics.getSlowThreshold().toMillis() + "ms):").color(NamedTextColor.RED));
+            for (DatabaseStatistics.SlowOperation operation : slow.subList(Math.max(0, slow.size() - SLOW_OPERATIONS_SHOWN), slow.size())) {
+                sender.sendMessage(Component.text("  " + operation.at() + " " + millis(operation.durationNanos()) + " " + operation.context()));
+            }
+        }
+
+        return Command.SINGLE_SUCCESS;
+    }
+
+    /**
+     * Prints the counters of the most frequent errors and the number of dropped log lines.
+     *
+     * @param context the command context
+     * @return {@link Command#SINGLE_SUCCESS}
+     */
+    private static int errors(CommandContext<CommandSourceStack> context) {
+        CommandSender sender = context.getSource().getSender();
+        List<ErrorAggregator.ErrorCount> counts = ErrorAggregator.getAggregator().snapshot();
+
+        sender.sendMessage(Component.text("Errors (" + counts.size() + " distinct, "
+                + AsyncLogSink.getSink().getDropped() + " log lines dropped)").color(NamedTextColor.GOLD));
+
+        for (ErrorAggregator.ErrorCount count : counts.subList(0, Math.min(ERRORS_SHOWN, counts.size()))) {
+            sender.sendMessage(Component.text(" x" + count.total()
+                    + (count.exceptionType() == null ? "" : " [" + count.exceptionType() + "]")
+                    + " " + count.message()).color(NamedTextColor.YELLOW));
+        }
+
+        return Command.SINGLE_SUCCESS;
+    }
+
+    /**
+     * Prints the estimated heap retained by the registered battle royales and their scenarios.
+     *
+     * @param context the command context
+     * @return {@link Command#SINGLE_SUCCESS}
+     */
+    private static int footprint(CommandContext<CommandSourceStack> context) {
+        CommandSender sender = context.getSource().getSender();
+        FootprintEstimator.Report report = FootprintEstimator.getEstimator()
+                .estimate(BattleRoyaleEngine.getBattleRoyaleEngine().getRegistered());
+
+        sender.sendMessage(Component.text("Footprint (estimated) " + kibibytes(report.totalBytes())
+                + ", shared consumers " + kibibytes(report.shared().bytes())).color(NamedTextColor.GOLD));
+
+        sender.sendMessage(Component.text("Battle royales (" + report.battleRoyales().size() + ")").color(NamedTextColor.GOLD));
+        for (FootprintEstimator.Entry entry : report.battleRoyales().subList(0, Math.min(FOOTPRINTS_SHOWN, report.battleRoyales().size()))) {
+            sender.sendMessage(footprintLine(entry));
+        }
+
+        sender.sendMessage(Component.text("Scenarios (" + report.scenarios().size() + ")").color(NamedTextColor.GOLD));
+        for (FootprintEstimator.Entry entry : report.scenarios().subList(0, Math.min(FOOTPRINTS_SHOWN, report.scenarios().size()))) {
+            sender.sendMessage(footprintLine(entry));
+        }
+
+        return Command.SINGLE_SUCCESS;
+    }
+
+    /**
+     * Formats one footprint entry for {@link #footprint(CommandContext)}.
+     *
+     * @param entry the entry to format
+     * @return the formatted line
+     */
+    private static Component footprintLine(FootprintEstimator.Entry entry) {
+        return Component.text(" " + entry.name() + " " + kibibytes(entry.bytes())
+                + " in " + entry.objects() + " objects"
+                + (entry.truncated() ? " (truncated)" : "")).color(NamedTextColor.YELLOW);
+    }
+
+    /**
+     * Prints the key percentiles of every histogram and the value of every counter in the {@link MetricsRegistry}.
+     *
+     * @param context the command context
+     * @return {@link Command#SINGLE_SUCCESS}
+     */
+    private static int metrics(CommandContext<CommandSourceStack> context) {
+        CommandSender sender = context.getSource().getSender();
+        MetricsRegistry registry = MetricsRegistry.getRegistry();
+
+        sender.sendMessage(Component.text("Latencies").color(NamedTextColor.GOLD));
+        for (Map.Entry<String, Histogram> entry : registry.histograms().entrySet()) {
+            Histogram.Snapshot snapshot = entry.getValue().snapshot();
+            if (snapshot.count() == 0) continue;
+
+            sender.sendMessage(Component.text(" " + entry.getKey()).color(NamedTextColor.YELLOW)
+                    .append(Component.text(" n=" + snapshot.count()
+                            + " p50=" + millis(snapshot.percentileNanos(50))
+                            + " p90=" + millis(snapshot.percentileNanos(90))
+                            + " p99=" + millis(snapshot.percentileNanos(99))
+                            + " p99.9=" + millis(snapshot.percentileNanos(99.9))
+                            + " max=" + millis(snapshot.maxNanos())).color(NamedTextColor.WHITE)));
+        }
+
+        sender.sendMessage(Component.text("Counters").color(NamedTextColor.GOLD));
+        for (Map.Entry<String, Counter> entry : registry.counters().entrySet()) {
+            sender.sendMessage(Component.text(" " + entry.getKey() + " " + entry.getValue().get()).color(NamedTextColor.YELLOW));
+        }
+
+        return Command.SINGLE_SUCCESS;
+    }
+
+    /**
+     * Starts recording the events that reach RoyaleCore's listeners, including those of open match sessions,
+     * to a new file in the plugin's {@code recordings} folder.
+     *
+     * @param context the command context
+     * @return {@link Command#SINGLE_SUCCESS}
+     */
+    private static int startRecording(CommandContext<CommandSourceStack> context) {
+        CommandSender sender = context.getSource().getSender();
+        Path file = Main.getPlugin().getDataFolder().toPath()
+                .resolve("recordings")
+                .resolve("events-" + LocalDateTime.now().format(RECORDING_NAME) + ".rcev");
+
+        List<Listener> listeners = new ArrayList<>(ListenerRegistry.getListenerRegistry().getListeners());
+        for (ArenaSession session : SessionManager.getSessionManager().getSessions()) {
+            listeners.addAll(session.getListeners());
+        }
+
+        Result<Set<Class<? extends Event>>> result = EventRecorder.getRecorder().start(file, listeners);
+
+        if (result instanceof Result.Err<?> err) {
+            sender.sendMessage(err.errorMsg().color(NamedTextColor.RED));
+            return Command.SINGLE_SUCCESS;
+        }
+
+        sender.sendMessage(Component.text("Recording " + result.orElse(Set.of()).stream().map(Class::getSimpleName).toList()
+                + " to " + file).color(NamedTextColor.GOLD));
+
+        return Command.SINGLE_SUCCESS;
+    }
+
+    /**
+     * Stops the running event recording.
+     *
+     * @param context the command context
+     * @return {@link Command#SINGLE_SUCCESS}
+     */
+    private static int stopRecording(CommandContext<CommandSourceStack> context) {
+        CommandSender sender = context.getSource().getSender();
+
+        Result<Long> result = EventRecorder.getRecorder().stop();
+
+        if (result instanceof Result.Err<?> err) {
+            sender.sendMessage(err.errorMsg().color(NamedTextColor.RED));
+            return Command.SINGLE_SUCCESS;
+        }
+
+        sender.sendMessage(Component.text("Recorded " + result.orElse(0L) + " events to "
+                + EventRecorder.getRecorder().getFile()).color(NamedTextColor.GOLD));
+
+        return Command.SINGLE_SUCCESS;
+    }
+
+    /**
+     * Formats a nanosecond duration as milliseconds with two decimals.
+     *
+     * @param nanos the duration in nanoseconds
+     * @return the formatted duration
+     */
+    static String millis(long nanos) {
+        return String.format("%.2fms", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Formats a byte count as kibibytes with one decimal.
+     *
+     * @param bytes the number of bytes
+     * @return the formatted size
+     */
+    static String kibibytes(long bytes) {
+        return String.format("%.1fKiB", bytes / 1024.0);
+    }
+
+}
@@ -0,0 +1,327 @@
+package dev.royalcore.internal.footprint;
+
+import dev.royalcore.annotations.NotForDeveloperUse;
+import dev.royalcore.api.br.BattleRoyale;
+import dev.royalcore.api.consumer.BorderConsumer;
+import dev.royalcore.api.consumer.CommandConsumer;
+import dev.royalcore.api.consumer.ItemConsumer;
+import dev.royalcore.api.consumer.ListenerConsumer;
+import dev.royalcore.api.consumer.MessageConsumer;
+import dev.royalcore.api.consumer.PlayerConsumer;
+import dev.royalcore.api.consumer.ResourcePackConsumer;
+import dev.royalcore.api.consumer.SchedulerConsumer;
+import dev.royalcore.api.consumer.SettingsConsumer;
+import dev.royalcore.api.consumer.StructureConsumer;
+import dev.royalcore.api.scenario.Scenario;
+import lombok.Getter;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Estimates how much heap the registered battle royale and scenario definitions retain.
+ * <p>
+ * There is no instrumentation agent to ask for real object sizes, so the estimator walks the object graph
+ * reflectively and sizes every object from its field layout, assuming compressed references (12 byte
+ * headers, 4 byte references, 8 byte alignment). Objects owned by the server, such as worlds and players,
+ * are not followed, the shared empty consumers are reported once instead of per scenario, and scenarios
+ * are reported separately from the battle royales that use them.
+ */
+@NotForDeveloperUse
+public final class FootprintEstimator {
+
+    /**
+     * Singleton instance of the {@link FootprintEstimator}.
+     */
+    @Getter
+    private static final FootprintEstimator estimator = new FootprintEstimator();
+
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int MAP_ENTRY = 32;
+    private static final int MAX_OBJECTS = 200_000;
+
+    private static final List<String> SERVER_PACKAGES = List.of(
+            "org.bukkit.",
+            "net.minecraft.",
+            "io.papermc.",
+            "com.destroystokyo.",
+            "org.spigotmc.",
+            "io.netty."
+    );
+
+    private static final ClassValue<Layout> LAYOUTS = new ClassValue<>() {
+        @Override
+        protected Layout computeValue(Class<?> type) {
+            return Layout.of(type);
+        }
+    };
+
+    private FootprintEstimator() {
+    }
+
+    /**
+     * Estimates the footprint of the given battle royales and of every scenario they use.
+     *
+     * @param battleRoyales the battle royales to measure
+     * @return the estimated footprint, largest entries first
+     */
+    public Report estimate(Collection<BattleRoyale> battleRoyales) {
+        Set<Object> shared = identitySet();
+        Collections.addAll(shared,
+                ItemConsumer.empty(),
+                ListenerConsumer.empty(),
+                CommandConsumer.empty(),
+                BorderConsumer.empty(),
+                SettingsConsumer.empty(),
+                SchedulerConsumer.empty(),
+                MessageConsumer.empty(),
+                PlayerConsumer.empty(),
+                ResourcePackConsumer.empty(),
+                StructureConsumer.empty()
+        );
+
+        Set<Scenario> scenarios = new LinkedHashSet<>();
+        for (BattleRoyale battleRoyale : battleRoyales) {
+            scenarios.addAll(battleRoyale.scenarios());
+        }
+
+        Set<Object> boundary = identitySet();
+        boundary.addAll(shared);
+        boundary.addAll(scenarios);
+
+        List<Entry> battleRoyaleEntries = new ArrayList<>();
+        for (BattleRoyale battleRoyale : battleRoyales) {
+            battleRoyaleEntries.add(walk(String.valueOf(battleRoyale.id()), battleRoyale, boundary));
+        }
+
+        List<Entry> scenarioEntries = new ArrayList<>();
+        for (Scenario scenario : scenarios) {
+            scenarioEntries.add(walk(scenario.plainName(), scenario, boundary));
+        }
+
+        Entry sharedEntry = walk("shared", shared.toArray(), Set.of());
+
+        battleRoyaleEntries.sort(Comparator.comparingLong(Entry::bytes).reversed());
+        scenarioEntries.sort(Comparator.comparingLong(Entry::bytes).reversed());
+        return new Report(battleRoyaleEntries, scenarioEntries, sharedEntry);
+    }
+
+    /**
+     * Sums the estimated size of everything reachable from {@code root} without passing through {@code boundary}.
+     *
+     * @param name     the name to report the entry under
+     * @param root     the object to start from; always counted, even if it is part of the boundary
+     * @param boundary objects that are accounted for elsewhere
+     * @return the estimated retained size of {@code root}
+     */
+    private Entry walk(String name, Object root, Set<Object> boundary) {
+        Set<Object> visited = identitySet();
+        Deque<Object> pending = new ArrayDeque<>();
+        visited.add(root);
+        pending.push(root);
+
+        long bytes = 0;
+        int objects = 0;
+
+        while (!pending.isEmpty()) {
+            if (objects == MAX_OBJECTS) {
+                return new Entry(name, bytes, objects, true);
+            }
+
+            Object object = pending.pop();
+            objects++;
+            bytes += sizeOf(object);
+
+            for (Object child : children(object)) {
+                if (child != null && !boundary.contains(child) && isOwned(child.getClass()) && visited.add(child)) {
+                    pending.push(child);
+                }
+            }
+        }
+
+        return new Entry(name, bytes, objects, false);
+    }
+
+    /**
+     * Estimates the shallow size of an object, plus the backing storage of JDK strings and collections,
+     * whose internals cannot be read reflectively.
+     *
+     * @param object the object to size
+     * @return the estimated size in bytes
+     */
+    private static long sizeOf(Object object) {
+        Class<?> type = object.getClass();
+        if (type.isArray()) {
+            return align(ARRAY_HEADER + (long) Array.getLength(object) * elementSize(type.getComponentType()));
+        }
+
+        long size = LAYOUTS.get(type).shallowSize();
+        return switch (object) {
+            case String string -> size + align(ARRAY_HEADER + string.length());
+            case Map<?, ?> map when isJdk(type) -> size + align(ARRAY_HEADER + (long) map.size() * 2 * REFERENCE) + (long) map.size() * MAP_ENTRY;
+            case Collection<?> collection when isJdk(type) -> size + align(ARRAY_HEADER + (long) collection.size() * REFERENCE);
+            default -> size;
+        };
+    }
+
+    /**
+     * Returns the objects directly referenced by the given object.
+     *
+     * @param object the object whose references to collect
+     * @return the referenced objects, possibly containing {@code null}
+     */
+    private static List<Object> children(Object object) {
+        Class<?> type = object.getClass();
+        if (type.isArray()) {
+            if (type.getComponentType().isPrimitive()) {
+                return List.of();
+            }
+            List<Object> elements = new ArrayList<>();
+            Collections.addAll(elements, (Object[]) object);
+            return elements;
+        }
+
+        try {
+            if (object instanceof Map<?, ?> map && isJdk(type)) {
+                List<Object> entries = new ArrayList<>(map.size() * 2);
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    entries.add(entry.getKey());
+                    entries.add(entry.getValue());
+                }
+                return entries;
+            }
+            if (object instanceof Collection<?> collection && isJdk(type)) {
+                return new ArrayList<>(collection);
+            }
+        } catch (RuntimeException ignored) {
+            // A collection modified while being copied is sized but not followed.
+            return List.of();
+        }
+
+        List<Object> references = new ArrayList<>();
+        for (Field field : LAYOUTS.get(type).references()) {
+            try {
+                references.add(field.get(object));
+            } catch (IllegalAccessException ignored) {
+                // Layout only keeps fields made accessible; nothing to follow here.
+            }
+        }
+        return references;
+    }
+
+    /**
+     * Whether objects of this type belong to the definitions being measured rather than to the server or the JVM.
+     *
+     * @param type the class to check
+     * @return {@code true} if instances should be followed and counted
+     */
+    private static boolean isOwned(Class<?> type) {
+        if (Class.class == type || Thread.class.isAssignableFrom(type) || ClassLoader.class.isAssignableFrom(type)) {
+            return false;
+        }
+        String name = type.getName();
+        for (String prefix : SERVER_PACKAGES) {
+            if (name.startsWith(prefix)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isJdk(Class<?> type) {
+        return type.getName().startsWith("java.");
+    }
+
+    private static int elementSize(Class<?> type) {
+        if (type == long.class || type == double.class) return 8;
+        if (type == int.class || type == float.class) return 4;
+        if (type == short.class || type == char.class) return 2;
+        if (type == byte.class || type == boolean.class) return 1;
+        return REFERENCE;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    private static Set<Object> identitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Estimated footprint of one battle royale, scenario or the shared consumers.
+     *
+     * @param name      the battle royale ID or scenario name
+     * @param bytes     the estimated retained bytes
+     * @param objects   the number of objects counted
+     * @param truncated whether the walk stopped early because the graph was too large
+     */
+    public record Entry(String name, long bytes, int objects, boolean truncated) {
+    }
+
+    /**
+     * Result of {@link #estimate(Collection)}.
+     *
+     * @param battleRoyales the battle royales, excluding their scenarios, largest first
+     * @param scenarios     every distinct scenario, largest first
+     * @param shared        the shared empty consumers, counted once
+     */
+    public record Report(List<Entry> battleRoyales, List<Entry> scenarios, Entry shared) {
+
+        /**
+         * Returns the estimated total of all entries.
+         *
+         * @return the total estimated bytes
+         */
+        public long totalBytes() {
+            long total = shared.bytes();
+            for (Entry entry : battleRoyales) total += entry.bytes();
+            for (Entry entry : scenarios) total += entry.bytes();
+            return total;
+        }
+
+    }
+
+    /**
+     * Field layout of a class: its estimated shallow size and the reference fields that can be followed.
+     *
+     * @param shallowSize the estimated instance size in bytes
+     * @param references  the accessible non-static reference fields, including inherited ones
+     */
+    private record Layout(long shallowSize, Field[] references) {
+
+        static Layout of(Class<?> type) {
+            long size = OBJECT_HEADER;
+            List<Field> references = new ArrayList<>();
+
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) continue;
+
+                    size += elementSize(field.getType());
+                    if (!field.getType().isPrimitive() && !isJdk(current) && field.trySetAccessible()) {
+                        references.add(field);
+                    }
+                }
+            }
+
+            return new Layout(align(size), references.toArray(Field[]::new));
+        }
+
+    }
+
+}
@@ -0,0 +1,54 @@
+package dev.royalcore.internal.jfr;
+
+import dev.royalcore.annotations.NotForDeveloperUse;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a table operation on a RoyaleCore database.
+ * <p>
+ * Emitted on the database thread by {@code Database} for every table operation.
+ */
+@NotForDeveloperUse
+@Name("dev.royalcore.DatabaseOperation")
+@Label("Database Operation")
+@Category({"RoyaleCore", "Database"})
+@Description("A table operation on a RoyaleCore database")
+@StackTrace(false)
+public final class DatabaseOperationEvent extends Event {
+
+    /**
+     * The path of the database file.
+     */
+    @Label("Database")
+    public String database;
+
+    /**
+     * The physical table the operation targets.
+     */
+    @Label("Table")
+    public String table;
+
+    /**
+     * The kind of operation.
+     */
+    @Label("Operation")
+    public String operation;
+
+    /**
+     * The number of rows touched.
+     */
+    @Label("Rows")
+    public long rows;
+
+    /**
+     * Whether the operation threw.
+     */
+    @Label("Failed")
+    public boolean failed;
+
+}
@@ -0,0 +1,30 @@
+package dev.royalcore.internal.jfr;
+
+import dev.royalcore.annotations.NotForDeveloperUse;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for registration of a listener with the plugin manager.
+ * <p>
+ * Emitted by {@code ListenerRegistry#finish} for every listener.
+ */
+@NotForDeveloperUse
+@Name("dev.royalcore.ListenerRegistration")
+@Label("Listener Registration")
+@Category({"RoyaleCore", "Engine"})
+@Description("Registration of a listener with the plugin manager")
+@StackTrace(false)
+public final class ListenerRegistrationEvent extends Event {
+
+    /**
+     * The class name of the registered listener.
+     */
+    @Label("Listener")
+    public String listener;
+
+}
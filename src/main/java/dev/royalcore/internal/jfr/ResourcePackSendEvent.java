@@ -0,0 +1,36 @@
+package dev.royalcore.internal.jfr;
+
+import dev.royalcore.annotations.NotForDeveloperUse;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for sending resource packs to an audience.
+ * <p>
+ * Emitted by {@code ResourcePackConsumer} every time its packs are sent.
+ */
+@NotForDeveloperUse
+@Name("dev.royalcore.ResourcePackSend")
+@Label("Resource Pack Send")
+@Category({"RoyaleCore", "Engine"})
+@Description("Sending resource packs to an audience")
+@StackTrace(false)
+public final class ResourcePackSendEvent extends Event {
+
+    /**
+     * The number of resource packs sent.
+     */
+    @Label("Packs")
+    public int packs;
+
+    /**
+     * Whether the packs were sent as required.
+     */
+    @Label("Required")
+    public boolean required;
+
+}
@@ -0,0 +1,42 @@
+package dev.royalcore.internal.jfr;
+
+import dev.royalcore.annotations.NotForDeveloperUse;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for validation of a scenario while registering a battle royale.
+ * <p>
+ * Emitted by {@code BattleRoyaleEngine#register} for every scenario of a battle royale.
+ */
+@NotForDeveloperUse
+@Name("dev.royalcore.ScenarioValidation")
+@Label("Scenario Validation")
+@Category({"RoyaleCore", "Engine"})
+@Description("Validation of a scenario while registering a battle royale")
+@StackTrace(false)
+public final class ScenarioValidationEvent extends Event {
+
+    /**
+     * The ID of the battle royale being registered.
+     */
+    @Label("Battle Royale")
+    public String battleRoyale;
+
+    /**
+     * The name of the validated scenario.
+     */
+    @Label("Scenario")
+    public String scenario;
+
+    /**
+     * Whether the scenario passed validation.
+     */
+    @Label("Valid")
+    public boolean valid;
+
+}
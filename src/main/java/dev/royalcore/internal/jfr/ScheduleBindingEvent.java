@@ -0,0 +1,42 @@
+package dev.royalcore.internal.jfr;
+
+import dev.royalcore.annotations.NotForDeveloperUse;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for validation and binding of the schedules of a scenario.
+ * <p>
+ * Emitted by {@code NewEngine#validateScheduleForScenario}.
+ */
+@NotForDeveloperUse
+@Name("dev.royalcore.ScheduleBinding")
+@Label("Schedule Binding")
+@Category({"RoyaleCore", "Engine"})
+@Description("Validation and binding of the schedules of a scenario")
+@StackTrace(false)
+public final class ScheduleBindingEvent extends Event {
+
+    /**
+     * The name of the scenario.
+     */
+    @Label("Scenario")
+    public String scenario;
+
+    /**
+     * The number of registered schedules.
+     */
+    @Label("Schedules")
+    public int schedules;
+
+    /**
+     * The number of schedules rejected as invalid.
+     */
+    @Label("Invalid")
+    public int invalid;
+
+}
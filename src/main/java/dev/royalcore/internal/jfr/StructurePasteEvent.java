@@ -0,0 +1,54 @@
+package dev.royalcore.internal.jfr;
+
+import dev.royalcore.annotations.NotForDeveloperUse;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for pasting a schematic into a world.
+ * <p>
+ * Emitted by {@code StructureConsumer} for every pasted schematic.
+ */
+@NotForDeveloperUse
+@Name("dev.royalcore.StructurePaste")
+@Label("Structure Paste")
+@Category({"RoyaleCore", "World"})
+@Description("Pasting a schematic into a world")
+@StackTrace(false)
+public final class StructurePasteEvent extends Event {
+
+    /**
+     * The name of the world pasted into.
+     */
+    @Label("World")
+    public String world;
+
+    /**
+     * The X coordinate of the paste origin.
+     */
+    @Label("X")
+    public int x;
+
+    /**
+     * The Y coordinate of the paste origin.
+     */
+    @Label("Y")
+    public int y;
+
+    /**
+     * The Z coordinate of the paste origin.
+     */
+    @Label("Z")
+    public int z;
+
+    /**
+     * The number of blocks set.
+     */
+    @Label("Block Count")
+    public int blockCount;
+
+}
@@ -0,0 +1,54 @@
+package dev.royalcore.internal.jfr;
+
+import dev.royalcore.annotations.NotForDeveloperUse;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for search for a location where a schematic fits.
+ * <p>
+ * Emitted by {@code StructureConsumer} for every schematic it tries to place.
+ */
+@NotForDeveloperUse
+@Name("dev.royalcore.StructureSearch")
+@Label("Structure Search")
+@Category({"RoyaleCore", "World"})
+@Description("Search for a location where a schematic fits")
+@StackTrace(false)
+public final class StructureSearchEvent extends Event {
+
+    /**
+     * The name of the searched world.
+     */
+    @Label("World")
+    public String world;
+
+    /**
+     * The width of the schematic.
+     */
+    @Label("Width")
+    public int width;
+
+    /**
+     * The length of the schematic.
+     */
+    @Label("Length")
+    public int length;
+
+    /**
+     * The height of the schematic.
+     */
+    @Label("Height")
+    public int height;
+
+    /**
+     * Whether a fitting location was found.
+     */
+    @Label("Found")
+    public boolean found;
+
+}
@@ -0,0 +1,42 @@
+package dev.royalcore.internal.jfr;
+
+import dev.royalcore.annotations.NotForDeveloperUse;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for teleporting queued players to their spawn locations.
+ * <p>
+ * Emitted by {@code NewEngine#randomlySpawn} once per queue.
+ */
+@NotForDeveloperUse
+@Name("dev.royalcore.Teleport")
+@Label("Teleport")
+@Category({"RoyaleCore", "Engine"})
+@Description("Teleporting queued players to their spawn locations")
+@StackTrace(false)
+public final class TeleportEvent extends Event {
+
+    /**
+     * The name of the world players are spawned in.
+     */
+    @Label("World")
+    public String world;
+
+    /**
+     * The number of queued players.
+     */
+    @Label("Players")
+    public int players;
+
+    /**
+     * The number of players actually teleported.
+     */
+    @Label("Teleported")
+    public int teleported;
+
+}
@@ -0,0 +1,281 @@
+package dev.royalcore.internal.logging;
+
+import dev.royalcore.Main;
+import dev.royalcore.annotations.NotForDeveloperUse;
+import lombok.Getter;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.logger.slf4j.ComponentLogger;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, non-blocking log sink that renders and writes log lines on a background thread.
+ * <p>
+ * Callers only enqueue a message supplier into a fixed-size ring buffer, so logging from the
+ * main thread never waits on log I/O. When the buffer is full the oldest entry is dropped and
+ * counted (see {@link #getDropped()}). Suppliers are evaluated on the log thread and therefore
+ * must not depend on state that is only safe to read from the main thread.
+ * <p>
+ * Errors pass through the {@link ErrorAggregator} before being written, so an error repeated
+ * every tick is written once and then summarized periodically.
+ */
+@NotForDeveloperUse
+public final class AsyncLogSink {
+
+    /**
+     * Shared sink used by {@link Main#debug} and {@link dev.royalcore.api.errors.Result#print()}.
+     */
+    @Getter
+    private static final AsyncLogSink sink = new AsyncLogSink(4096);
+
+    private static final int BATCH = 256;
+
+    private final Entry[] ring;
+    private final AtomicLong dropped = new AtomicLong();
+    private int head;
+    private int size;
+    private boolean waiting;
+    private Thread worker;
+    private volatile boolean running = true;
+
+    private AsyncLogSink(int capacity) {
+        this.ring = new Entry[capacity];
+    }
+
+    /**
+     * Enqueues an informational message.
+     *
+     * @param message supplies the message to log
+     */
+    public void info(Supplier<? extends Component> message) {
+        log(Level.INFO, message, null);
+    }
+
+    /**
+     * Enqueues a warning.
+     *
+     * @param message   supplies the message to log
+     * @param throwable an optional throwable to log with the message
+     */
+    public void warn(Supplier<? extends Component> message, Throwable throwable) {
+        log(Level.WARN, message, throwable);
+    }
+
+    /**
+     * Enqueues an error.
+     *
+     * @param message   supplies the message to log
+     * @param throwable an optional throwable to log with the message
+     */
+    public void error(Supplier<? extends Component> message, Throwable throwable) {
+        log(Level.ERROR, message, throwable);
+    }
+
+    /**
+     * Enqueues a debug message. Callers are expected to check the debug flag first.
+     *
+     * @param message   supplies the message to log
+     * @param throwable an optional throwable to log with the message
+     */
+    public void debug(Supplier<? extends Component> message, Throwable throwable) {
+        log(Level.DEBUG, message, throwable);
+    }
+
+    /**
+     * Enqueues a log entry, dropping the oldest entry if the buffer is full.
+     * <p>
+     * Between {@link #shutdown()} and {@link #start()} entries are written synchronously instead.
+     *
+     * @param level     the log level
+     * @param message   supplies the message to log
+     * @param throwable an optional throwable to log with the message
+     */
+    public void log(Level level, Supplier<? extends Component> message, Throwable throwable) {
+        Entry entry = new Entry(level, message, throwable);
+
+        synchronized (this) {
+            // Checked under the lock, so no entry is enqueued after shutdown() has taken its final drain.
+            if (!running) {
+                write(entry);
+                return;
+            }
+
+            if (worker == null) {
+                startWorker();
+            }
+
+            if (size == ring.length) {
+                ring[head] = null;
+                head = (head + 1) % ring.length;
+                size--;
+                dropped.incrementAndGet();
+            }
+
+            ring[(head + size) % ring.length] = entry;
+            size++;
+
+            if (waiting) {
+                notify();
+            }
+        }
+    }
+
+    /**
+     * Returns how many entries were dropped because the buffer was full.
+     *
+     * @return the number of dropped entries
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Makes logging asynchronous again after a {@link #shutdown()}, e.g. when the plugin is re-enabled.
+     * The log thread is started on the next log call.
+     */
+    public synchronized void start() {
+        running = true;
+        if (worker != null && !worker.isAlive()) {
+            worker = null;
+        }
+    }
+
+    /**
+     * Stops the log thread after writing every queued entry.
+     * <p>
+     * Entries logged afterwards are written synchronously on the calling thread until {@link #start()} is called.
+     */
+    public void shutdown() {
+        Thread thread;
+        synchronized (this) {
+            running = false;
+            thread = worker;
+            notify();
+        }
+
+        if (thread != null) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        Entry[] batch = new Entry[BATCH];
+        int count;
+        while ((count = drain(batch)) > 0) {
+            for (int i = 0; i < count; i++) {
+                write(batch[i]);
+            }
+        }
+    }
+
+    private void startWorker() {
+        worker = new Thread(this::run, "RoyaleCoreLogThread");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private void run() {
+        Entry[] batch = new Entry[BATCH];
+
+        while (running) {
+            synchronized (this) {
+                // Wakes up at least once a second, so summaries are written even when nothing else is logged.
+                if (size == 0 && running) {
+                    waiting = true;
+                    try {
+                        wait(TimeUnit.SECONDS.toMillis(1));
+                    } catch (InterruptedException e) {
+                        return;
+                    } finally {
+                        waiting = false;
+                    }
+                }
+            }
+
+            int count = drain(batch);
+            for (int i = 0; i < count; i++) {
+                write(batch[i]);
+                batch[i] = null;
+            }
+
+            ErrorAggregator.getAggregator().flush(System.nanoTime(), (key, summary) ->
+                    logger().error(Component.text("Repeated error " + summary).color(NamedTextColor.RED)));
+        }
+    }
+
+    private synchronized int drain(Entry[] batch) {
+        int count = Math.min(size, batch.length);
+        for (int i = 0; i < count; i++) {
+            batch[i] = ring[head];
+            ring[head] = null;
+            head = (head + 1) % ring.length;
+        }
+        size -= count;
+        return count;
+    }
+
+    private void write(Entry entry) {
+        ComponentLogger logger = logger();
+        Component message;
+        try {
+            message = entry.message().get();
+        } catch (RuntimeException e) {
+            logger.error(Component.text("Failed to render a log message"), e);
+            return;
+        }
+
+        Throwable throwable = entry.throwable();
+
+        if (entry.level() == Level.ERROR) {
+            String plain = PlainTextComponentSerializer.plainText().serialize(message);
+            Class<?> type = throwable == null ? null : throwable.getClass();
+            if (!ErrorAggregator.getAggregator().record(plain, type, System.nanoTime())) {
+                return;
+            }
+        }
+
+        switch (entry.level()) {
+            case DEBUG -> logger.debug(message, throwable);
+            case INFO -> logger.info(message, throwable);
+            case WARN -> logger.warn(message, throwable);
+            case ERROR -> logger.error(message, throwable);
+        }
+    }
+
+    private static ComponentLogger logger() {
+        Main plugin = Main.getPlugin();
+        return plugin != null ? plugin.getComponentLogger() : ComponentLogger.logger("RoyaleCore");
+    }
+
+    /**
+     * Log levels supported by the sink.
+     */
+    public enum Level {
+        /**
+         * Debug output, only enqueued when debug mode is enabled.
+         */
+        DEBUG,
+        /**
+         * Informational output.
+         */
+        INFO,
+        /**
+         * Warnings.
+         */
+        WARN,
+        /**
+         * Errors.
+         */
+        ERROR
+    }
+
+    private record Entry(Level level, Supplier<? extends Component> message, Throwable throwable) {
+    }
+
+}
@@ -0,0 +1,175 @@
+package dev.royalcore.internal.logging;
+
+import dev.royalcore.annotations.NotForDeveloperUse;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Collapses repeated errors into periodic summaries.
+ * <p>
+ * Errors are keyed by their rendered message and exception type. The first occurrence of a
+ * key is written in full; further occurrences within the same window are only counted and
+ * reported once per window as a summary (e.g. {@code "x1,240 in last 60s"}). Once a key has
+ * been quiet for a full window, its next occurrence is written in full again.
+ * <p>
+ * At most {@value #MAX_KEYS} distinct errors are tracked. Keys that stayed quiet for a full window
+ * are forgotten on {@link #flush(long, BiConsumer)}; while the limit is reached, new errors share one
+ * overflow counter, so a flood of distinct messages is still rate limited.
+ * <p>
+ * The aggregator is driven from the {@link AsyncLogSink} thread; its counters can be read
+ * from any thread through {@link #snapshot()}.
+ */
+@NotForDeveloperUse
+public final class ErrorAggregator {
+
+    /**
+     * Shared aggregator used by the {@link AsyncLogSink}.
+     */
+    @Getter
+    private static final ErrorAggregator aggregator = new ErrorAggregator();
+
+    private static final int MAX_KEYS = 1024;
+    private static final Key OVERFLOW = new Key("Distinct errors beyond the aggregation limit", null);
+
+    private final Map<Key, Counter> counters = new ConcurrentHashMap<>();
+    private volatile long windowNanos = Duration.ofSeconds(60).toNanos();
+
+    private ErrorAggregator() {
+    }
+
+    /**
+     * Records an occurrence and decides whether it should be written in full.
+     *
+     * @param message       the rendered plain-text message
+     * @param exceptionType the exception type, or {@code null} if none
+     * @param now           the current {@link System#nanoTime()}
+     * @return {@code true} if the error should be written, {@code false} if it was folded into a summary
+     */
+    boolean record(String message, Class<?> exceptionType, long now) {
+        Key key = new Key(message, exceptionType);
+        Counter counter = counters.get(key);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(counters.size() < MAX_KEYS ? key : OVERFLOW, _ -> new Counter());
+        }
+        counter.total.increment();
+
+        if (counter.suppressed.get() == 0 && now - counter.windowStart >= windowNanos) {
+            counter.windowStart = now;
+            return true;
+        }
+
+        counter.suppressed.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Emits a summary for every key whose window has elapsed with suppressed occurrences,
+     * and forgets keys that stayed quiet for a whole window while the key limit is reached.
+     *
+     * @param now     the current {@link System#nanoTime()}
+     * @param summary receives the key and the summary line to write
+     */
+    void flush(long now, BiConsumer<Key, String> summary) {
+        for (Map.Entry<Key, Counter> entry : counters.entrySet()) {
+            Counter counter = entry.getValue();
+            if (now - counter.windowStart < windowNanos) continue;
+
+            long suppressed = counter.suppressed.getAndSet(0);
+            if (suppressed == 0) {
+                if (counters.size() >= MAX_KEYS) {
+                    counters.remove(entry.getKey(), counter);
+                }
+                continue;
+            }
+
+            counter.windowStart = now;
+            summary.accept(entry.getKey(), String.format(
+                    "x%,d in last %ds: %s",
+                    suppressed,
+                    Duration.ofNanos(windowNanos).toSeconds(),
+                    entry.getKey().message()
+            ));
+        }
+    }
+
+    /**
+     * Returns the length of the summary window.
+     *
+     * @return the summary window
+     */
+    public Duration getWindow() {
+        return Duration.ofNanos(windowNanos);
+    }
+
+    /**
+     * Sets the length of the summary window.
+     *
+     * @param window the new summary window
+     */
+    public void setWindow(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * Returns the counters of every error seen so far, most frequent first.
+     *
+     * @return a snapshot of all error counters
+     */
+    public List<ErrorCount> snapshot() {
+        List<ErrorCount> counts = new ArrayList<>(counters.size());
+        for (Map.Entry<Key, Counter> entry : counters.entrySet()) {
+            Key key = entry.getKey();
+            counts.add(new ErrorCount(
+                    key.message(),
+                    key.exceptionType() == null ? null : key.exceptionType().getName(),
+                    entry.getValue().total.sum(),
+                    entry.getValue().suppressed.get()
+            ));
+        }
+        counts.sort(Comparator.comparingLong(ErrorCount::total).reversed());
+        return counts;
+    }
+
+    /**
+     * Forgets all counters.
+     */
+    public void reset() {
+        counters.clear();
+    }
+
+    /**
+     * Identity of an aggregated error.
+     *
+     * @param message       the rendered plain-text message
+     * @param exceptionType the exception type, or {@code null} if none
+     */
+    record Key(String message, Class<?> exceptionType) {
+    }
+
+    /**
+     * Exposed counters of a single aggregated error.
+     *
+     * @param message       the rendered plain-text message
+     * @param exceptionType the exception class name, or {@code null} if none
+     * @param total         how often the error occurred since startup
+     * @param pending       occurrences suppressed in the current window and not yet summarized
+     */
+    public record ErrorCount(String message, String exceptionType, long total, long pending) {
+    }
+
+    private static final class Counter {
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong suppressed = new AtomicLong();
+        private volatile long windowStart = Long.MIN_VALUE / 2;
+    }
+
+}
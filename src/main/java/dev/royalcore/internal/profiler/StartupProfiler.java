@@ -0,0 +1,231 @@
+package dev.royalcore.internal.profiler;
+
+import dev.royalcore.annotations.NotForDeveloperUse;
+import dev.royalcore.internal.logging.AsyncLogSink;
+import lombok.Getter;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Times RoyaleCore's startup work and reports it once the server ticks for the first time.
+ * <p>
+ * Startup work is spread over plugin enabling, {@code BattleRoyale} constructors, engine registration and
+ * world resolution, much of which runs in other plugins' class initialisers. Each piece is recorded as a
+ * section in a {@link Category}. On the first tick the sections are logged sorted by duration, written to
+ * {@code startup/startup-<version>.txt}, and appended to {@code startup/history.csv} so that startup times
+ * of different plugin versions can be compared. Sections recorded after the report are ignored.
+ */
+@NotForDeveloperUse
+public final class StartupProfiler {
+
+    /**
+     * Singleton instance of the {@link StartupProfiler}.
+     */
+    @Getter
+    private static final StartupProfiler profiler = new StartupProfiler();
+
+    private static final int SECTIONS_LOGGED = 15;
+    /**
+     * Upper bound on buffered sections, so a server that never ticks (benchmarks, simulations) does not grow without limit.
+     */
+    private static final int MAX_SECTIONS = 10_000;
+    private static final String HISTORY_HEADER = "timestamp,version,category,name,millis";
+
+    private final ConcurrentLinkedQueue<Section> sections = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger buffered = new AtomicInteger();
+    private volatile boolean reported;
+
+    private StartupProfiler() {
+    }
+
+    /**
+     * Records a section that has already been timed.
+     *
+     * @param category the kind of work
+     * @param name     what was done, e.g. a phase name or a battle royale ID
+     * @param nanos    how long it took
+     */
+    public void record(Category category, String name, long nanos) {
+        if (!reported && buffered.getAndIncrement() < MAX_SECTIONS) {
+            sections.add(new Section(category, name, nanos));
+        }
+    }
+
+    /**
+     * Runs and records a section.
+     *
+     * @param category the kind of work
+     * @param name     what is done, e.g. a phase name
+     * @param task     the work to time
+     */
+    public void time(Category category, String name, Runnable task) {
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            record(category, name, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Schedules the startup report for the first server tick.
+     *
+     * @param plugin    the plugin to schedule the report with
+     * @param directory the directory the report and history are written to
+     */
+    public void reportOnFirstTick(Plugin plugin, Path directory) {
+        String version = plugin.getPluginMeta().getVersion();
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            reported = true;
+            long firstTickMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+            List<Section> snapshot = new ArrayList<>(sections);
+            sections.clear();
+            CompletableFuture.runAsync(() -> report(snapshot, version, firstTickMillis, directory));
+        });
+    }
+
+    private void report(List<Section> snapshot, String version, long firstTickMillis, Path directory) {
+        snapshot.sort(Comparator.comparingLong(Section::nanos).reversed());
+
+        Map<Category, Long> totals = new EnumMap<>(Category.class);
+        for (Section section : snapshot) {
+            totals.merge(section.category(), section.nanos(), Long::sum);
+        }
+        long total = totals.getOrDefault(Category.PHASE, 0L) + totals.getOrDefault(Category.BATTLE_ROYALE, 0L)
+                + totals.getOrDefault(Category.WORLD, 0L);
+
+        Path history = directory.resolve("history.csv");
+        String previous = previousTotal(history);
+
+        StringBuilder out = new StringBuilder();
+        out.append("RoyaleCore ").append(version).append(" startup: ").append(millis(total))
+                .append(" across ").append(snapshot.size()).append(" sections, first tick ")
+                .append(firstTickMillis).append("ms after JVM start");
+        if (previous != null) {
+            out.append(" (previous: ").append(previous).append(')');
+        }
+        out.append('\n');
+
+        for (Map.Entry<Category, Long> entry : totals.entrySet()) {
+            out.append("  ").append(entry.getKey().label).append(": ").append(millis(entry.getValue())).append('\n');
+        }
+        for (Section section : snapshot) {
+            out.append("  ").append(millis(section.nanos())).append("  ")
+                    .append(section.category().label).append("  ").append(section.name()).append('\n');
+        }
+        String rendered = out.toString();
+
+        List<String> logged = rendered.lines().limit(1L + totals.size() + SECTIONS_LOGGED).toList();
+        for (String line : logged) {
+            AsyncLogSink.getSink().info(() -> Component.text(line));
+        }
+
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve("startup-" + version + ".txt"), rendered, StandardCharsets.UTF_8);
+
+            StringBuilder rows = new StringBuilder();
+            if (!Files.exists(history)) {
+                rows.append(HISTORY_HEADER).append('\n');
+            }
+            String timestamp = Instant.now().toString();
+            for (Section section : snapshot) {
+                appendRow(rows, timestamp, version, section.category().name(), section.name(), section.nanos());
+            }
+            appendRow(rows, timestamp, version, "TOTAL", "startup", total);
+            Files.writeString(history, rows, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            AsyncLogSink.getSink().error(() -> Component.text("Failed to persist the startup report to '" + directory + "'"), e);
+        }
+    }
+
+    /**
+     * Finds the total startup time of the most recent run in the history.
+     *
+     * @param history the history file
+     * @return the previous total and its version, or {@code null} if there is none
+     */
+    private static String previousTotal(Path history) {
+        if (!Files.exists(history)) {
+            return null;
+        }
+        try {
+            List<String> lines = Files.readAllLines(history, StandardCharsets.UTF_8);
+            for (int i = lines.size() - 1; i > 0; i--) {
+                String[] columns = lines.get(i).split(",");
+                if (columns.length == 5 && columns[2].equals("TOTAL")) {
+                    return columns[4] + "ms in " + columns[1];
+                }
+            }
+        } catch (IOException ignored) {
+            // A missing comparison is not worth failing the report over.
+        }
+        return null;
+    }
+
+    private static void appendRow(StringBuilder rows, String timestamp, String version, String category, String name, long nanos) {
+        rows.append(timestamp).append(',')
+                .append(version).append(',')
+                .append(category).append(',')
+                .append(name.replace(',', ' ')).append(',')
+                .append(String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0)).append('\n');
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2fms", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Kind of startup work.
+     */
+    public enum Category {
+
+        /**
+         * A step of enabling the plugin.
+         */
+        PHASE("phase"),
+
+        /**
+         * Validating and registering a battle royale.
+         */
+        BATTLE_ROYALE("battle royale"),
+
+        /**
+         * Validating one scenario of a battle royale; included in its battle royale's time.
+         */
+        SCENARIO("scenario"),
+
+        /**
+         * Resolving or creating a world.
+         */
+        WORLD("world");
+
+        private final String label;
+
+        Category(String label) {
+            this.label = label;
+        }
+    }
+
+    private record Section(Category category, String name, long nanos) {
+    }
+
+}
@@ -0,0 +1,391 @@
+package dev.royalcore.internal.recording;
+
+import dev.royalcore.Main;
+import dev.royalcore.annotations.NotForDeveloperUse;
+import dev.royalcore.api.errors.Result;
+import dev.royalcore.api.metrics.Counter;
+import dev.royalcore.api.metrics.MetricsRegistry;
+import dev.royalcore.internal.logging.AsyncLogSink;
+import lombok.Getter;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Captures the events that reach RoyaleCore's listeners during a live match into an {@link EventRecording}.
+ * <p>
+ * Only event types that at least one of the given listeners handles are recorded. The recorder listens at
+ * {@link EventPriority#LOWEST}, so it sees each event before RoyaleCore's handlers change it. Events are
+ * encoded on the main thread into an in-memory buffer; full buffers are written to disk by a background
+ * thread, so recording never waits on file I/O.
+ * <p>
+ * Recordings are read back with {@link EventRecording#read(Path)} and can be replayed against the same
+ * listeners offline.
+ */
+@NotForDeveloperUse
+public final class EventRecorder implements Listener {
+
+    /**
+     * Singleton instance of the {@link EventRecorder}.
+     */
+    @Getter
+    private static final EventRecorder recorder = new EventRecorder();
+
+    private static final int FLUSH_BYTES = 64 * 1024;
+
+    private static final List<Class<? extends Event>> RECORDABLE = List.of(
+            PlayerJoinEvent.class,
+            PlayerQuitEvent.class,
+            PlayerMoveEvent.class,
+            PlayerDeathEvent.class,
+            PlayerInteractEvent.class,
+            BlockBreakEvent.class,
+            EntityDamageEvent.class
+    );
+
+    private static final Counter RECORDED = MetricsRegistry.getRegistry()
+            .counter("royalecore_events_recorded_total", "Events captured by the event recorder");
+
+    private final Map<UUID, Integer> players = new HashMap<>();
+    private final Map<String, Integer> strings = new HashMap<>();
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(FLUSH_BYTES + 256);
+    private final DataOutputStream out = new DataOutputStream(buffer);
+
+    private Path file;
+    private OutputStream fileOut;
+    private ExecutorService writer;
+    private int lastTick;
+    private long recorded;
+
+    private EventRecorder() {
+    }
+
+    /**
+     * Returns whether a recording is in progress.
+     *
+     * @return {@code true} while recording
+     */
+    public synchronized boolean isRecording() {
+        return writer != null;
+    }
+
+    /**
+     * Returns the file of the current or last recording.
+     *
+     * @return the recording file, or {@code null} if nothing was recorded yet
+     */
+    public synchronized Path getFile() {
+        return file;
+    }
+
+    /**
+     * Starts recording the events handled by the given listeners. Must be called on the main thread.
+     *
+     * @param file      the recording to create; must not exist yet
+     * @param listeners the listeners whose events to record
+     * @return the recorded event types, or an {@link Result.Err} if a recording is already running, none of
+     * the listeners handles a recordable event, or the file cannot be created
+     */
+    public synchronized Result<Set<Class<? extends Event>>> start(Path file, Collection<Listener> listeners) {
+        if (isRecording()) {
+            return Result.Err(Component.text("Already recording to '" + this.file + "'"), false);
+        }
+
+        Set<Class<? extends Event>> types = recordableTypes(listeners);
+        if (types.isEmpty()) {
+            return Result.Err(Component.text("No registered listener handles a recordable event"), false);
+        }
+
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            fileOut = Files.newOutputStream(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            return Result.Err(Component.text("Failed to create event recording '" + file + "'"), e, false);
+        }
+
+        this.file = file;
+        this.writer = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("RoyaleCoreEventRecorder").daemon().factory());
+        this.players.clear();
+        this.strings.clear();
+        this.buffer.reset();
+        this.lastTick = Bukkit.getCurrentTick();
+        this.recorded = 0;
+
+        try {
+            out.writeInt(EventRecording.MAGIC);
+            out.writeShort(EventRecording.VERSION);
+        } catch (IOException e) {
+            throw new IllegalStateException("In-memory buffer failed", e);
+        }
+
+        for (Class<? extends Event> type : types) {
+            Bukkit.getPluginManager().registerEvent(type, this, EventPriority.LOWEST, (_, event) -> {
+                if (type.isInstance(event)) {
+                    record(event);
+                }
+            }, Main.getPlugin(), false);
+        }
+
+        return Result.Ok(types);
+    }
+
+    /**
+     * Stops recording and writes the remaining events. The file is closed on the writer thread.
+     *
+     * @return the number of events recorded, or an {@link Result.Err} if no recording was running
+     */
+    public synchronized Result<Long> stop() {
+        if (!isRecording()) {
+            return Result.Err(Component.text("Not recording"), false);
+        }
+
+        HandlerList.unregisterAll(this);
+        flush();
+
+        OutputStream closing = fileOut;
+        Path closingFile = file;
+        writer.execute(() -> {
+            try {
+                closing.close();
+            } catch (IOException e) {
+                AsyncLogSink.getSink().error(() -> Component.text("Failed to close event recording '" + closingFile + "'"), e);
+            }
+        });
+        writer.shutdown();
+
+        writer = null;
+        fileOut = null;
+        return Result.Ok(recorded);
+    }
+
+    /**
+     * Collects the recordable event types handled by the given listeners.
+     *
+     * @param listeners the listeners to inspect
+     * @return the event types to record
+     */
+    private static Set<Class<? extends Event>> recordableTypes(Collection<Listener> listeners) {
+        Set<Class<?>> handled = new LinkedHashSet<>();
+        for (Listener listener : listeners) {
+            for (Class<?> type = listener.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+                for (Method method : type.getDeclaredMethods()) {
+                    if (method.isAnnotationPresent(EventHandler.class) && method.getParameterCount() == 1) {
+                        handled.add(method.getParameterTypes()[0]);
+                    }
+                }
+            }
+        }
+
+        Set<Class<? extends Event>> types = new LinkedHashSet<>();
+        for (Class<? extends Event> recordable : RECORDABLE) {
+            for (Class<?> type : handled) {
+                // A handler of PlayerEvent receives moves, joins and so on; a handler of
+                // EntityDamageByEntityEvent is served by recording all damage.
+                if (type.isAssignableFrom(recordable) || recordable.isAssignableFrom(type)) {
+                    types.add(recordable);
+                    break;
+                }
+            }
+        }
+        return types;
+    }
+
+    private synchronized void record(Event event) {
+        if (!isRecording()) {
+            return;
+        }
+
+        try {
+            switch (event) {
+                case PlayerJoinEvent join -> header(EventRecording.JOIN, player(join.getPlayer()));
+                case PlayerQuitEvent quit -> header(EventRecording.QUIT, player(quit.getPlayer()));
+                case PlayerMoveEvent move -> move(move);
+                case PlayerDeathEvent death -> {
+                    int player = player(death.getPlayer());
+                    int killer = optionalPlayer(death.getPlayer().getKiller());
+                    header(EventRecording.DEATH, player);
+                    EventRecording.writeVarInt(out, killer);
+                }
+                case PlayerInteractEvent interact -> interact(interact);
+                case BlockBreakEvent blockBreak -> {
+                    Block block = blockBreak.getBlock();
+                    int player = player(blockBreak.getPlayer());
+                    int world = string(block.getWorld().getName());
+                    header(EventRecording.BLOCK_BREAK, player);
+                    EventRecording.writeVarInt(out, world);
+                    out.writeByte(blockBreak.isCancelled() ? EventRecording.CANCELLED : 0);
+                    EventRecording.writeZigZag(out, block.getX());
+                    EventRecording.writeZigZag(out, block.getY());
+                    EventRecording.writeZigZag(out, block.getZ());
+                }
+                case EntityDamageEvent damage when damage.getEntity() instanceof Player victim -> {
+                    int player = player(victim);
+                    int attacker = optionalPlayer(damage instanceof EntityDamageByEntityEvent byEntity
+                            && byEntity.getDamager() instanceof Player damager ? damager : null);
+                    int cause = string(damage.getCause().name());
+                    header(EventRecording.DAMAGE, player);
+                    EventRecording.writeVarInt(out, attacker);
+                    EventRecording.writeVarInt(out, cause);
+                    out.writeByte(damage.isCancelled() ? EventRecording.CANCELLED : 0);
+                    out.writeDouble(damage.getDamage());
+                }
+                default -> {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("In-memory buffer failed", e);
+        }
+
+        recorded++;
+        RECORDED.increment();
+        if (buffer.size() >= FLUSH_BYTES) {
+            flush();
+        }
+    }
+
+    private void move(PlayerMoveEvent event) throws IOException {
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        int player = player(event.getPlayer());
+        int world = string(from.getWorld().getName());
+
+        header(EventRecording.MOVE, player);
+        EventRecording.writeVarInt(out, world);
+        out.writeByte(event.isCancelled() ? EventRecording.CANCELLED : 0);
+        out.writeDouble(from.getX());
+        out.writeDouble(from.getY());
+        out.writeDouble(from.getZ());
+        out.writeFloat(from.getYaw());
+        out.writeFloat(from.getPitch());
+        out.writeFloat((float) (to.getX() - from.getX()));
+        out.writeFloat((float) (to.getY() - from.getY()));
+        out.writeFloat((float) (to.getZ() - from.getZ()));
+        out.writeFloat(to.getYaw());
+        out.writeFloat(to.getPitch());
+    }
+
+    private void interact(PlayerInteractEvent event) throws IOException {
+        Block block = event.getClickedBlock();
+        int player = player(event.getPlayer());
+        int action = string(event.getAction().name());
+
+        header(EventRecording.INTERACT, player);
+        EventRecording.writeVarInt(out, action);
+        out.writeByte((event.getItem() != null ? EventRecording.HAS_ITEM : 0) | (block != null ? EventRecording.HAS_BLOCK : 0));
+        if (block != null) {
+            EventRecording.writeZigZag(out, block.getX());
+            EventRecording.writeZigZag(out, block.getY());
+            EventRecording.writeZigZag(out, block.getZ());
+        }
+    }
+
+    /**
+     * Writes the tag, tick delta and player of an event record. Every definition the record refers to must
+     * have been written before.
+     */
+    private void header(int tag, int player) throws IOException {
+        int tick = Bukkit.getCurrentTick();
+        out.writeByte(tag);
+        EventRecording.writeVarInt(out, Math.max(0, tick - lastTick));
+        EventRecording.writeVarInt(out, player);
+        lastTick = Math.max(lastTick, tick);
+    }
+
+    /**
+     * Returns the index of a player, defining the player first if it has not been recorded yet.
+     */
+    private int player(Player player) throws IOException {
+        Integer index = players.get(player.getUniqueId());
+        if (index != null) {
+            return index;
+        }
+
+        index = players.size();
+        players.put(player.getUniqueId(), index);
+        out.writeByte(EventRecording.PLAYER);
+        out.writeLong(player.getUniqueId().getMostSignificantBits());
+        out.writeLong(player.getUniqueId().getLeastSignificantBits());
+        out.writeUTF(player.getName());
+        return index;
+    }
+
+    /**
+     * Returns the index of a player plus one, or {@code 0} for no player.
+     */
+    private int optionalPlayer(Player player) throws IOException {
+        return player == null ? 0 : player(player) + 1;
+    }
+
+    /**
+     * Returns the index of a string, defining the string first if it has not been recorded yet.
+     */
+    private int string(String value) throws IOException {
+        Integer index = strings.get(value);
+        if (index != null) {
+            return index;
+        }
+
+        index = strings.size();
+        strings.put(value, index);
+        out.writeByte(EventRecording.STRING);
+        out.writeUTF(value);
+        return index;
+    }
+
+    /**
+     * Hands the buffered bytes to the writer thread.
+     */
+    private void flush() {
+        if (buffer.size() == 0) {
+            return;
+        }
+
+        byte[] chunk = buffer.toByteArray();
+        buffer.reset();
+
+        OutputStream target = fileOut;
+        Path targetFile = file;
+        writer.execute(() -> {
+            try {
+                target.write(chunk);
+            } catch (IOException e) {
+                AsyncLogSink.getSink().error(() -> Component.text("Failed to write event recording '" + targetFile + "'"), e);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,208 @@
+package dev.royalcore.internal.recording;
+
+import dev.royalcore.annotations.NotForDeveloperUse;
+import dev.royalcore.api.errors.Result;
+import net.kyori.adventure.text.Component;
+
+import java.io.BufferedInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Binary format written by the {@link EventRecorder}.
+ * <p>
+ * A recording starts with {@link #MAGIC} and {@link #VERSION}, followed by tagged records. Players and
+ * strings (world names, actions, damage causes) are defined once, the first time they are referenced, and
+ * are referred to by index afterwards. Every event record stores its tick as the distance to the previous
+ * event's tick. Integers are written as variable-length quantities, so a move takes 57 bytes and most other
+ * events fewer than 10.
+ */
+@NotForDeveloperUse
+public final class EventRecording {
+
+    /**
+     * The first four bytes of every recording: {@code RCEV}.
+     */
+    public static final int MAGIC = 0x52434556;
+
+    /**
+     * The format version written after {@link #MAGIC}.
+     */
+    public static final int VERSION = 1;
+
+    static final int PLAYER = 0;
+    static final int STRING = 1;
+    static final int JOIN = 2;
+    static final int QUIT = 3;
+    static final int MOVE = 4;
+    static final int DEATH = 5;
+    static final int INTERACT = 6;
+    static final int BLOCK_BREAK = 7;
+    static final int DAMAGE = 8;
+
+    static final int CANCELLED = 1;
+    static final int HAS_ITEM = 1 << 1;
+    static final int HAS_BLOCK = 1 << 2;
+
+    private EventRecording() {
+    }
+
+    /**
+     * Reads every event of a recording.
+     * <p>
+     * A recording cut off in the middle of a record, for example because the server crashed, yields the
+     * events before the cut.
+     *
+     * @param file the recording
+     * @return the events in recording order, or an {@link Result.Err} if the file is not a readable recording
+     */
+    public static Result<List<RecordedEvent>> read(Path file) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                return Result.Err(Component.text("'" + file + "' is not an event recording"), false);
+            }
+            int version = in.readUnsignedShort();
+            if (version != VERSION) {
+                return Result.Err(Component.text("Event recording '" + file + "' has unsupported version " + version), false);
+            }
+
+            List<RecordedEvent> events = new ArrayList<>();
+            List<RecordedEvent.Participant> players = new ArrayList<>();
+            List<String> strings = new ArrayList<>();
+            int tick = 0;
+
+            try {
+                int tag;
+                while ((tag = in.read()) >= 0) {
+                    switch (tag) {
+                        case PLAYER -> players.add(new RecordedEvent.Participant(
+                                players.size(),
+                                new UUID(in.readLong(), in.readLong()),
+                                in.readUTF()
+                        ));
+                        case STRING -> strings.add(in.readUTF());
+                        default -> {
+                            tick += readVarInt(in);
+                            events.add(readEvent(tag, tick, in, players, strings));
+                        }
+                    }
+                }
+            } catch (EOFException truncated) {
+                // Keep what was read before the recording was cut off.
+            }
+
+            return Result.Ok(events);
+        } catch (IOException | RuntimeException e) {
+            return Result.Err(
+                    Component.text("Failed to read event recording '" + file + "'"),
+                    e,
+                    false
+            );
+        }
+    }
+
+    private static RecordedEvent readEvent(
+            int tag,
+            int tick,
+            DataInput in,
+            List<RecordedEvent.Participant> players,
+            List<String> strings
+    ) throws IOException {
+        RecordedEvent.Participant player = players.get(readVarInt(in));
+        return switch (tag) {
+            case JOIN -> new RecordedEvent.Join(tick, player);
+            case QUIT -> new RecordedEvent.Quit(tick, player);
+            case MOVE -> {
+                String world = strings.get(readVarInt(in));
+                int flags = in.readUnsignedByte();
+                double fromX = in.readDouble();
+                double fromY = in.readDouble();
+                double fromZ = in.readDouble();
+                float fromYaw = in.readFloat();
+                float fromPitch = in.readFloat();
+                yield new RecordedEvent.Move(tick, player, world,
+                        fromX, fromY, fromZ, fromYaw, fromPitch,
+                        fromX + in.readFloat(), fromY + in.readFloat(), fromZ + in.readFloat(), in.readFloat(), in.readFloat(),
+                        (flags & CANCELLED) != 0);
+            }
+            case DEATH -> new RecordedEvent.Death(tick, player, optionalPlayer(in, players));
+            case INTERACT -> {
+                String action = strings.get(readVarInt(in));
+                int flags = in.readUnsignedByte();
+                boolean hasBlock = (flags & HAS_BLOCK) != 0;
+                yield new RecordedEvent.Interact(tick, player, action, (flags & HAS_ITEM) != 0, hasBlock,
+                        hasBlock ? readZigZag(in) : 0, hasBlock ? readZigZag(in) : 0, hasBlock ? readZigZag(in) : 0);
+            }
+            case BLOCK_BREAK -> {
+                String world = strings.get(readVarInt(in));
+                int flags = in.readUnsignedByte();
+                yield new RecordedEvent.BlockBreak(tick, player, world,
+                        readZigZag(in), readZigZag(in), readZigZag(in), (flags & CANCELLED) != 0);
+            }
+            case DAMAGE -> {
+                RecordedEvent.Participant attacker = optionalPlayer(in, players);
+                String cause = strings.get(readVarInt(in));
+                int flags = in.readUnsignedByte();
+                yield new RecordedEvent.Damage(tick, player, attacker, cause, in.readDouble(), (flags & CANCELLED) != 0);
+            }
+            default -> throw new IllegalStateException("Unknown record tag " + tag);
+        };
+    }
+
+    private static RecordedEvent.Participant optionalPlayer(DataInput in, List<RecordedEvent.Participant> players) throws IOException {
+        int index = readVarInt(in);
+        return index == 0 ? null : players.get(index - 1);
+    }
+
+    /**
+     * Writes a non-negative integer in 7-bit groups, least significant first.
+     *
+     * @param out   the output
+     * @param value the value; negative values take five bytes
+     * @throws IOException if writing fails
+     */
+    static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Writes a signed integer so that values close to zero take few bytes.
+     *
+     * @param out   the output
+     * @param value the value
+     * @throws IOException if writing fails
+     */
+    static void writeZigZag(DataOutput out, int value) throws IOException {
+        writeVarInt(out, (value << 1) ^ (value >> 31));
+    }
+
+    static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    static int readZigZag(DataInput in) throws IOException {
+        int value = readVarInt(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+}
@@ -0,0 +1,155 @@
+package dev.royalcore.internal.recording;
+
+import dev.royalcore.annotations.NotForDeveloperUse;
+
+import java.util.UUID;
+
+/**
+ * One event read back from an {@link EventRecording}.
+ * <p>
+ * Records only hold plain values, so recordings can be inspected and replayed without a server.
+ * Enum constants such as actions and damage causes are kept by name.
+ */
+@NotForDeveloperUse
+public sealed interface RecordedEvent {
+
+    /**
+     * Returns the server tick the event was fired on.
+     *
+     * @return the tick
+     */
+    int tick();
+
+    /**
+     * Returns the player the event is about.
+     *
+     * @return the player
+     */
+    Participant player();
+
+    /**
+     * A player seen in a recording.
+     *
+     * @param index the player's position in the recording, in order of first appearance
+     * @param id    the player's UUID
+     * @param name  the player's name when first seen
+     */
+    record Participant(int index, UUID id, String name) {
+    }
+
+    /**
+     * A recorded {@code PlayerJoinEvent}.
+     *
+     * @param tick   the tick
+     * @param player the joining player
+     */
+    record Join(int tick, Participant player) implements RecordedEvent {
+    }
+
+    /**
+     * A recorded {@code PlayerQuitEvent}.
+     *
+     * @param tick   the tick
+     * @param player the leaving player
+     */
+    record Quit(int tick, Participant player) implements RecordedEvent {
+    }
+
+    /**
+     * A recorded {@code PlayerMoveEvent}.
+     *
+     * @param tick      the tick
+     * @param player    the moving player
+     * @param world     the name of the world the player moved in
+     * @param fromX     origin X
+     * @param fromY     origin Y
+     * @param fromZ     origin Z
+     * @param fromYaw   origin yaw
+     * @param fromPitch origin pitch
+     * @param toX       destination X
+     * @param toY       destination Y
+     * @param toZ       destination Z
+     * @param toYaw     destination yaw
+     * @param toPitch   destination pitch
+     * @param cancelled whether the event was already cancelled when it was recorded
+     */
+    record Move(
+            int tick,
+            Participant player,
+            String world,
+            double fromX,
+            double fromY,
+            double fromZ,
+            float fromYaw,
+            float fromPitch,
+            double toX,
+            double toY,
+            double toZ,
+            float toYaw,
+            float toPitch,
+            boolean cancelled
+    ) implements RecordedEvent {
+    }
+
+    /**
+     * A recorded {@code PlayerDeathEvent}.
+     *
+     * @param tick   the tick
+     * @param player the player who died
+     * @param killer the killing player, or {@code null}
+     */
+    record Death(int tick, Participant player, Participant killer) implements RecordedEvent {
+    }
+
+    /**
+     * A recorded {@code PlayerInteractEvent}. The held item is only recorded as present or absent.
+     *
+     * @param tick     the tick
+     * @param player   the interacting player
+     * @param action   the name of the {@code Action}
+     * @param hasItem  whether the player held an item
+     * @param hasBlock whether a block was clicked
+     * @param blockX   X of the clicked block, {@code 0} if none
+     * @param blockY   Y of the clicked block, {@code 0} if none
+     * @param blockZ   Z of the clicked block, {@code 0} if none
+     */
+    record Interact(
+            int tick,
+            Participant player,
+            String action,
+            boolean hasItem,
+            boolean hasBlock,
+            int blockX,
+            int blockY,
+            int blockZ
+    ) implements RecordedEvent {
+    }
+
+    /**
+     * A recorded {@code BlockBreakEvent}.
+     *
+     * @param tick      the tick
+     * @param player    the breaking player
+     * @param world     the name of the block's world
+     * @param x         block X
+     * @param y         block Y
+     * @param z         block Z
+     * @param cancelled whether the event was already cancelled when it was recorded
+     */
+    record BlockBreak(int tick, Participant player, String world, int x, int y, int z, boolean cancelled) implements RecordedEvent {
+    }
+
+    /**
+     * A recorded {@code EntityDamageEvent} whose victim is a player.
+     *
+     * @param tick      the tick
+     * @param player    the damaged player
+     * @param attacker  the attacking player, or {@code null} if the damage was not dealt by a player
+     * @param cause     the name of the {@code DamageCause}
+     * @param damage    the raw damage
+     * @param cancelled whether the event was already cancelled when it was recorded
+     */
+    record Damage(int tick, Participant player, Participant attacker, String cause, double damage, boolean cancelled) implements RecordedEvent {
+    }
+
+}
@@ -6,11 +6,15 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerMoveEvent;
 
+/**
+ * Cancels movement while a session's players are frozen. Each {@link dev.royalcore.api.session.ArenaSession}
+ * has its own instance.
+ */
 public class MoveListener implements Listener {
 
     @Getter
     @Setter
-    private static boolean canMove = true;
+    private boolean canMove = true;
 
     @EventHandler
     public void onMove(PlayerMoveEvent event) {
@@ -0,0 +1,34 @@
+package dev.royalcore.internal.start;
+
+import dev.royalcore.api.session.ArenaSession;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Projectile;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+
+/**
+ * Cancels damage between players while a session's phase does not allow PvP. Each
+ * {@link ArenaSession} has its own instance.
+ */
+public class PvpListener implements Listener {
+
+    private final ArenaSession session;
+
+    public PvpListener(ArenaSession session) {
+        this.session = session;
+    }
+
+    @EventHandler(ignoreCancelled = true)
+    public void onDamage(EntityDamageByEntityEvent event) {
+        if (!(event.getEntity() instanceof Player)) return;
+        if (session.isPvpAllowed()) return;
+
+        Entity damager = event.getDamager();
+        if (damager instanceof Player || damager instanceof Projectile projectile && projectile.getShooter() instanceof Player) {
+            event.setCancelled(true);
+        }
+    }
+
+}
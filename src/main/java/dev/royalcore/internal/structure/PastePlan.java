@@ -0,0 +1,155 @@
+package dev.royalcore.internal.structure;
+
+import dev.royalcore.annotations.NotForDeveloperUse;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Precomputed list of block placements for a schematic.
+ * <p>
+ * Schematics repeat a small palette of block states many times, and parsing a block state string is far
+ * more expensive than setting the block. A plan parses every distinct state once, drops blocks that are
+ * missing or cannot be parsed, and keeps the remaining placements as flat arrays so pasting is a single
+ * loop of {@link World#getBlockAt(int, int, int)} calls.
+ */
+@NotForDeveloperUse
+public final class PastePlan {
+
+    private final int[] xs;
+    private final int[] ys;
+    private final int[] zs;
+    private final BlockData[] data;
+    private final int paletteSize;
+
+    private PastePlan(int[] xs, int[] ys, int[] zs, BlockData[] data, int paletteSize) {
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+        this.data = data;
+        this.paletteSize = paletteSize;
+    }
+
+    /**
+     * Builds a plan for a cuboid of blocks.
+     *
+     * @param width  size along X
+     * @param height size along Y
+     * @param length size along Z
+     * @param blocks returns the block state at an offset, or {@code null} for no block
+     * @param parser parses a block state; may throw {@link IllegalArgumentException} for unknown states
+     * @return the paste plan
+     */
+    public static PastePlan of(int width, int height, int length, BlockSource blocks, Function<String, BlockData> parser) {
+        // Unparseable states map to null so they are only attempted once.
+        Map<String, BlockData> palette = new HashMap<>();
+
+        int capacity = Math.max(16, Math.min(width * height * length, 1 << 16));
+        int[] xs = new int[capacity];
+        int[] ys = new int[capacity];
+        int[] zs = new int[capacity];
+        BlockData[] data = new BlockData[capacity];
+        int count = 0;
+
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                for (int z = 0; z < length; z++) {
+                    String state = blocks.blockAt(x, y, z);
+                    if (state == null) {
+                        continue;
+                    }
+
+                    BlockData blockData = palette.get(state);
+                    if (blockData == null && !palette.containsKey(state)) {
+                        try {
+                            blockData = parser.apply(state);
+                        } catch (IllegalArgumentException ignored) {
+                            // Unknown state; cached as null below.
+                        }
+                        palette.put(state, blockData);
+                    }
+                    if (blockData == null) {
+                        continue;
+                    }
+
+                    if (count == xs.length) {
+                        int grown = xs.length * 2;
+                        xs = Arrays.copyOf(xs, grown);
+                        ys = Arrays.copyOf(ys, grown);
+                        zs = Arrays.copyOf(zs, grown);
+                        data = Arrays.copyOf(data, grown);
+                    }
+                    xs[count] = x;
+                    ys[count] = y;
+                    zs[count] = z;
+                    data[count] = blockData;
+                    count++;
+                }
+            }
+        }
+
+        return new PastePlan(
+                Arrays.copyOf(xs, count),
+                Arrays.copyOf(ys, count),
+                Arrays.copyOf(zs, count),
+                Arrays.copyOf(data, count),
+                palette.size()
+        );
+    }
+
+    /**
+     * Sets every planned block relative to an origin, without applying physics.
+     *
+     * @param world the world to paste into
+     * @param ox    origin X
+     * @param oy    origin Y
+     * @param oz    origin Z
+     * @return the number of blocks set
+     */
+    public int paste(World world, int ox, int oy, int oz) {
+        for (int i = 0; i < data.length; i++) {
+            world.getBlockAt(ox + xs[i], oy + ys[i], oz + zs[i]).setBlockData(data[i], false);
+        }
+        return data.length;
+    }
+
+    /**
+     * Returns the number of blocks this plan sets.
+     *
+     * @return the planned block count
+     */
+    public int size() {
+        return data.length;
+    }
+
+    /**
+     * Returns the number of distinct block states that were parsed, including unparseable ones.
+     *
+     * @return the palette size
+     */
+    public int paletteSize() {
+        return paletteSize;
+    }
+
+    /**
+     * Supplies the block state string at an offset of a cuboid.
+     */
+    @FunctionalInterface
+    public interface BlockSource {
+
+        /**
+         * Returns the block state at an offset.
+         *
+         * @param x X offset
+         * @param y Y offset
+         * @param z Z offset
+         * @return the block state string, or {@code null} if there is no block
+         */
+        String blockAt(int x, int y, int z);
+    }
+
+}
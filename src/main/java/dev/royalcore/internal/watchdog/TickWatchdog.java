@@ -0,0 +1,312 @@
+package dev.royalcore.internal.watchdog;
+
+import dev.royalcore.Main;
+import dev.royalcore.annotations.NotForDeveloperUse;
+import dev.royalcore.api.metrics.Counter;
+import dev.royalcore.api.metrics.MetricsRegistry;
+import dev.royalcore.internal.logging.AsyncLogSink;
+import lombok.Getter;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Detects main-thread stalls and attributes them to the scenarios that caused them.
+ * <p>
+ * A task on the main thread stamps a heartbeat every tick. A daemon thread checks the heartbeat and,
+ * once the main thread has not ticked for longer than the threshold, samples the main thread's stack
+ * every few milliseconds until the tick completes. Each sample is attributed to a scenario:
+ * <ol>
+ *     <li>to the scenario whose task is running, if the task was wrapped with {@link #attribute(String, Runnable)};</li>
+ *     <li>otherwise to the scenarios owning the first class on the stack registered with {@link #own(Class, String)},
+ *     such as a scenario's listeners and scheduled runnables. A class registered by several scenarios is
+ *     attributed to all of them together.</li>
+ * </ol>
+ * When the stall ends, a report with the samples and the hottest frames per scenario is written to the
+ * spike directory. Only the newest {@value #REPORTS_KEPT} reports are kept.
+ */
+@NotForDeveloperUse
+public final class TickWatchdog {
+
+    /**
+     * Singleton instance of the {@link TickWatchdog}.
+     */
+    @Getter
+    private static final TickWatchdog watchdog = new TickWatchdog();
+
+    private static final String UNATTRIBUTED = "(unattributed)";
+    private static final long NOT_TICKED = 0L;
+    private static final long SAMPLE_INTERVAL_NANOS = Duration.ofMillis(10).toNanos();
+    private static final int FRAMES_SHOWN = 8;
+    private static final int REPORTS_KEPT = 50;
+    private static final String REPORT_PREFIX = "spike-";
+    private static final DateTimeFormatter FILE_NAME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private static final Counter SPIKES = MetricsRegistry.getRegistry()
+            .counter("royalecore_tick_spikes_total", "Main thread stalls longer than the watchdog threshold");
+
+    private static volatile String currentScenario;
+
+    private final Map<String, Set<String>> owners = new ConcurrentHashMap<>();
+
+    private volatile long lastTick;
+    private volatile boolean running;
+    private long thresholdNanos;
+    private Path reportDirectory;
+    private Thread mainThread;
+    private Thread watchdogThread;
+    private BukkitTask heartbeat;
+
+    private TickWatchdog() {
+    }
+
+    /**
+     * Wraps a task so that stalls while it runs are attributed to the given scenario.
+     *
+     * @param scenario the plain-text name of the scenario owning the task
+     * @param task     the task to wrap
+     * @return a runnable that runs {@code task} tagged with {@code scenario}
+     */
+    public static Runnable attribute(String scenario, Runnable task) {
+        return () -> {
+            String previous = currentScenario;
+            currentScenario = scenario;
+            try {
+                task.run();
+            } finally {
+                currentScenario = previous;
+            }
+        };
+    }
+
+    /**
+     * Records that code in the given class belongs to the given scenario.
+     * <p>
+     * Nested and anonymous classes and lambdas of the class are attributed to the same scenario. A class
+     * can belong to several scenarios; stalls in it are then attributed to all of them.
+     *
+     * @param type     the class, such as a listener or runnable class of the scenario
+     * @param scenario the plain-text name of the owning scenario
+     */
+    public void own(Class<?> type, String scenario) {
+        owners.computeIfAbsent(outerName(type.getName()), _ -> new ConcurrentSkipListSet<>()).add(scenario);
+    }
+
+    /**
+     * Starts the heartbeat and the watchdog thread. Must be called on the main thread.
+     * <p>
+     * Stalls are only detected once the first tick after this call has run.
+     *
+     * @param reportDirectory the directory spike reports are written to
+     * @param threshold       how long the main thread may go without ticking before it is sampled
+     */
+    public synchronized void start(Path reportDirectory, Duration threshold) {
+        stop();
+
+        this.reportDirectory = reportDirectory;
+        this.thresholdNanos = threshold.toNanos();
+        this.mainThread = Thread.currentThread();
+        this.lastTick = NOT_TICKED;
+        this.running = true;
+
+        this.heartbeat = Bukkit.getScheduler().runTaskTimer(Main.getPlugin(), () -> lastTick = System.nanoTime(), 0L, 1L);
+
+        this.watchdogThread = new Thread(this::watch, "RoyaleCoreWatchdogThread");
+        this.watchdogThread.setDaemon(true);
+        this.watchdogThread.start();
+    }
+
+    /**
+     * Stops the heartbeat and the watchdog thread.
+     */
+    public synchronized void stop() {
+        running = false;
+
+        if (heartbeat != null) {
+            heartbeat.cancel();
+            heartbeat = null;
+        }
+
+        if (watchdogThread != null) {
+            watchdogThread.interrupt();
+            watchdogThread = null;
+        }
+    }
+
+    private void watch() {
+        Spike spike = null;
+
+        while (running && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(SAMPLE_INTERVAL_NANOS);
+
+            long tick = lastTick;
+            long now = System.nanoTime();
+
+            if (tick == NOT_TICKED) {
+                // The server may still be enabling other plugins; stalls only count once it ticks.
+                continue;
+            }
+
+            if (now - tick > thresholdNanos) {
+                if (spike == null) {
+                    spike = new Spike(tick);
+                }
+                spike.sample(mainThread.getStackTrace(), currentScenario);
+                continue;
+            }
+
+            if (spike != null && tick != spike.tick) {
+                finish(spike, tick);
+                spike = null;
+            }
+        }
+    }
+
+    private void finish(Spike spike, long resumedAt) {
+        SPIKES.increment();
+
+        long stalledMillis = Duration.ofNanos(resumedAt - spike.tick).toMillis();
+        String top = spike.topScenario();
+        Path report = reportDirectory.resolve(REPORT_PREFIX + LocalDateTime.now().format(FILE_NAME) + ".txt");
+
+        try {
+            Files.createDirectories(reportDirectory);
+            Files.writeString(report, spike.render(stalledMillis), StandardCharsets.UTF_8);
+            prune();
+        } catch (IOException e) {
+            AsyncLogSink.getSink().error(() -> Component.text("Failed to write tick spike report '" + report + "'"), e);
+            return;
+        }
+
+        AsyncLogSink.getSink().warn(() -> Component.text("Main thread stalled for " + stalledMillis + "ms, mostly in "
+                + top + ". Report written to " + report), null);
+    }
+
+    /**
+     * Deletes all but the newest {@value #REPORTS_KEPT} spike reports. Report names sort by time.
+     */
+    private void prune() throws IOException {
+        List<Path> reports;
+        try (Stream<Path> files = Files.list(reportDirectory)) {
+            reports = files
+                    .filter(file -> file.getFileName().toString().startsWith(REPORT_PREFIX))
+                    .sorted(Comparator.comparing(file -> file.getFileName().toString()))
+                    .toList();
+        }
+        for (int i = 0; i < reports.size() - REPORTS_KEPT; i++) {
+            Files.deleteIfExists(reports.get(i));
+        }
+    }
+
+    private String ownerOf(StackTraceElement[] stack) {
+        for (StackTraceElement frame : stack) {
+            Set<String> scenarios = owners.get(outerName(frame.getClassName()));
+            if (scenarios != null && !scenarios.isEmpty()) {
+                return scenarios.size() == 1 ? scenarios.iterator().next() : String.join(" or ", scenarios);
+            }
+        }
+        return null;
+    }
+
+    private static String outerName(String className) {
+        int nested = className.indexOf('$');
+        return nested < 0 ? className : className.substring(0, nested);
+    }
+
+    /**
+     * Samples collected during a single stall; only touched by the watchdog thread.
+     */
+    private final class Spike {
+
+        private final long tick;
+        private final Map<String, ScenarioSamples> scenarios = new HashMap<>();
+        private int samples;
+
+        private Spike(long tick) {
+            this.tick = tick;
+        }
+
+        private void sample(StackTraceElement[] stack, String tagged) {
+            if (stack.length == 0) {
+                return;
+            }
+            samples++;
+
+            String scenario = tagged != null ? tagged : ownerOf(stack);
+            ScenarioSamples target = scenarios.computeIfAbsent(scenario == null ? UNATTRIBUTED : scenario, _ -> new ScenarioSamples());
+            target.samples++;
+            target.leafFrames.merge(stack[0].toString(), 1, Integer::sum);
+
+            for (StackTraceElement frame : stack) {
+                if (owners.containsKey(outerName(frame.getClassName()))) {
+                    target.entryFrames.merge(frame.toString(), 1, Integer::sum);
+                    break;
+                }
+            }
+        }
+
+        private String topScenario() {
+            return scenarios.entrySet().stream()
+                    .max(Map.Entry.comparingByValue((a, b) -> Integer.compare(a.samples, b.samples)))
+                    .map(Map.Entry::getKey)
+                    .orElse(UNATTRIBUTED);
+        }
+
+        private String render(long stalledMillis) {
+            StringBuilder out = new StringBuilder();
+            out.append("Main thread stalled for ").append(stalledMillis).append("ms\n");
+            out.append("Samples: ").append(samples).append(" (every ").append(Duration.ofNanos(SAMPLE_INTERVAL_NANOS).toMillis()).append("ms)\n");
+
+            List<Map.Entry<String, ScenarioSamples>> sorted = new ArrayList<>(scenarios.entrySet());
+            sorted.sort((a, b) -> Integer.compare(b.getValue().samples, a.getValue().samples));
+
+            for (Map.Entry<String, ScenarioSamples> entry : sorted) {
+                ScenarioSamples scenario = entry.getValue();
+                out.append('\n').append(entry.getKey()).append(": ").append(scenario.samples).append(" samples (")
+                        .append(samples == 0 ? 0 : scenario.samples * 100 / samples).append("%)\n");
+                appendFrames(out, "Hottest frames", scenario.leafFrames);
+                appendFrames(out, "Scenario entry points", scenario.entryFrames);
+            }
+            return out.toString();
+        }
+
+        private void appendFrames(StringBuilder out, String title, Map<String, Integer> frames) {
+            if (frames.isEmpty()) {
+                return;
+            }
+            out.append("  ").append(title).append(":\n");
+            frames.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .limit(FRAMES_SHOWN)
+                    .forEach(frame -> out.append("    ").append(frame.getValue()).append("x ").append(frame.getKey()).append('\n'));
+        }
+    }
+
+    /**
+     * Samples attributed to one scenario.
+     */
+    private static final class ScenarioSamples {
+        private final Map<String, Integer> leafFrames = new HashMap<>();
+        private final Map<String, Integer> entryFrames = new HashMap<>();
+        private int samples;
+    }
+
+}
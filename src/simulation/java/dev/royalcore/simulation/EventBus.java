@@ -0,0 +1,179 @@
+package dev.royalcore.simulation;
+
+import dev.royalcore.api.metrics.Histogram;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Delivers events to {@link EventHandler} methods the way the Bukkit plugin manager does: by priority,
+ * to every handler whose parameter type accepts the event, skipping cancelled events for handlers that
+ * ignore them.
+ * <p>
+ * A handler that throws does not stop delivery; the failure is counted and the first exception of each
+ * handler is kept for the report.
+ */
+final class EventBus {
+
+    private static final MethodHandle EXECUTE;
+
+    static {
+        try {
+            EXECUTE = MethodHandles.publicLookup().findVirtual(EventExecutor.class, "execute",
+                    MethodType.methodType(void.class, Listener.class, Event.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final List<Handler> handlers = new ArrayList<>();
+    private final Map<Class<?>, Handler[]> byType = new HashMap<>();
+    private final Map<String, Throwable> firstFailures = new LinkedHashMap<>();
+    private final Map<String, Histogram> latencies = new LinkedHashMap<>();
+
+    private boolean timed;
+
+    private long dispatched;
+    private long failures;
+
+    /**
+     * Registers every {@link EventHandler} method of a listener.
+     *
+     * @param listener the listener to register
+     */
+    void register(Listener listener) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        for (Method method : listener.getClass().getDeclaredMethods()) {
+            EventHandler annotation = method.getAnnotation(EventHandler.class);
+            if (annotation == null || method.getParameterCount() != 1 || !Event.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                continue;
+            }
+            try {
+                method.setAccessible(true);
+                MethodHandle handle = lookup.unreflect(method).bindTo(listener);
+                handlers.add(new Handler(
+                        listener.getClass().getName() + "#" + method.getName(),
+                        method.getParameterTypes()[0],
+                        annotation.priority(),
+                        annotation.ignoreCancelled(),
+                        handle
+                ));
+            } catch (IllegalAccessException | RuntimeException e) {
+                throw new IllegalStateException("Cannot register " + method, e);
+            }
+        }
+        handlers.sort(Comparator.comparing(Handler::priority));
+        byType.clear();
+    }
+
+    /**
+     * Registers a single executor the way {@code PluginManager#registerEvent} does.
+     *
+     * @param type            the event type
+     * @param listener        the listener passed to the executor
+     * @param priority        the handler priority
+     * @param executor        the executor
+     * @param ignoreCancelled whether cancelled events are skipped
+     */
+    void register(Class<? extends Event> type, Listener listener, EventPriority priority, EventExecutor executor, boolean ignoreCancelled) {
+        handlers.add(new Handler(
+                listener.getClass().getName() + "#" + type.getSimpleName(),
+                type,
+                priority,
+                ignoreCancelled,
+                EXECUTE.bindTo(executor).bindTo(listener)
+        ));
+        handlers.sort(Comparator.comparing(Handler::priority));
+        byType.clear();
+    }
+
+    /**
+     * Delivers an event to every matching handler.
+     *
+     * @param event the event
+     * @param <E>   the event type
+     * @return the event, possibly modified or cancelled by handlers
+     */
+    <E extends Event> E call(E event) {
+        dispatched++;
+        for (Handler handler : byType.computeIfAbsent(event.getClass(), this::handlersFor)) {
+            if (handler.ignoreCancelled() && event instanceof Cancellable cancellable && cancellable.isCancelled()) {
+                continue;
+            }
+            long start = timed ? System.nanoTime() : 0L;
+            try {
+                handler.handle().invoke(event);
+            } catch (Throwable t) {
+                failures++;
+                firstFailures.putIfAbsent(handler.name(), t);
+            }
+            if (timed) {
+                latencies.computeIfAbsent(handler.name(), _ -> new Histogram()).record(System.nanoTime() - start);
+            }
+        }
+        return event;
+    }
+
+    /**
+     * Turns timing of every handler invocation on or off.
+     *
+     * @param timed whether to record handler latencies
+     */
+    void timeHandlers(boolean timed) {
+        this.timed = timed;
+    }
+
+    /**
+     * Returns the recorded latency of each handler, keyed by listener class and method name.
+     *
+     * @return the handler latencies, in order of first invocation
+     */
+    Map<String, Histogram> handlerLatencies() {
+        return latencies;
+    }
+
+    long dispatched() {
+        return dispatched;
+    }
+
+    long failures() {
+        return failures;
+    }
+
+    Map<String, Throwable> firstFailures() {
+        return firstFailures;
+    }
+
+    private Handler[] handlersFor(Class<?> eventType) {
+        return handlers.stream()
+                .filter(handler -> handler.eventType().isAssignableFrom(eventType))
+                .toArray(Handler[]::new);
+    }
+
+    /**
+     * A registered handler method.
+     *
+     * @param name            listener class and method name, for reports
+     * @param eventType       the event type the method accepts
+     * @param priority        the handler priority
+     * @param ignoreCancelled whether cancelled events are skipped
+     * @param handle          invokes the method on its listener
+     */
+    private record Handler(String name, Class<?> eventType, EventPriority priority, boolean ignoreCancelled, MethodHandle handle) {
+    }
+
+}
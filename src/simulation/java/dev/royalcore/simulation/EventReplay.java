@@ -0,0 +1,313 @@
+package dev.royalcore.simulation;
+
+import dev.royalcore.api.errors.Result;
+import dev.royalcore.api.metrics.Histogram;
+import dev.royalcore.internal.lifesteal.LifestealListener;
+import dev.royalcore.internal.recording.EventRecording;
+import dev.royalcore.internal.recording.RecordedEvent;
+import dev.royalcore.internal.start.MoveListener;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.BlockFace;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Replays an {@link EventRecording} captured on a live server into listeners running against a
+ * {@link SimulatedServer}, and reports how fast the listeners handled the real traffic.
+ * <p>
+ * Each iteration rebuilds the Bukkit events from the recording, advances the simulated scheduler to the
+ * recorded tick before each event, so tasks the listeners scheduled run in between, and times every
+ * dispatch. Player state follows the recording: moves that are not cancelled move the player, deaths kill
+ * them and quits disconnect them; every iteration starts with all players online and alive. Held items are
+ * not reconstructed, as creating items needs a real item registry.
+ * <p>
+ * Arguments:
+ * <ul>
+ *     <li>{@code --recording=FILE}: the recording to replay; required.</li>
+ *     <li>{@code --listeners=CLASS,CLASS}: listener classes with a no-argument constructor to replay into;
+ *     defaults to RoyaleCore's own listeners, with lifesteal disabled. Listeners from another plugin must be on
+ *     the classpath; the {@code replay} Gradle task adds {@code -Pplugin=JAR} and {@code -PextraClasspath=PATHS}.</li>
+ *     <li>{@code --warmup=N}: iterations to run before measuring, default 2.</li>
+ *     <li>{@code --iterations=N}: measured iterations, default 5.</li>
+ * </ul>
+ * The process exits with status 1 if a listener threw.
+ */
+public final class EventReplay {
+
+    private final List<RecordedEvent> events;
+    private final SimulatedServer server;
+    private final Map<Integer, SimulatedPlayer> players = new HashMap<>();
+    private final Map<String, Histogram> byType = new LinkedHashMap<>();
+    private long skipped;
+
+    private EventReplay(List<RecordedEvent> events) {
+        this.events = events;
+        this.server = new SimulatedServer(new SimulatedWorld(worldName(events), 512, 1L));
+    }
+
+    /**
+     * Runs a replay.
+     *
+     * @param args {@code --recording=FILE [--listeners=CLASS,CLASS] [--warmup=N] [--iterations=N]}
+     * @throws ReflectiveOperationException if a listener class cannot be instantiated
+     */
+    public static void main(String[] args) throws ReflectiveOperationException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (arg.startsWith("--") && eq > 2) {
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+
+        String recording = options.get("recording");
+        if (recording == null || recording.isBlank()) {
+            System.err.println("Usage: EventReplay --recording=FILE [--listeners=CLASS,CLASS] [--warmup=N] [--iterations=N]");
+            System.exit(2);
+            return;
+        }
+
+        Result<List<RecordedEvent>> read = EventRecording.read(Path.of(recording));
+        if (read instanceof Result.Err<?> err) {
+            System.err.println(PlainTextComponentSerializer.plainText().serialize(err.errorMsg())
+                    + (err.exception() == null ? "" : ": " + err.exception()));
+            System.exit(2);
+            return;
+        }
+
+        EventReplay replay = new EventReplay(read.orElse(List.of()));
+        replay.server.install();
+
+        List<Listener> listeners = listeners(options.get("listeners"));
+        for (Listener listener : listeners) {
+            replay.server.register(listener);
+        }
+
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "2"));
+        int iterations = Integer.parseInt(options.getOrDefault("iterations", "5"));
+        System.exit(replay.run(recording, listeners, warmup, iterations) ? 0 : 1);
+    }
+
+    /**
+     * Creates the listeners to replay into.
+     *
+     * @param classNames comma-separated listener classes, or {@code null} for RoyaleCore's listeners
+     * @return the listeners
+     * @throws ReflectiveOperationException if a listener class cannot be instantiated
+     */
+    private static List<Listener> listeners(String classNames) throws ReflectiveOperationException {
+        if (classNames == null || classNames.isBlank()) {
+            LifestealListener lifesteal = new LifestealListener();
+            lifesteal.setLifesteal(false);
+            return List.of(new MoveListener(), lifesteal);
+        }
+
+        List<Listener> listeners = new ArrayList<>();
+        for (String className : classNames.split(",")) {
+            listeners.add((Listener) Class.forName(className.trim()).getDeclaredConstructor().newInstance());
+        }
+        return listeners;
+    }
+
+    private static String worldName(List<RecordedEvent> events) {
+        for (RecordedEvent event : events) {
+            if (event instanceof RecordedEvent.Move move) return move.world();
+            if (event instanceof RecordedEvent.BlockBreak blockBreak) return blockBreak.world();
+        }
+        return "world";
+    }
+
+    /**
+     * Replays the recording and prints the report.
+     *
+     * @param recording  the recording file name, for the report
+     * @param listeners  the listeners replayed into
+     * @param warmup     iterations to run before measuring
+     * @param iterations measured iterations
+     * @return {@code true} if no listener threw
+     */
+    private boolean run(String recording, List<Listener> listeners, int warmup, int iterations) {
+        for (int i = 0; i < warmup; i++) {
+            iteration(false);
+        }
+
+        server.events().timeHandlers(true);
+        long[] iterationNanos = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            iterationNanos[i] = iteration(true);
+        }
+
+        int span = events.isEmpty() ? 0 : events.getLast().tick() - events.getFirst().tick();
+        System.out.println(String.format(Locale.ROOT, "RoyaleCore event replay: %s, %d events over %d ticks, %d players, %d listeners",
+                recording, events.size(), span, players.size(), listeners.size()));
+        System.out.println(String.format(Locale.ROOT, "  %d warm-up and %d measured iterations, %d events skipped per iteration",
+                warmup, iterations, skipped / Math.max(1, warmup + iterations)));
+
+        for (int i = 0; i < iterations; i++) {
+            System.out.println(String.format(Locale.ROOT, "  iteration %d: %.2fms handling, %.0f events/s",
+                    i + 1, iterationNanos[i] / 1e6, events.size() / Math.max(1e-9, iterationNanos[i] / 1e9)));
+        }
+
+        System.out.println("  by event:");
+        for (Map.Entry<String, Histogram> entry : byType.entrySet()) {
+            System.out.println("    " + line(entry.getKey(), entry.getValue()));
+        }
+
+        System.out.println("  by handler:");
+        for (Map.Entry<String, Histogram> entry : server.events().handlerLatencies().entrySet()) {
+            System.out.println("    " + line(entry.getKey(), entry.getValue()));
+        }
+
+        System.out.println(String.format(Locale.ROOT, "  %d handler failures", server.events().failures()));
+        for (Map.Entry<String, Throwable> failure : server.events().firstFailures().entrySet()) {
+            System.out.println("  handler " + failure.getKey() + " failed: " + failure.getValue());
+        }
+
+        return server.events().failures() == 0;
+    }
+
+    /**
+     * Replays every event once.
+     *
+     * @param measured whether to record dispatch latencies
+     * @return the total time spent dispatching
+     */
+    private long iteration(boolean measured) {
+        for (SimulatedPlayer player : players.values()) {
+            server.join(player.id(), player.asPlayer().getName());
+            player.respawn(server.world().surface(0, 0));
+        }
+
+        long tickOffset = server.scheduler().currentTick() - (events.isEmpty() ? 0 : events.getFirst().tick());
+        long total = 0;
+
+        for (RecordedEvent recorded : events) {
+            while (server.scheduler().currentTick() < recorded.tick() + tickOffset) {
+                server.scheduler().tick();
+            }
+
+            Event event;
+            try {
+                event = toEvent(recorded);
+            } catch (IllegalArgumentException unknownConstant) {
+                // Recorded on a server version with actions or damage causes this API does not have.
+                skipped++;
+                continue;
+            }
+
+            long start = System.nanoTime();
+            server.call(event);
+            long elapsed = System.nanoTime() - start;
+
+            total += elapsed;
+            if (measured) {
+                byType.computeIfAbsent(event.getEventName(), _ -> new Histogram()).record(elapsed);
+            }
+            apply(recorded, event);
+        }
+
+        return total;
+    }
+
+    /**
+     * Rebuilds the Bukkit event for a recorded event.
+     *
+     * @param recorded the recorded event
+     * @return the event, cancelled if it was cancelled when recorded
+     */
+    private Event toEvent(RecordedEvent recorded) {
+        Player player = player(recorded.player()).asPlayer();
+        World world = server.world().asWorld();
+
+        return switch (recorded) {
+            case RecordedEvent.Join join -> {
+                server.join(join.player().id(), join.player().name());
+                yield new PlayerJoinEvent(player, Component.empty());
+            }
+            case RecordedEvent.Quit _ -> new PlayerQuitEvent(player, Component.empty(), PlayerQuitEvent.QuitReason.DISCONNECTED);
+            case RecordedEvent.Move move -> cancelled(new PlayerMoveEvent(player,
+                    new Location(world, move.fromX(), move.fromY(), move.fromZ(), move.fromYaw(), move.fromPitch()),
+                    new Location(world, move.toX(), move.toY(), move.toZ(), move.toYaw(), move.toPitch())
+            ), move.cancelled());
+            case RecordedEvent.Death death -> {
+                SimulatedPlayer victim = player(death.player());
+                victim.kill(death.killer() == null ? null : player(death.killer()).asPlayer());
+                yield new PlayerDeathEvent(player, SimulatedServer.DAMAGE, new ArrayList<>(), 0, Component.empty());
+            }
+            case RecordedEvent.Interact interact -> new PlayerInteractEvent(
+                    player,
+                    Action.valueOf(interact.action()),
+                    null,
+                    interact.hasBlock() ? world.getBlockAt(interact.blockX(), interact.blockY(), interact.blockZ()) : null,
+                    BlockFace.SELF
+            );
+            case RecordedEvent.BlockBreak blockBreak -> cancelled(
+                    new BlockBreakEvent(world.getBlockAt(blockBreak.x(), blockBreak.y(), blockBreak.z()), player),
+                    blockBreak.cancelled()
+            );
+            case RecordedEvent.Damage damage -> {
+                EntityDamageEvent.DamageCause cause = EntityDamageEvent.DamageCause.valueOf(damage.cause());
+                yield cancelled(damage.attacker() == null
+                        ? new EntityDamageEvent(player, cause, SimulatedServer.DAMAGE, damage.damage())
+                        : new EntityDamageByEntityEvent(player(damage.attacker()).asPlayer(), player, cause, SimulatedServer.DAMAGE, damage.damage()),
+                        damage.cancelled());
+            }
+        };
+    }
+
+    /**
+     * Applies the outcome of a dispatched event to the simulated players.
+     *
+     * @param recorded the recorded event
+     * @param event    the dispatched event
+     */
+    private void apply(RecordedEvent recorded, Event event) {
+        switch (recorded) {
+            case RecordedEvent.Quit quit -> server.quit(player(quit.player()));
+            case RecordedEvent.Move move when !((PlayerMoveEvent) event).isCancelled() ->
+                    player(move.player()).moveTo(((PlayerMoveEvent) event).getTo());
+            default -> {
+            }
+        }
+    }
+
+    private SimulatedPlayer player(RecordedEvent.Participant participant) {
+        return players.computeIfAbsent(participant.index(), _ -> server.join(participant.id(), participant.name()));
+    }
+
+    private static <E extends Event & Cancellable> E cancelled(E event, boolean cancelled) {
+        event.setCancelled(cancelled);
+        return event;
+    }
+
+    private static String line(String name, Histogram histogram) {
+        Histogram.Snapshot latency = histogram.snapshot();
+        return String.format(Locale.ROOT, "%s n=%d mean=%.1fus p50=%.1fus p99=%.1fus max=%.1fus",
+                name, latency.count(),
+                latency.meanNanos() / 1e3, latency.percentileNanos(50) / 1e3,
+                latency.percentileNanos(99) / 1e3, latency.maxNanos() / 1e3);
+    }
+
+}
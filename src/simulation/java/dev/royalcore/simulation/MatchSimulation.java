@@ -0,0 +1,341 @@
+package dev.royalcore.simulation;
+
+import dev.royalcore.api.br.BattleRoyale;
+import dev.royalcore.api.engine.NewEngine;
+import dev.royalcore.api.enums.BattleRoyaleState;
+import dev.royalcore.api.enums.ScenarioPriority;
+import dev.royalcore.api.metrics.Histogram;
+import dev.royalcore.api.metrics.MetricsRegistry;
+import dev.royalcore.api.scenario.Scenario;
+import dev.royalcore.api.session.ArenaSession;
+import dev.royalcore.api.session.SessionManager;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Plays a full battle royale against a {@link SimulatedServer} and reports what each tick cost.
+ * <p>
+ * The match goes through the same RoyaleCore code a live server runs:
+ * <ol>
+ *     <li>Queue: N players join and a battle royale with M scenarios is built and registered.</li>
+ *     <li>Start: settings and scenario schedules are validated and bound, then the engine's start action
+ *     queues the players, teleports them to their spawns and runs the countdown.</li>
+ *     <li>Play: every tick runs due scheduled tasks, moves every living player one block through
+ *     {@link PlayerMoveEvent}s and kills players through {@link PlayerDeathEvent}s, spread so that one is
+ *     left standing near the end of the tick budget.</li>
+ *     <li>Stop: the engine's stop action ends the battle royale.</li>
+ * </ol>
+ * Per-tick wall time and allocated bytes of the simulation thread are recorded; the fakes' own overhead is
+ * included, so compare runs with each other rather than with a real server. Lifesteal stays disabled, as the
+ * heart item needs a real item registry.
+ * <p>
+ * Arguments are {@code --players=N}, {@code --scenarios=M}, {@code --ticks=T} and {@code --seed=S}. The process
+ * exits with status 1 if a listener threw or the battle royale did not end.
+ */
+public final class MatchSimulation {
+
+    private static final long TICK_BUDGET_NANOS = 50_000_000L;
+
+    private final int playerCount;
+    private final int scenarioCount;
+    private final int tickBudget;
+    private final SplittableRandom random;
+    private final SimulatedServer server;
+    private final Histogram tickTime = MetricsRegistry.getRegistry()
+            .histogram("royalecore_simulation_tick_seconds", "Wall time of simulated ticks");
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final List<SimulatedPlayer> alive = new ArrayList<>();
+    private final List<ScenarioListener> scenarioListeners = new ArrayList<>();
+    private boolean stopped;
+    private long allocatedBytes;
+    private long ticksOverBudget;
+    private long moves;
+    private long movesCancelled;
+
+    private MatchSimulation(int playerCount, int scenarioCount, int tickBudget, long seed) {
+        this.playerCount = playerCount;
+        this.scenarioCount = scenarioCount;
+        this.tickBudget = tickBudget;
+        this.random = new SplittableRandom(seed);
+        this.server = new SimulatedServer(new SimulatedWorld("br-world", 512, seed));
+    }
+
+    /**
+     * Runs a simulation.
+     *
+     * @param args {@code --players=N --scenarios=M --ticks=T --seed=S}, all optional
+     */
+    public static void main(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (arg.startsWith("--") && eq > 2) {
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+
+        MatchSimulation simulation = new MatchSimulation(
+                Integer.parseInt(options.getOrDefault("players", "100")),
+                Integer.parseInt(options.getOrDefault("scenarios", "8")),
+                Integer.parseInt(options.getOrDefault("ticks", "12000")),
+                Long.parseLong(options.getOrDefault("seed", "1"))
+        );
+
+        System.exit(simulation.run() ? 0 : 1);
+    }
+
+    /**
+     * Plays the match and prints the report.
+     *
+     * @return {@code true} if the match ended cleanly
+     */
+    private boolean run() {
+        server.install();
+
+        long setupStart = System.nanoTime();
+        for (int i = 0; i < playerCount; i++) {
+            alive.add(server.join("Player" + i));
+        }
+
+        List<Scenario> scenarios = new ArrayList<>();
+        for (int i = 0; i < scenarioCount; i++) {
+            scenarios.add(scenario(i));
+        }
+
+        BattleRoyale battleRoyale = BattleRoyale.battleroyale(UUID.nameUUIDFromBytes("simulation".getBytes(StandardCharsets.UTF_8)))
+                .withScenarios(scenarios.toArray(Scenario[]::new))
+                .withSettings(settings -> settings.lifesteal(false))
+                .withWorldSettings(world -> {
+                    world.setWorld(server.world().asWorld());
+                    int radius = server.world().radius() - 16;
+                    for (int i = 0; i < playerCount; i++) {
+                        world.addLocation(server.world().surface(random.nextInt(-radius, radius), random.nextInt(-radius, radius)));
+                    }
+                })
+                .onStop(() -> stopped = true)
+                .build();
+
+        for (Scenario scenario : scenarios) {
+            for (Listener listener : scenario.listenerConsumer().getListeners()) {
+                server.register(listener);
+            }
+        }
+        long setupNanos = System.nanoTime() - setupStart;
+
+        long startStart = System.nanoTime();
+        NewEngine engine = NewEngine.getEngine();
+        engine.validateSettings(battleRoyale);
+        ArenaSession session = SessionManager.getSessionManager().open(battleRoyale).orElse(null);
+        for (Scenario scenario : scenarios) {
+            engine.validateScheduleForScenario(session, scenario);
+        }
+        engine.addToOnStart(battleRoyale);
+        long startNanos = System.nanoTime() - startStart;
+
+        int firstDeathTick = tickBudget / 10;
+        int deathWindow = Math.max(1, tickBudget * 8 / 10 - firstDeathTick);
+        int deaths = 0;
+
+        int tick = 0;
+        while (tick < tickBudget && alive.size() > 1) {
+            long dead = tick < firstDeathTick ? 0 : (long) (tick - firstDeathTick + 1) * (playerCount - 1) / deathWindow;
+            int toKill = (int) Math.min(dead, playerCount - 1) - deaths;
+            deaths += toKill;
+            measuredTick(() -> play(toKill));
+            tick++;
+        }
+
+        engine.addToStop(battleRoyale);
+        battleRoyale.stop();
+        int stopTicks = 0;
+        while (!stopped && stopTicks < 20) {
+            measuredTick(() -> play(0));
+            stopTicks++;
+        }
+
+        return report(battleRoyale, tick + stopTicks, setupNanos, startNanos);
+    }
+
+    /**
+     * Runs one tick and records its wall time and allocation.
+     *
+     * @param work the tick's work besides the scheduler
+     */
+    private void measuredTick(Runnable work) {
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+
+        server.scheduler().tick();
+        work.run();
+
+        long elapsed = System.nanoTime() - start;
+        tickTime.record(elapsed);
+        allocatedBytes += threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        if (elapsed > TICK_BUDGET_NANOS) {
+            ticksOverBudget++;
+        }
+    }
+
+    /**
+     * Moves every living player one block and kills some of them.
+     *
+     * @param kills the number of players to kill this tick
+     */
+    private void play(int kills) {
+        for (SimulatedPlayer player : alive) {
+            Location from = player.location();
+            int dx = random.nextInt(3) - 1;
+            int dz = random.nextInt(3) - 1;
+            Location to = server.world().surface(from.getBlockX() + dx, from.getBlockZ() + dz);
+
+            PlayerMoveEvent event = server.call(new PlayerMoveEvent(player.asPlayer(), from, to));
+            moves++;
+            if (event.isCancelled()) {
+                movesCancelled++;
+            } else {
+                player.moveTo(event.getTo());
+            }
+        }
+
+        for (int i = 0; i < kills; i++) {
+            SimulatedPlayer victim = alive.remove(random.nextInt(alive.size()));
+            victim.kill();
+            server.call(new PlayerDeathEvent(
+                    victim.asPlayer(),
+                    SimulatedServer.DAMAGE,
+                    new ArrayList<>(),
+                    0,
+                    Component.text(victim.asPlayer().getName() + " was eliminated")
+            ));
+        }
+    }
+
+    /**
+     * Builds a scenario with a listener, a repeating task and a one-shot task.
+     *
+     * @param index the scenario number
+     * @return the scenario
+     */
+    private Scenario scenario(int index) {
+        ScenarioListener listener = new ScenarioListener(server.world().radius());
+        scenarioListeners.add(listener);
+
+        return Scenario.scenario(Component.text("Simulated scenario " + index))
+                .listeners(listeners -> listeners.register(listener))
+                .schedules(schedules -> {
+                    schedules.scheduleOnTicks(Duration.ofSeconds(1), Duration.ofSeconds(1), listener::everySecond);
+                    schedules.scheduleTaskLater(Duration.ofSeconds(30 + index), listener::once);
+                })
+                .priority(ScenarioPriority.values()[index % ScenarioPriority.values().length])
+                .build();
+    }
+
+    private boolean report(BattleRoyale battleRoyale, int ticks, long setupNanos, long startNanos) {
+        Histogram.Snapshot snapshot = tickTime.snapshot();
+        EventBus events = server.events();
+
+        long handled = 0;
+        long outside = 0;
+        long tasks = 0;
+        for (ScenarioListener listener : scenarioListeners) {
+            handled += listener.moves + listener.deaths;
+            outside += listener.outsideBorder;
+            tasks += listener.secondsRun + listener.onceRun;
+        }
+
+        String winner = alive.size() == 1 ? alive.getFirst().asPlayer().getName() : "none";
+        boolean clean = events.failures() == 0 && battleRoyale.state() == BattleRoyaleState.ENDED && stopped;
+
+        System.out.println(String.format(Locale.ROOT, "RoyaleCore match simulation: %d players, %d scenarios, %d ticks",
+                playerCount, scenarioCount, ticks));
+        System.out.println(String.format(Locale.ROOT, "  setup %.2fms, start %.2fms (queue, spawn, countdown)",
+                setupNanos / 1e6, startNanos / 1e6));
+        System.out.println(String.format(Locale.ROOT, "  tick p50 %.3fms, p99 %.3fms, p99.9 %.3fms, max %.3fms, %d over 50ms",
+                snapshot.percentileNanos(50) / 1e6, snapshot.percentileNanos(99) / 1e6,
+                snapshot.percentileNanos(99.9) / 1e6, snapshot.maxNanos() / 1e6, ticksOverBudget));
+        System.out.println(String.format(Locale.ROOT, "  allocated %.1fKiB per tick", allocatedBytes / 1024.0 / Math.max(1, ticks)));
+        System.out.println(String.format(Locale.ROOT, "  events %d dispatched, %d handled by scenarios, %d handler failures",
+                events.dispatched(), handled, events.failures()));
+        System.out.println(String.format(Locale.ROOT, "  moves %d (%d cancelled, %d outside the border), scheduled tasks %d (%d by scenarios)",
+                moves, movesCancelled, outside, server.scheduler().tasksRun(), tasks));
+        System.out.println(String.format(Locale.ROOT, "  winner %s, final state %s", winner, battleRoyale.state()));
+
+        for (Map.Entry<String, Throwable> failure : events.firstFailures().entrySet()) {
+            System.out.println("  handler " + failure.getKey() + " failed: " + failure.getValue());
+        }
+
+        return clean;
+    }
+
+    /**
+     * A scenario listener doing the kind of per-event work scenarios typically do.
+     */
+    public static final class ScenarioListener implements Listener {
+
+        private final int borderRadius;
+        private long moves;
+        private long deaths;
+        private long outsideBorder;
+        private long secondsRun;
+        private long onceRun;
+
+        private ScenarioListener(int borderRadius) {
+            this.borderRadius = borderRadius;
+        }
+
+        /**
+         * Counts moves that leave the border.
+         *
+         * @param event the move
+         */
+        @EventHandler(ignoreCancelled = true)
+        public void onMove(PlayerMoveEvent event) {
+            moves++;
+            Location to = event.getTo();
+            if (Math.abs(to.getX()) > borderRadius || Math.abs(to.getZ()) > borderRadius) {
+                outsideBorder++;
+            }
+        }
+
+        /**
+         * Counts deaths.
+         *
+         * @param event the death
+         */
+        @EventHandler
+        public void onDeath(PlayerDeathEvent event) {
+            Player player = event.getEntity();
+            if (player.isDead()) {
+                deaths++;
+            }
+        }
+
+        private void everySecond() {
+            secondsRun++;
+        }
+
+        private void once() {
+            onceRun++;
+        }
+
+    }
+
+}
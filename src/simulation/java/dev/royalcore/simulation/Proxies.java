@@ -0,0 +1,80 @@
+package dev.royalcore.simulation;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds the interface proxies the simulated server is made of.
+ * <p>
+ * Each proxy answers {@link Object} methods by identity and delegates everything else to an {@link Answer}.
+ * Whatever the answer leaves unhandled (returns {@code null} for) gets a neutral default: zero, {@code false},
+ * an empty string or an empty collection.
+ */
+final class Proxies {
+
+    private Proxies() {
+    }
+
+    /**
+     * Creates a proxy implementing {@code type}.
+     *
+     * @param type   the interface to implement
+     * @param answer answers the calls the simulation supports
+     * @param <T>    the interface type
+     * @return the proxy
+     */
+    static <T> T create(Class<T> type, Answer answer) {
+        Object proxy = Proxy.newProxyInstance(Proxies.class.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            Object[] arguments = args == null ? new Object[0] : args;
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> self == arguments[0];
+                    case "hashCode" -> System.identityHashCode(self);
+                    default -> "Simulated" + type.getSimpleName();
+                };
+            }
+            Object result = answer.answer(method, arguments);
+            return result != null ? result : defaultValue(method);
+        });
+        return type.cast(proxy);
+    }
+
+    private static Object defaultValue(Method method) {
+        Class<?> type = method.getReturnType();
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == double.class) return 0.0D;
+        if (type == float.class) return 0.0F;
+        if (type == short.class) return (short) 0;
+        if (type == byte.class) return (byte) 0;
+        if (type == char.class) return '\0';
+        if (type == String.class) return "";
+        if (type == List.class || type == Collection.class) return List.of();
+        if (type == Set.class) return Set.of();
+        if (type == Map.class) return Map.of();
+        return null;
+    }
+
+    /**
+     * Answers a call on a proxy.
+     */
+    @FunctionalInterface
+    interface Answer {
+
+        /**
+         * Answers a call.
+         *
+         * @param method the invoked method
+         * @param args   the arguments, never {@code null}
+         * @return the result, or {@code null} for the default value of the return type
+         * @throws Throwable if the call should fail
+         */
+        Object answer(Method method, Object[] args) throws Throwable;
+    }
+
+}
@@ -0,0 +1,151 @@
+package dev.royalcore.simulation;
+
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.lang.reflect.Method;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A connected player that only has a position, health and counters of what was sent to it.
+ */
+final class SimulatedPlayer {
+
+    private final UUID id;
+    private final String name;
+    private final Player player;
+
+    private Location location;
+    private double health = 20.0D;
+    private boolean online = true;
+    private boolean alive = true;
+    private Player killer;
+    private int titlesShown;
+    private int messagesReceived;
+    private int teleports;
+
+    /**
+     * Creates a player.
+     *
+     * @param id       the player's UUID
+     * @param name     the player's name
+     * @param location where the player starts
+     */
+    SimulatedPlayer(UUID id, String name, Location location) {
+        this.id = id;
+        this.name = name;
+        this.location = location;
+        this.player = Proxies.create(Player.class, this::answer);
+    }
+
+    Player asPlayer() {
+        return player;
+    }
+
+    UUID id() {
+        return id;
+    }
+
+    Location location() {
+        return location;
+    }
+
+    void moveTo(Location location) {
+        this.location = location;
+    }
+
+    boolean isAlive() {
+        return alive;
+    }
+
+    boolean isOnline() {
+        return online;
+    }
+
+    void kill() {
+        kill(null);
+    }
+
+    void kill(Player killer) {
+        this.health = 0.0D;
+        this.alive = false;
+        this.killer = killer;
+    }
+
+    void respawn(Location location) {
+        this.location = location;
+        this.health = 20.0D;
+        this.alive = true;
+        this.killer = null;
+    }
+
+    void connect() {
+        online = true;
+    }
+
+    void disconnect() {
+        online = false;
+    }
+
+    int titlesShown() {
+        return titlesShown;
+    }
+
+    int messagesReceived() {
+        return messagesReceived;
+    }
+
+    int teleports() {
+        return teleports;
+    }
+
+    private Object answer(Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "getUniqueId" -> id;
+            case "getName" -> name;
+            case "isOnline", "isConnected", "isValid" -> online;
+            case "isDead" -> !alive;
+            case "getKiller" -> killer;
+            case "getWorld" -> location.getWorld();
+            case "getLocation" -> {
+                if (args.length == 1 && args[0] instanceof Location target) {
+                    target.setWorld(location.getWorld());
+                    target.setX(location.getX());
+                    target.setY(location.getY());
+                    target.setZ(location.getZ());
+                    yield target;
+                }
+                yield location.clone();
+            }
+            case "teleport", "teleportAsync" -> {
+                if (args.length > 0 && args[0] instanceof Location target) {
+                    location = target.clone();
+                    teleports++;
+                }
+                if (method.getReturnType() == CompletableFuture.class) {
+                    yield CompletableFuture.completedFuture(Boolean.TRUE);
+                }
+                yield method.getReturnType() == boolean.class ? Boolean.TRUE : null;
+            }
+            case "getHealth" -> health;
+            case "setHealth" -> {
+                health = (double) args[0];
+                yield null;
+            }
+            case "getHealthScale", "getMaxHealth" -> 20.0D;
+            case "getGameMode" -> alive ? GameMode.SURVIVAL : GameMode.SPECTATOR;
+            case "showTitle", "sendTitle", "sendTitlePart" -> {
+                titlesShown++;
+                yield null;
+            }
+            case "sendMessage", "sendRichMessage", "sendActionBar", "sendPlainMessage" -> {
+                messagesReceived++;
+                yield null;
+            }
+            default -> null;
+        };
+    }
+
+}
@@ -0,0 +1,183 @@
+package dev.royalcore.simulation;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.damage.DamageSource;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+import org.bukkit.plugin.PluginManager;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * An in-process stand-in for a Paper server: one {@link SimulatedWorld}, a set of {@link SimulatedPlayer}s,
+ * a {@link TickScheduler} and an {@link EventBus}.
+ * <p>
+ * Once {@link #install() installed}, the static {@link Bukkit} accessors RoyaleCore uses resolve to this
+ * server. Calls the simulation does not model return neutral defaults.
+ */
+final class SimulatedServer {
+
+    /**
+     * A damage source without a causing entity or location, for simulated deaths and damage.
+     */
+    static final DamageSource DAMAGE = Proxies.create(DamageSource.class, (_, _) -> null);
+
+    private static final Logger LOGGER = Logger.getLogger("RoyaleCoreSimulation");
+
+    private final SimulatedWorld world;
+    private final TickScheduler scheduler = new TickScheduler();
+    private final EventBus events = new EventBus();
+    private final Map<UUID, SimulatedPlayer> players = new HashMap<>();
+    private final List<Player> online = new ArrayList<>();
+    private final Server server = Proxies.create(Server.class, this::answer);
+    private final PluginManager pluginManager = Proxies.create(PluginManager.class, this::answerPluginManager);
+    private final BlockData blockData = Proxies.create(BlockData.class, (_, _) -> null);
+
+    /**
+     * Creates a server around a world.
+     *
+     * @param world the only world of the server
+     */
+    SimulatedServer(SimulatedWorld world) {
+        this.world = world;
+    }
+
+    /**
+     * Makes this the server returned by {@link Bukkit#getServer()}.
+     * <p>
+     * The field is set reflectively because {@link Bukkit#setServer(Server)} looks up build information that
+     * only a real server jar provides. A JVM can only host one simulated server.
+     */
+    void install() {
+        try {
+            Field field = Bukkit.class.getDeclaredField("server");
+            field.setAccessible(true);
+            if (field.get(null) != null) {
+                throw new IllegalStateException("A server is already installed");
+            }
+            field.set(null, server);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not install the simulated server", e);
+        }
+    }
+
+    /**
+     * Connects a new player standing at the world spawn.
+     *
+     * @param name the player name
+     * @return the player
+     */
+    SimulatedPlayer join(String name) {
+        return join(UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)), name);
+    }
+
+    /**
+     * Connects a player standing at the world spawn, reconnecting them if they were seen before.
+     *
+     * @param id   the player's UUID
+     * @param name the player name
+     * @return the player
+     */
+    SimulatedPlayer join(UUID id, String name) {
+        SimulatedPlayer player = players.computeIfAbsent(id, _ -> new SimulatedPlayer(id, name, world.surface(0, 0)));
+        if (!online.contains(player.asPlayer())) {
+            player.connect();
+            online.add(player.asPlayer());
+        }
+        return player;
+    }
+
+    /**
+     * Disconnects a player.
+     *
+     * @param player the player to disconnect
+     */
+    void quit(SimulatedPlayer player) {
+        player.disconnect();
+        online.remove(player.asPlayer());
+    }
+
+    void register(Listener listener) {
+        events.register(listener);
+    }
+
+    <E extends Event> E call(E event) {
+        return events.call(event);
+    }
+
+    SimulatedWorld world() {
+        return world;
+    }
+
+    TickScheduler scheduler() {
+        return scheduler;
+    }
+
+    EventBus events() {
+        return events;
+    }
+
+    List<SimulatedPlayer> players() {
+        return List.copyOf(players.values());
+    }
+
+    private Object answer(Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "getName" -> "RoyaleCoreSimulation";
+            case "getVersion", "getBukkitVersion", "getMinecraftVersion" -> "simulation";
+            case "getLogger" -> LOGGER;
+            case "getWorlds" -> List.of(world.asWorld());
+            case "getWorld" -> args[0] instanceof String name && name.equals(world.asWorld().getName()) ? world.asWorld() : null;
+            case "getOnlinePlayers" -> Collections.unmodifiableList(online);
+            case "getMaxPlayers" -> players.size();
+            case "getPlayer", "getPlayerExact" -> {
+                if (args[0] instanceof UUID id) {
+                    SimulatedPlayer player = players.get(id);
+                    yield player == null || !player.isOnline() ? null : player.asPlayer();
+                }
+                yield online.stream().filter(player -> player.getName().equals(args[0])).findFirst().orElse(null);
+            }
+            case "getScheduler" -> scheduler.asScheduler();
+            case "getPluginManager" -> pluginManager;
+            case "isPrimaryThread" -> true;
+            case "getCurrentTick" -> (int) scheduler.currentTick();
+            case "createBlockData" -> blockData;
+            default -> null;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object answerPluginManager(Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "registerEvents" -> {
+                events.register((Listener) args[0]);
+                yield null;
+            }
+            case "registerEvent" -> {
+                events.register((Class<? extends Event>) args[0], (Listener) args[1], (EventPriority) args[2],
+                        (EventExecutor) args[3], args.length > 5 && (boolean) args[5]);
+                yield null;
+            }
+            case "callEvent" -> {
+                events.call((Event) args[0]);
+                yield null;
+            }
+            default -> null;
+        };
+    }
+
+}
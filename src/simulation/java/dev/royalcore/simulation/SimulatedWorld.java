@@ -0,0 +1,158 @@
+package dev.royalcore.simulation;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.WorldBorder;
+import org.bukkit.block.Block;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * A square world whose terrain is a synthetic heightmap and whose blocks above the ground are all air.
+ * <p>
+ * Terrain is made of terraces a few blocks apart with some noise on top, so structure searches find both
+ * flat and uneven spots. Outside the generated square the ground is flat at {@link #SEA_LEVEL}.
+ */
+final class SimulatedWorld {
+
+    static final int SEA_LEVEL = 63;
+
+    private final String name;
+    private final UUID uid;
+    private final int radius;
+    private final int size;
+    private final int[] heights;
+    private final World world;
+    private final WorldBorder border;
+
+    private long blocksSet;
+
+    /**
+     * Generates a world.
+     *
+     * @param name   the world name
+     * @param radius half the side length of the generated square
+     * @param seed   seed for the terrain noise
+     */
+    SimulatedWorld(String name, int radius, long seed) {
+        this.name = name;
+        this.uid = UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+        this.radius = radius;
+        this.size = radius * 2 + 1;
+        this.heights = new int[size * size];
+
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int x = 0; x < size; x++) {
+            for (int z = 0; z < size; z++) {
+                int terrace = ((x / 32) + (z / 32)) % 5;
+                int noise = random.nextInt(10) == 0 ? random.nextInt(3) : 0;
+                heights[x * size + z] = SEA_LEVEL + 1 + terrace * 3 + noise;
+            }
+        }
+
+        this.world = Proxies.create(World.class, this::answer);
+        this.border = Proxies.create(WorldBorder.class, this::answerBorder);
+    }
+
+    /**
+     * Returns the Bukkit view of this world.
+     *
+     * @return the world proxy
+     */
+    World asWorld() {
+        return world;
+    }
+
+    /**
+     * Returns the Y of the highest solid block of a column.
+     *
+     * @param x block X
+     * @param z block Z
+     * @return the ground height
+     */
+    int highestY(int x, int z) {
+        int ix = x + radius;
+        int iz = z + radius;
+        if (ix < 0 || iz < 0 || ix >= size || iz >= size) {
+            return SEA_LEVEL;
+        }
+        return heights[ix * size + iz];
+    }
+
+    /**
+     * Returns a location standing on the ground of a column.
+     *
+     * @param x block X
+     * @param z block Z
+     * @return the surface location
+     */
+    Location surface(int x, int z) {
+        return new Location(world, x + 0.5, highestY(x, z) + 1, z + 0.5);
+    }
+
+    /**
+     * Returns the number of blocks set through {@link Block#setBlockData}.
+     *
+     * @return the number of blocks set
+     */
+    long blocksSet() {
+        return blocksSet;
+    }
+
+    int radius() {
+        return radius;
+    }
+
+    private Object answer(Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "getName" -> name;
+            case "getUID" -> uid;
+            case "getMinHeight" -> -64;
+            case "getMaxHeight" -> 320;
+            case "getWorldBorder" -> border;
+            case "getSpawnLocation" -> surface(0, 0);
+            case "getHighestBlockYAt" -> args[0] instanceof Location location
+                    ? highestY(location.getBlockX(), location.getBlockZ())
+                    : highestY((int) args[0], (int) args[1]);
+            case "getHighestBlockAt" -> args[0] instanceof Location location
+                    ? block(location.getBlockX(), highestY(location.getBlockX(), location.getBlockZ()), location.getBlockZ())
+                    : block((int) args[0], highestY((int) args[0], (int) args[1]), (int) args[1]);
+            case "getBlockAt" -> args[0] instanceof Location location
+                    ? block(location.getBlockX(), location.getBlockY(), location.getBlockZ())
+                    : block((int) args[0], (int) args[1], (int) args[2]);
+            default -> null;
+        };
+    }
+
+    private Block block(int x, int y, int z) {
+        boolean air = y > highestY(x, z);
+        return Proxies.create(Block.class, (method, args) -> switch (method.getName()) {
+            case "getX" -> x;
+            case "getY" -> y;
+            case "getZ" -> z;
+            case "getWorld" -> world;
+            case "getLocation" -> new Location(world, x, y, z);
+            case "isEmpty" -> air;
+            case "getType" -> air ? Material.AIR : Material.STONE;
+            case "setBlockData", "setType" -> {
+                blocksSet++;
+                yield null;
+            }
+            default -> null;
+        });
+    }
+
+    private Object answerBorder(Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "getSize" -> (double) size;
+            case "getCenter" -> new Location(world, 0, 0, 0);
+            case "getWorld" -> world;
+            default -> null;
+        };
+    }
+
+}
@@ -0,0 +1,170 @@
+package dev.royalcore.simulation;
+
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * A single-threaded stand-in for the Bukkit scheduler, driven one tick at a time by the simulation.
+ * <p>
+ * Every task runs on the simulation thread, including tasks submitted as asynchronous. Like Bukkit, a task
+ * scheduled with no delay runs on the next tick, and repeating tasks run at least once per tick.
+ */
+final class TickScheduler {
+
+    private final PriorityQueue<Task> queue = new PriorityQueue<>(
+            Comparator.comparingLong(Task::due).thenComparingInt(Task::id)
+    );
+    private final BukkitScheduler scheduler = Proxies.create(BukkitScheduler.class, this::answer);
+
+    private long tick;
+    private int nextId = 1;
+    private long tasksRun;
+
+    BukkitScheduler asScheduler() {
+        return scheduler;
+    }
+
+    long currentTick() {
+        return tick;
+    }
+
+    long tasksRun() {
+        return tasksRun;
+    }
+
+    int pending() {
+        return queue.size();
+    }
+
+    /**
+     * Runs every task due in the current tick, then advances to the next tick.
+     *
+     * @return the number of tasks run
+     */
+    int tick() {
+        int run = 0;
+        while (!queue.isEmpty() && queue.peek().due() <= tick) {
+            Task task = queue.poll();
+            if (task.cancelled) {
+                continue;
+            }
+            task.body.run();
+            run++;
+            if (task.period > 0 && !task.cancelled) {
+                task.due = tick + task.period;
+                queue.add(task);
+            }
+        }
+        tasksRun += run;
+        tick++;
+        return run;
+    }
+
+    /**
+     * Schedules a task.
+     *
+     * @param body   the work to run
+     * @param delay  ticks until the first run; anything below one means the next tick
+     * @param period ticks between runs, or zero or less to run once
+     * @return the scheduled task
+     */
+    Task schedule(Runnable body, long delay, long period) {
+        Task task = new Task(nextId++, body, tick + Math.max(1L, delay), period <= 0 ? 0L : Math.max(1L, period));
+        queue.add(task);
+        return task;
+    }
+
+    private Object answer(Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "runTask", "runTaskAsynchronously" -> schedule(args, 0L, 0L);
+            case "runTaskLater", "runTaskLaterAsynchronously" -> schedule(args, (long) args[2], 0L);
+            case "runTaskTimer", "runTaskTimerAsynchronously" -> schedule(args, (long) args[2], (long) args[3]);
+            case "scheduleSyncDelayedTask" -> schedule(args, args.length > 2 ? (long) args[2] : 0L, 0L).id();
+            case "scheduleSyncRepeatingTask" -> schedule(args, (long) args[2], (long) args[3]).id();
+            case "getMainThreadExecutor" -> (Executor) command -> schedule(command, 0L, 0L);
+            case "cancelTask" -> {
+                int id = (int) args[0];
+                queue.stream().filter(task -> task.id() == id).forEach(Task::cancel);
+                yield null;
+            }
+            case "isCurrentlyRunning", "isQueued" -> queue.stream().anyMatch(task -> task.id() == (int) args[0]);
+            default -> null;
+        };
+    }
+
+    /**
+     * Schedules the body found in Bukkit scheduler arguments, which is either a {@link Runnable} or a
+     * {@link Consumer} of the task itself.
+     *
+     * @param args   the scheduler call's arguments, starting with the plugin and the body
+     * @param delay  ticks until the first run
+     * @param period ticks between runs, or zero to run once
+     * @return the scheduled task
+     */
+    @SuppressWarnings("unchecked")
+    private Object schedule(Object[] args, long delay, long period) {
+        Object body = args[1];
+        if (body instanceof Runnable runnable) {
+            return schedule(runnable, delay, period).asBukkitTask();
+        }
+        Task[] self = new Task[1];
+        self[0] = schedule(() -> ((Consumer<BukkitTask>) body).accept(self[0].asBukkitTask()), delay, period);
+        return self[0].asBukkitTask();
+    }
+
+    /**
+     * A scheduled task.
+     */
+    static final class Task {
+
+        private final int id;
+        private final Runnable body;
+        private final long period;
+        private long due;
+        private boolean cancelled;
+        private BukkitTask bukkitTask;
+
+        private Task(int id, Runnable body, long due, long period) {
+            this.id = id;
+            this.body = body;
+            this.due = due;
+            this.period = period;
+        }
+
+        int id() {
+            return id;
+        }
+
+        long due() {
+            return due;
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+
+        BukkitTask asBukkitTask() {
+            if (bukkitTask == null) {
+                bukkitTask = Proxies.create(BukkitTask.class, (method, _) -> switch (method.getName()) {
+                    case "getTaskId" -> id;
+                    case "isSync" -> true;
+                    case "isCancelled" -> cancelled;
+                    case "cancel" -> {
+                        cancelled = true;
+                        yield null;
+                    }
+                    default -> null;
+                });
+            }
+            return bukkitTask;
+        }
+
+    }
+
+}